@@ -4,6 +4,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import kr.hyfata.rest.api.auth.dto.*;
 import kr.hyfata.rest.api.auth.service.AuthService;
+import kr.hyfata.rest.api.auth.service.RefreshCoalescer;
+import kr.hyfata.rest.api.common.exception.CryptoCapacityExceededException;
+import kr.hyfata.rest.api.common.exception.RefreshInProgressException;
 import kr.hyfata.rest.api.common.security.scope.RequireScope;
 import kr.hyfata.rest.api.common.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +27,7 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final RefreshCoalescer refreshCoalescer;
     private final JwtUtil jwtUtil;
 
     /**
@@ -37,6 +41,8 @@ public class AuthController {
             Map<String, String> response = new HashMap<>();
             response.put("message", "회원가입이 완료되었습니다. 이메일을 확인하여 계정을 인증해 주세요.");
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (CryptoCapacityExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Registration error: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -69,6 +75,8 @@ public class AuthController {
                     .header("Deprecation", "true")
                     .header("Link", "</oauth/authorize>; rel=\"successor-version\"")
                     .body(response);
+        } catch (CryptoCapacityExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Login error: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -118,7 +126,9 @@ public class AuthController {
             HttpServletResponse httpResponse
     ) {
         try {
-            AuthResponse response = authService.refreshToken(request, httpRequest);
+            // 같은 Refresh Token의 동시 갱신은 한 번만 로테이션하고 같은 토큰 쌍 반환
+            AuthResponse response = refreshCoalescer.coalesce(request.getRefreshToken(), null,
+                    AuthResponse.class, () -> authService.refreshToken(request, httpRequest));
             response.setDeprecationWarning("이 엔드포인트는 더 이상 사용되지 않습니다. 보안을 위해 OAuth 2.0 (/oauth/token, grant_type=refresh_token)을 사용하세요.");
 
             // 쿠키 갱신
@@ -127,6 +137,8 @@ public class AuthController {
             }
 
             return ResponseEntity.ok(response);
+        } catch (RefreshInProgressException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Token refresh error: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -201,6 +213,8 @@ public class AuthController {
             Map<String, String> response = new HashMap<>();
             response.put("message", "비밀번호가 성공적으로 변경되었습니다.");
             return ResponseEntity.ok(response);
+        } catch (CryptoCapacityExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Password reset error: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
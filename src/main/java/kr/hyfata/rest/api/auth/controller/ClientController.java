@@ -2,9 +2,14 @@ package kr.hyfata.rest.api.auth.controller;
 
 import kr.hyfata.rest.api.auth.dto.ClientRegistrationRequest;
 import kr.hyfata.rest.api.auth.dto.ClientResponse;
+import kr.hyfata.rest.api.auth.service.ClientPolicy;
+import kr.hyfata.rest.api.auth.service.ClientRegistry;
 import kr.hyfata.rest.api.auth.service.ClientService;
+import kr.hyfata.rest.api.common.exception.CryptoCapacityExceededException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -24,6 +29,7 @@ import java.util.Map;
 public class ClientController {
 
     private final ClientService clientService;
+    private final ClientRegistry clientRegistry;
 
     /**
      * 새로운 클라이언트 등록 (OAuth 앱 생성과 유사)
@@ -79,6 +85,8 @@ public class ClientController {
             Map<String, Object> error = new HashMap<>();
             error.put("error", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        } catch (CryptoCapacityExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Client registration error: {}", e.getMessage(), e);
             Map<String, Object> error = new HashMap<>();
@@ -90,21 +98,37 @@ public class ClientController {
     /**
      * 클라이언트 정보 조회
      * GET /api/clients/{clientId}
+     *
+     * 클라이언트 레지스트리의 컴파일된 응답과 ETag 사용
+     * If-None-Match가 현재 ETag와 같으면 본문 없이 304 Not Modified
      */
     @GetMapping("/{clientId}")
-    public ResponseEntity<Map<String, Object>> getClient(@PathVariable String clientId) {
+    public ResponseEntity<Map<String, Object>> getClient(
+            @PathVariable String clientId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            var clientOpt = clientService.getClient(clientId);
+            var policyOpt = clientRegistry.find(clientId);
 
-            if (clientOpt.isEmpty()) {
+            if (policyOpt.isEmpty()) {
                 Map<String, Object> error = new HashMap<>();
                 error.put("error", "Client not found");
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
             }
 
+            ClientPolicy policy = policyOpt.get();
+            if (matchesETag(ifNoneMatch, policy.getEtag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(policy.getEtag())
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+
             Map<String, Object> response = new HashMap<>();
-            response.put("client", clientOpt.get());
-            return ResponseEntity.ok(response);
+            response.put("client", policy.getResponse());
+            return ResponseEntity.ok()
+                    .eTag(policy.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .body(response);
 
         } catch (Exception e) {
             log.error("Error retrieving client {}: {}", clientId, e.getMessage(), e);
@@ -134,4 +158,23 @@ public class ClientController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
         }
     }
+
+    /**
+     * If-None-Match 비교 (쉼표로 구분된 목록, *, 약한 비교 W/ 허용)
+     */
+    private boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
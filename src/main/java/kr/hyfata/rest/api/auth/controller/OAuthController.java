@@ -6,14 +6,18 @@ import jakarta.servlet.http.HttpSession;
 import kr.hyfata.rest.api.auth.dto.OAuthTokenResponse;
 import kr.hyfata.rest.api.auth.dto.PasswordResetRequest;
 import kr.hyfata.rest.api.auth.dto.RegisterRequest;
-import kr.hyfata.rest.api.auth.entity.Client;
 import kr.hyfata.rest.api.auth.entity.User;
-import kr.hyfata.rest.api.auth.repository.UserRepository;
 import kr.hyfata.rest.api.auth.service.AuthService;
+import kr.hyfata.rest.api.auth.service.ClientPolicy;
 import kr.hyfata.rest.api.auth.service.ClientService;
 import kr.hyfata.rest.api.auth.service.OAuthService;
+import kr.hyfata.rest.api.auth.service.RefreshCoalescer;
+import kr.hyfata.rest.api.auth.service.UserCacheService;
+import kr.hyfata.rest.api.common.exception.CryptoCapacityExceededException;
+import kr.hyfata.rest.api.common.exception.RefreshInProgressException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -47,9 +51,10 @@ import java.util.UUID;
 public class OAuthController {
 
     private final OAuthService oAuthService;
+    private final RefreshCoalescer refreshCoalescer;
     private final ClientService clientService;
     private final AuthService authService;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
     private final AuthenticationManager authenticationManager;
 
     /**
@@ -79,7 +84,7 @@ public class OAuthController {
                 return "oauth/error";
             }
 
-            Client client = clientOpt.get();
+            ClientPolicy client = clientOpt.get();
 
             // Redirect URI 검증
             if (!oAuthService.validateRedirectUri(client_id, redirect_uri)) {
@@ -202,9 +207,10 @@ public class OAuthController {
                     email
             );
 
-            // 4. 사용자 정보 조회
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new Exception("사용자를 찾을 수 없습니다."));
+            // 4. 사용자 정보 (인증 시 DB에서 조회한 주체, 노드 로컬 캐시 미사용)
+            if (!(authentication.getPrincipal() instanceof User user)) {
+                throw new Exception("사용자를 찾을 수 없습니다.");
+            }
 
             // 5. 사용자 상태 확인
             if (!user.isEnabled()) {
@@ -231,6 +237,21 @@ public class OAuthController {
             log.info("User logged in and authorized: email={}, client_id={}", email, client_id);
             return "redirect:" + redirectUrl;
 
+        } catch (CryptoCapacityExceededException e) {
+            log.warn("Login rejected: {}", e.getMessage());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+            model.addAttribute("error", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+            model.addAttribute("email", email);
+            model.addAttribute("client_id", client_id);
+            model.addAttribute("client_name", clientService.validateClient(client_id)
+                    .map(c -> c.getName()).orElse(client_id));
+            model.addAttribute("redirect_uri", redirect_uri);
+            model.addAttribute("state", state);
+            model.addAttribute("scope", scope);
+            model.addAttribute("code_challenge", code_challenge);
+            model.addAttribute("code_challenge_method", code_challenge_method);
+            return "oauth/login";
         } catch (BadCredentialsException e) {
             log.warn("Login error: {}", e.getMessage());
             model.addAttribute("error", "이메일 또는 비밀번호가 올바르지 않습니다.");
@@ -303,8 +324,10 @@ public class OAuthController {
                     throw new BadCredentialsException("리프레시 토큰이 필요합니다.");
                 }
 
-                tokenResponse = oAuthService.refreshAccessToken(
-                        refresh_token, client_id, client_secret, request);
+                // 같은 Refresh Token의 동시 갱신은 한 번만 로테이션하고 같은 토큰 쌍 반환
+                tokenResponse = refreshCoalescer.coalesce(refresh_token, client_id + '\n' + client_secret,
+                        OAuthTokenResponse.class,
+                        () -> oAuthService.refreshAccessToken(refresh_token, client_id, client_secret, request));
                 log.info("Token refreshed: client_id={}", client_id);
 
             } else {
@@ -320,6 +343,22 @@ public class OAuthController {
 
             return ResponseEntity.ok(response);
 
+        } catch (CryptoCapacityExceededException e) {
+            log.warn("Token request rejected: {}", e.getMessage());
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "temporarily_unavailable");
+            error.put("error_description", "Server is busy, retry later");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(error);
+        } catch (RefreshInProgressException e) {
+            log.warn("Token request rejected: {}", e.getMessage());
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "temporarily_unavailable");
+            error.put("error_description", "Refresh already in progress, retry shortly");
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(error);
         } catch (BadCredentialsException e) {
             log.warn("Token error: {}", e.getMessage());
             Map<String, Object> error = new HashMap<>();
@@ -616,7 +655,7 @@ public class OAuthController {
      * 클라이언트의 allowedScopes 대비 요청 scope 검증
      * @return 유효하면 정규화된 scope 문자열, 무효하면 null
      */
-    private String validateScopes(Client client, String requestedScope) {
+    private String validateScopes(ClientPolicy client, String requestedScope) {
         if (requestedScope == null || requestedScope.isBlank()) {
             return String.join(" ", client.getDefaultScopesSet());
         }
@@ -642,7 +681,7 @@ public class OAuthController {
         if (authentication != null && authentication.isAuthenticated()
                 && authentication.getPrincipal() instanceof UserDetails) {
             String email = authentication.getName();
-            return userRepository.findByEmail(email).orElse(null);
+            return userCacheService.findByEmail(email).orElse(null);
         }
         return null;
     }
@@ -3,6 +3,7 @@ package kr.hyfata.rest.api.auth.controller;
 import kr.hyfata.rest.api.auth.dto.PasswordResetRequest;
 import kr.hyfata.rest.api.auth.repository.UserRepository;
 import kr.hyfata.rest.api.auth.service.AuthService;
+import kr.hyfata.rest.api.common.exception.CryptoCapacityExceededException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -62,6 +63,10 @@ public class PasswordResetController {
             model.addAttribute("success", true);
             model.addAttribute("message", "비밀번호가 성공적으로 변경되었습니다.");
             log.info("Password reset successful via browser page");
+        } catch (CryptoCapacityExceededException e) {
+            log.warn("Reset password rejected: {}", e.getMessage());
+            model.addAttribute("success", false);
+            model.addAttribute("message", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
         } catch (Exception e) {
             log.warn("Reset password error: {}", e.getMessage());
             model.addAttribute("success", false);
@@ -5,22 +5,27 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Entity
 @Table(name = "user_sessions",
         indexes = {
                 @Index(name = "idx_user_sessions_user_id", columnList = "user_id"),
+                @Index(name = "idx_user_sessions_user_client", columnList = "user_id, client_id"),
                 @Index(name = "idx_user_sessions_last_active_at", columnList = "last_active_at"),
                 @Index(name = "idx_user_sessions_expires_at", columnList = "expires_at"),
-                @Index(name = "idx_user_sessions_is_revoked", columnList = "is_revoked")
+                @Index(name = "idx_user_sessions_is_revoked", columnList = "is_revoked"),
+                @Index(name = "idx_user_sessions_access_token_jti", columnList = "access_token_jti")
         })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class UserSession {
+public class UserSession implements Persistable<String> {
 
     @Id
     @Column(name = "refresh_token_hash", length = 64)
@@ -30,9 +35,15 @@ public class UserSession {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    @Column(name = "client_id", length = 100)
+    private String clientId;  // 세션을 생성한 OAuth 클라이언트 (직접 로그인은 null)
+
     @Column(name = "access_token_jti", length = 64)
     private String accessTokenJti;
 
+    @Column(name = "access_token_expires_at")
+    private LocalDateTime accessTokenExpiresAt;  // 현재 Access Token의 exp (블랙리스트 TTL 계산용)
+
     @Column(name = "device_type", length = 50)
     private String deviceType;
 
@@ -70,6 +81,29 @@ public class UserSession {
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    /**
+     * DB에 저장된(또는 DB에서 읽은) 엔티티인지 여부
+     * ID(refresh token 해시)를 직접 할당하므로 새 세션 save 시 merge의 사전 SELECT를 피하기 위해 사용
+     */
+    @Transient
+    private transient boolean persisted;
+
+    @Override
+    public String getId() {
+        return refreshTokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
     /**
      * 세션이 유효한지 확인
      */
@@ -84,6 +118,18 @@ public class UserSession {
         this.lastActiveAt = LocalDateTime.now();
     }
 
+    /**
+     * 현재 Access Token의 만료 시각
+     * 컬럼 추가 이전에 생성된 세션은 lastActiveAt(발급 시각) + 기본 수명으로 추정
+     * @param accessTokenTtlMillis Access Token 수명 (밀리초)
+     */
+    public Instant accessTokenExpiry(long accessTokenTtlMillis) {
+        LocalDateTime expiry = accessTokenExpiresAt != null
+                ? accessTokenExpiresAt
+                : lastActiveAt.plusNanos(accessTokenTtlMillis * 1_000_000L);
+        return expiry.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
     /**
      * 세션 무효화
      */
@@ -2,6 +2,9 @@ package kr.hyfata.rest.api.auth.repository;
 
 import kr.hyfata.rest.api.auth.entity.AuthorizationCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -12,4 +15,12 @@ public interface AuthorizationCodeRepository extends JpaRepository<Authorization
     Optional<AuthorizationCode> findByCode(String code);
     Optional<AuthorizationCode> findByCodeAndClientId(String code, String clientId);
     void deleteByExpiresAtBefore(LocalDateTime dateTime);  // 만료된 코드 정리
+
+    /**
+     * 미사용 코드를 사용 처리 (동시 교환 시 한 요청만 1 반환)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AuthorizationCode a SET a.used = true " +
+            "WHERE a.code = :code AND a.clientId = :clientId AND a.used = false")
+    int markUsed(@Param("code") String code, @Param("clientId") String clientId);
 }
@@ -1,7 +1,12 @@
 package kr.hyfata.rest.api.auth.repository;
 
 import kr.hyfata.rest.api.auth.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +19,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmailVerificationToken(String token);
     boolean existsByEmail(String email);
     boolean existsByUsername(String username);
+
+    /**
+     * 사용자 행 잠금 (같은 사용자의 동시 로그인 직렬화용, 트랜잭션 종료 시 해제)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> lockById(@Param("id") Long id);
+
+    /**
+     * 비밀번호 해시 교체 (로그인 성공 시 다시 해싱)
+     * 검증에 사용한 해시가 아직 저장되어 있을 때만 교체 (그 사이 비밀번호가 변경/재설정되었으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email AND u.password = :verifiedPassword")
+    int updatePassword(@Param("email") String email,
+                       @Param("verifiedPassword") String verifiedPassword,
+                       @Param("password") String password);
 }
\ No newline at end of file
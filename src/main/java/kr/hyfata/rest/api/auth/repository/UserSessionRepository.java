@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,11 +48,47 @@ public interface UserSessionRepository extends JpaRepository<UserSession, String
             @Param("now") LocalDateTime now
     );
 
+    /**
+     * 특정 클라이언트로 생성된 사용자의 가장 오래된 활성 세션 조회 (클라이언트별 세션 제한용)
+     */
+    @Query("SELECT s FROM UserSession s WHERE s.user = :user AND s.clientId = :clientId " +
+            "AND s.isRevoked = false AND s.expiresAt > :now " +
+            "ORDER BY s.createdAt ASC")
+    List<UserSession> findOldestActiveSessionsByUserAndClientId(
+            @Param("user") User user,
+            @Param("clientId") String clientId,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 클라이언트 없이(직접 로그인) 생성된 사용자의 가장 오래된 활성 세션 조회
+     */
+    @Query("SELECT s FROM UserSession s WHERE s.user = :user AND s.clientId IS NULL " +
+            "AND s.isRevoked = false AND s.expiresAt > :now " +
+            "ORDER BY s.createdAt ASC")
+    List<UserSession> findOldestActiveFirstPartySessionsByUser(
+            @Param("user") User user,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 사용자의 활성 세션이 있는 클라이언트 ID 목록
+     */
+    @Query("SELECT DISTINCT s.clientId FROM UserSession s WHERE s.user = :user " +
+            "AND s.isRevoked = false AND s.clientId IS NOT NULL")
+    List<String> findActiveClientIdsByUser(@Param("user") User user);
+
     /**
      * Refresh Token 해시로 세션 조회
      */
     Optional<UserSession> findByRefreshTokenHash(String refreshTokenHash);
 
+    /**
+     * Refresh Token 해시로 세션과 사용자를 함께 조회 (토큰 갱신용, SELECT 1회)
+     */
+    @Query("SELECT s FROM UserSession s JOIN FETCH s.user WHERE s.refreshTokenHash = :sessionHash")
+    Optional<UserSession> findWithUserByRefreshTokenHash(@Param("sessionHash") String sessionHash);
+
     /**
      * Access Token JTI로 세션 조회
      */
@@ -75,6 +112,27 @@ public interface UserSessionRepository extends JpaRepository<UserSession, String
             @Param("currentSessionHash") String currentSessionHash
     );
 
+    /**
+     * 여러 세션을 한 번에 무효화 (동시 세션 제한 초과분)
+     */
+    @Modifying
+    @Query("UPDATE UserSession s SET s.isRevoked = true " +
+            "WHERE s.refreshTokenHash IN :sessionHashes AND s.isRevoked = false")
+    int revokeByRefreshTokenHashes(@Param("sessionHashes") Collection<String> sessionHashes);
+
+    /**
+     * 세션의 Access Token 정보와 활동 시각 갱신 (UPDATE 1회)
+     */
+    @Modifying
+    @Query("UPDATE UserSession s SET s.accessTokenJti = :jti, s.accessTokenExpiresAt = :accessTokenExpiresAt, " +
+            "s.lastActiveAt = :lastActiveAt WHERE s.refreshTokenHash = :sessionHash")
+    int updateAccessToken(
+            @Param("sessionHash") String sessionHash,
+            @Param("jti") String jti,
+            @Param("accessTokenExpiresAt") LocalDateTime accessTokenExpiresAt,
+            @Param("lastActiveAt") LocalDateTime lastActiveAt
+    );
+
     /**
      * 만료된 세션 삭제 (배치 작업용)
      */
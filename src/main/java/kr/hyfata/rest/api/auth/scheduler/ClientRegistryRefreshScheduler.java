@@ -0,0 +1,41 @@
+package kr.hyfata.rest.api.auth.scheduler;
+
+import kr.hyfata.rest.api.auth.service.ClientRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트 레지스트리 적재
+ * 기동 완료 시(ClientSecretEncryptionInitializer 이후) 전체 적재, 이후 다른 노드의 변경을 반영하기 위해 주기적으로 재적재
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClientRegistryRefreshScheduler {
+
+    private final ClientRegistry clientRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        refresh();
+    }
+
+    /**
+     * 클라이언트 레지스트리 재적재
+     * 기본 1분마다 실행
+     */
+    @Scheduled(fixedDelayString = "${oauth.client-registry.refresh-interval-ms:60000}",
+            initialDelayString = "${oauth.client-registry.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            int loaded = clientRegistry.reload();
+            log.debug("Client registry reloaded: {} clients", loaded);
+        } catch (Exception e) {
+            log.error("Error reloading client registry: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package kr.hyfata.rest.api.auth.scheduler;
+
+import kr.hyfata.rest.api.common.util.GeoIpService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * GeoLite2 DB 파일 교체 감지 및 재적재
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GeoIpReloadScheduler {
+
+    private final GeoIpService geoIpService;
+
+    /**
+     * DB 파일 변경 확인
+     * 기본 1분마다 실행 (변경이 없으면 파일 정보 확인만 수행)
+     */
+    @Scheduled(fixedDelayString = "${geoip.reload.interval-ms:60000}",
+            initialDelayString = "${geoip.reload.interval-ms:60000}")
+    public void reload() {
+        try {
+            geoIpService.reloadIfChanged();
+        } catch (Exception e) {
+            log.error("Error reloading GeoIP database: {}", e.getMessage());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package kr.hyfata.rest.api.auth.scheduler;
 import kr.hyfata.rest.api.auth.repository.AuthorizationCodeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,9 +12,10 @@ import java.time.LocalDateTime;
 
 /**
  * OAuth 만료된 Authorization Code 정리
- * 만료된 인증 코드를 정기적으로 삭제
+ * 만료된 인증 코드를 정기적으로 삭제 (oauth.code-store=jpa일 때만 사용, Redis 저장소는 TTL로 만료)
  */
 @Component
+@ConditionalOnProperty(name = "oauth.code-store", havingValue = "jpa")
 @RequiredArgsConstructor
 @Slf4j
 public class OAuthCleanupScheduler {
@@ -0,0 +1,127 @@
+package kr.hyfata.rest.api.auth.scheduler;
+
+import kr.hyfata.rest.api.auth.service.RevocationEpochService;
+import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 토큰 무효화 집합 동기화
+ * 기동 시 Redis에서 전체 적재, 이후 pub/sub 유실 대비 주기적 재동기화 및 만료 항목 정리
+ * Redis 장애 중 저널에 기록된 무효화는 주기적으로 재전송
+ * 무효화 채널 구독은 기동을 막지 않도록 여기서 시작하고, 실패하면 백오프하며 재시도
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevocationSyncScheduler {
+
+    private static final long MAX_SUBSCRIBE_BACKOFF_MILLIS = 60_000;
+
+    private final TokenBlacklistService tokenBlacklistService;
+    private final RevocationEpochService revocationEpochService;
+    private final RedisMessageListenerContainer revocationListenerContainer;
+
+    @Value("${security.revocation.subscribe-retry-ms:5000}")
+    private long subscribeRetryMillis;
+
+    private long subscribeBackoffMillis;
+    private long nextSubscribeAttemptAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        subscribe();
+        replayJournal();
+        resync();
+    }
+
+    /**
+     * 무효화 채널 구독 유지
+     * 구독되지 않았으면 다시 시작 (실패할 때마다 대기 시간을 최대 1분까지 2배로 늘림)
+     * 구독이 끊긴 동안의 메시지는 받지 못했으므로 다시 구독하면 Redis에서 재동기화
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.subscribe-retry-ms:5000}",
+            initialDelayString = "${security.revocation.subscribe-retry-ms:5000}")
+    public void ensureSubscribed() {
+        if (revocationListenerContainer.isListening() || System.currentTimeMillis() < nextSubscribeAttemptAt) {
+            return;
+        }
+        if (subscribe()) {
+            resync();
+        }
+    }
+
+    private boolean subscribe() {
+        try {
+            if (revocationListenerContainer.isRunning()) {
+                // 실패한 시작은 running 상태로 남으므로 멈춘 뒤 다시 시작
+                revocationListenerContainer.stop();
+            }
+            revocationListenerContainer.start();
+            subscribeBackoffMillis = 0;
+            nextSubscribeAttemptAt = 0;
+            log.info("Subscribed to revocation channels");
+            return true;
+        } catch (Exception e) {
+            subscribeBackoffMillis = subscribeBackoffMillis == 0
+                    ? subscribeRetryMillis
+                    : Math.min(subscribeBackoffMillis * 2, MAX_SUBSCRIBE_BACKOFF_MILLIS);
+            nextSubscribeAttemptAt = System.currentTimeMillis() + subscribeBackoffMillis;
+            log.warn("Failed to subscribe to revocation channels, retrying in {} ms: {}",
+                    subscribeBackoffMillis, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 저널에 남은 무효화 재전송
+     * 기본 5초마다 실행 (저널이 비어 있으면 파일 확인만 수행)
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.journal-replay-interval-ms:5000}")
+    public void replayJournal() {
+        try {
+            tokenBlacklistService.replayJournal();
+        } catch (Exception e) {
+            log.error("Error replaying revocation journal: {}", e.getMessage());
+        }
+        try {
+            revocationEpochService.replayJournal();
+        } catch (Exception e) {
+            log.error("Error replaying revocation epoch journal: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 블랙리스트 재동기화
+     * 기본 5분마다 실행
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.resync-interval-ms:300000}",
+            initialDelayString = "${security.revocation.resync-interval-ms:300000}")
+    public void resync() {
+        try {
+            int synced = tokenBlacklistService.syncFromRedis();
+            log.info("Revocation set synced from Redis: {} entries", synced);
+        } catch (Exception e) {
+            log.error("Error syncing revocation set from Redis: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 로컬 무효화 항목 정리
+     * 매 분마다 실행
+     */
+    @Scheduled(fixedRate = 60000)
+    public void purgeExpired() {
+        int purged = tokenBlacklistService.purgeExpired();
+        if (purged > 0) {
+            log.debug("Purged {} expired revocation entries ({} remaining)",
+                    purged, tokenBlacklistService.localRevocationCount());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package kr.hyfata.rest.api.auth.scheduler;
+
+import kr.hyfata.rest.api.auth.service.SessionActivityStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis에 모인 세션 활동 시각을 user_sessions에 주기적으로 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionActivityFlushScheduler {
+
+    private final SessionActivityStore sessionActivityStore;
+
+    /**
+     * 세션 활동 시각 배치 반영
+     * 기본 30초마다 실행
+     */
+    @Scheduled(fixedDelayString = "${session.activity.flush-interval-ms:30000}")
+    public void flush() {
+        try {
+            int flushed = sessionActivityStore.flushToDatabase();
+            if (flushed > 0) {
+                log.debug("Session activity flushed: {} sessions", flushed);
+            }
+        } catch (Exception e) {
+            log.error("Error flushing session activity: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package kr.hyfata.rest.api.auth.scheduler;
+
+import kr.hyfata.rest.api.auth.service.SessionAdmissionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 장애 중 DB 기반으로 처리한 세션 제한 범위를 복구 후 정리
+ * 해당 활성 세션 집합을 삭제해 다음 로그인 때 DB 기준으로 다시 채움
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionAdmissionReconcileScheduler {
+
+    private final SessionAdmissionService sessionAdmissionService;
+
+    /**
+     * 어긋난 활성 세션 집합 정리
+     * 기본 5초마다 실행 (정리할 범위가 없으면 Redis 호출 없음)
+     */
+    @Scheduled(fixedDelayString = "${session.admission.reconcile-interval-ms:5000}")
+    public void reconcile() {
+        try {
+            int cleared = sessionAdmissionService.clearStaleScopes();
+            if (cleared > 0) {
+                log.info("Cleared {} stale active session set(s) after Redis recovery", cleared);
+            }
+        } catch (Exception e) {
+            log.error("Error clearing stale active session sets: {}", e.getMessage());
+        }
+    }
+}
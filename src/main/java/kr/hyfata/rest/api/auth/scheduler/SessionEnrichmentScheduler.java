@@ -0,0 +1,34 @@
+package kr.hyfata.rest.api.auth.scheduler;
+
+import kr.hyfata.rest.api.auth.service.SessionEnrichmentQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기 중인 세션 기기/위치 보강 작업을 주기적으로 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionEnrichmentScheduler {
+
+    private final SessionEnrichmentQueue sessionEnrichmentQueue;
+
+    /**
+     * 세션 보강 배치 처리
+     * 기본 500ms마다 실행
+     */
+    @Scheduled(fixedDelayString = "${session.enrichment.interval-ms:500}")
+    public void drain() {
+        try {
+            int processed = sessionEnrichmentQueue.drain();
+            if (processed > 0) {
+                log.debug("Session enrichment applied: {} sessions", processed);
+            }
+        } catch (Exception e) {
+            log.error("Error applying session enrichment: {}", e.getMessage());
+        }
+    }
+}
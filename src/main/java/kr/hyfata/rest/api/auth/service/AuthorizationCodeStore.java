@@ -0,0 +1,29 @@
+package kr.hyfata.rest.api.auth.service;
+
+import kr.hyfata.rest.api.auth.entity.AuthorizationCode;
+
+import java.util.Optional;
+
+/**
+ * OAuth Authorization Code 저장소
+ * oauth.code-store 설정으로 구현 선택 (redis: 기본, jpa: authorization_codes 테이블)
+ */
+public interface AuthorizationCodeStore {
+
+    /**
+     * 발급된 코드 저장 (expiresAt까지 유효)
+     */
+    void save(AuthorizationCode authorizationCode);
+
+    /**
+     * 코드를 원자적으로 사용 처리하고 반환
+     * 동시에 같은 코드로 교환을 시도해도 하나의 요청만 코드를 받음
+     * @return 사용 가능한 코드였으면 코드 정보, 없거나 이미 사용됐거나 다른 클라이언트의 코드면 empty
+     */
+    Optional<AuthorizationCode> consume(String code, String clientId);
+
+    /**
+     * 코드 조회 (사용 처리하지 않음)
+     */
+    Optional<AuthorizationCode> find(String code);
+}
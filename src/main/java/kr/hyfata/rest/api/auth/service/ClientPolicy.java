@@ -0,0 +1,109 @@
+package kr.hyfata.rest.api.auth.service;
+
+import kr.hyfata.rest.api.auth.dto.ClientResponse;
+import kr.hyfata.rest.api.auth.entity.Client;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 클라이언트 정책 (불변, ClientRegistry가 Client 엔티티로부터 컴파일)
+ * redirect URI 목록과 scope 목록을 미리 파싱해 두므로 요청마다 문자열을 다시 나누지 않음
+ */
+@Getter
+public class ClientPolicy {
+
+    private static final Set<String> FALLBACK_SCOPES = Collections.unmodifiableSet(new LinkedHashSet<>(List.of("profile", "email")));
+
+    private final Long id;
+    private final String clientId;
+    private final String clientSecret;
+    private final String name;
+    private final boolean enabled;
+    private final Integer maxTokensPerUser;
+    private final Set<String> redirectUris;
+    private final Set<String> defaultScopesSet;
+    private final Set<String> allowedScopesSet;
+    private final LocalDateTime updatedAt;
+
+    /**
+     * GET /api/clients/{clientId} 응답 (clientSecret 제외)
+     */
+    private final ClientResponse response;
+
+    /**
+     * response 내용 기반 ETag (따옴표 포함)
+     */
+    private final String etag;
+
+    ClientPolicy(Client client, ClientResponse response, String etag) {
+        this.id = client.getId();
+        this.clientId = client.getClientId();
+        this.clientSecret = client.getClientSecret();
+        this.name = client.getName();
+        this.enabled = Boolean.TRUE.equals(client.getEnabled());
+        this.maxTokensPerUser = client.getMaxTokensPerUser();
+        this.redirectUris = parseRedirectUris(client.getRedirectUris());
+        this.defaultScopesSet = parseScopes(client.getDefaultScopes());
+        this.allowedScopesSet = parseScopes(client.getAllowedScopes());
+        this.updatedAt = client.getUpdatedAt();
+        this.response = response;
+        this.etag = etag;
+    }
+
+    /**
+     * 등록된 redirect URI인지 확인 (앞뒤 공백 무시, 정확히 일치)
+     */
+    public boolean isRedirectUriAllowed(String redirectUri) {
+        return redirectUri != null && !redirectUri.isBlank() && redirectUris.contains(redirectUri.trim());
+    }
+
+    /**
+     * 세션 생성 등 Client 엔티티를 받는 API용 사본 (호출마다 새 객체, 영속 상태 아님)
+     */
+    public Client toClient() {
+        return Client.builder()
+                .id(id)
+                .clientId(clientId)
+                .clientSecret(clientSecret)
+                .name(name)
+                .enabled(enabled)
+                .maxTokensPerUser(maxTokensPerUser)
+                .redirectUris(String.join(",", redirectUris))
+                .defaultScopes(String.join(" ", defaultScopesSet))
+                .allowedScopes(String.join(" ", allowedScopesSet))
+                .build();
+    }
+
+    /**
+     * 쉼표로 구분된 redirect URI 목록 파싱 (각 항목 앞뒤 공백 제거)
+     */
+    private static Set<String> parseRedirectUris(String redirectUris) {
+        if (redirectUris == null) {
+            return Set.of();
+        }
+        return Arrays.stream(redirectUris.split(","))
+                .map(String::trim)
+                .filter(uri -> !uri.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 공백으로 구분된 scope 목록 파싱 (선언 순서 유지, 미설정 시 profile email)
+     */
+    private static Set<String> parseScopes(String scopes) {
+        if (scopes == null) {
+            return FALLBACK_SCOPES;
+        }
+        LinkedHashSet<String> parsed = Arrays.stream(scopes.split(" "))
+                .filter(scope -> !scope.isBlank())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return Collections.unmodifiableSet(parsed);
+    }
+}
@@ -0,0 +1,132 @@
+package kr.hyfata.rest.api.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hyfata.rest.api.auth.dto.ClientResponse;
+import kr.hyfata.rest.api.auth.entity.Client;
+import kr.hyfata.rest.api.auth.repository.ClientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 클라이언트 레지스트리
+ * OAuth 경로(authorize / token / refresh)와 클라이언트 조회 API가 clients 테이블 대신 컴파일된 ClientPolicy를 사용
+ * - 없는 clientId는 DB에서 조회 후 등록 (존재하지 않는 clientId는 저장하지 않음)
+ * - 이 노드에서 변경한 클라이언트는 update/evict로 즉시 반영
+ * - 다른 노드의 변경은 ClientRegistryRefreshScheduler의 주기적 전체 재적재로 반영 (oauth.client-registry.refresh-interval-ms)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClientRegistry {
+
+    private final ClientRepository clientRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, ClientPolicy> policies = new ConcurrentHashMap<>();
+
+    /**
+     * 클라이언트 정책 조회 (비활성화된 클라이언트 포함)
+     */
+    public Optional<ClientPolicy> find(String clientId) {
+        if (clientId == null || clientId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ClientPolicy policy = policies.get(clientId);
+        if (policy != null) {
+            return Optional.of(policy);
+        }
+
+        return clientRepository.findByClientId(clientId)
+                .map(this::update);
+    }
+
+    /**
+     * 변경된 클라이언트 반영
+     * @return 컴파일된 정책
+     */
+    public ClientPolicy update(Client client) {
+        ClientPolicy policy = compile(client);
+        policies.put(policy.getClientId(), policy);
+        return policy;
+    }
+
+    /**
+     * 클라이언트 정책 제거 (다음 조회 시 DB에서 다시 적재)
+     */
+    public void evict(String clientId) {
+        policies.remove(clientId);
+    }
+
+    /**
+     * 전체 재적재
+     * 이 노드에서 그 사이 반영한 더 최신 정책은 유지하고, DB에 없는 클라이언트는 제거
+     * @return 적재된 클라이언트 수
+     */
+    @Transactional(readOnly = true)
+    public int reload() {
+        List<Client> clients = clientRepository.findAll();
+        Map<String, ClientPolicy> loaded = new HashMap<>(clients.size());
+        for (Client client : clients) {
+            try {
+                loaded.put(client.getClientId(), compile(client));
+            } catch (Exception e) {
+                log.error("Failed to compile client {}: {}", client.getClientId(), e.getMessage());
+            }
+        }
+
+        loaded.values().forEach(policy -> policies.merge(policy.getClientId(), policy,
+                (current, fresh) -> isNewer(current, fresh) ? current : fresh));
+        policies.keySet().retainAll(loaded.keySet());
+        return loaded.size();
+    }
+
+    /**
+     * 적재된 클라이언트 수
+     */
+    public int size() {
+        return policies.size();
+    }
+
+    private ClientPolicy compile(Client client) {
+        ClientResponse response = ClientResponse.builder()
+                .id(client.getId())
+                .clientId(client.getClientId())
+                .name(client.getName())
+                .description(client.getDescription())
+                .frontendUrl(client.getFrontendUrl())
+                .redirectUris(List.of(client.getRedirectUris().split(",")))
+                .enabled(client.getEnabled())
+                .maxTokensPerUser(client.getMaxTokensPerUser())
+                .defaultScopes(client.getDefaultScopes())
+                .allowedScopes(client.getAllowedScopes())
+                .ownerId(client.getOwner() != null ? client.getOwner().getId() : null)
+                .createdAt(client.getCreatedAt())
+                .updatedAt(client.getUpdatedAt())
+                .build();
+
+        return new ClientPolicy(client, response, etag(response));
+    }
+
+    private String etag(ClientResponse response) {
+        try {
+            return "\"" + DigestUtils.sha256Hex(objectMapper.writeValueAsBytes(response)).substring(0, 32) + "\"";
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to compute client ETag", e);
+        }
+    }
+
+    private static boolean isNewer(ClientPolicy current, ClientPolicy fresh) {
+        return current.getUpdatedAt() != null && fresh.getUpdatedAt() != null
+                && current.getUpdatedAt().isAfter(fresh.getUpdatedAt());
+    }
+}
@@ -0,0 +1,116 @@
+package kr.hyfata.rest.api.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Confidential Client의 client_secret 검증 (검증 결과 캐시)
+ * client_secret은 서버가 생성한 고엔트로피 난수이므로, 한 번 BCrypt로 검증한 (clientId, secret) 쌍은
+ * 짧은 시간 동안 노드 로컬 캐시로 확인해 토큰 요청마다 BCrypt를 수행하지 않음
+ * - 캐시 키: HMAC-SHA256(프로세스 시작 시 생성한 난수 키, clientId + secret) (평문 secret은 보관하지 않음)
+ * - 캐시 값: 검증 당시의 저장된 해시 (secret이 교체되면 해시가 달라지므로 자동으로 무효)
+ * - 비활성화된 클라이언트는 캐시를 사용하지 않고 항목을 제거 (재활성화 시 다시 BCrypt 검증)
+ * - 실패한 검증은 저장하지 않음
+ */
+@Service
+@Slf4j
+public class ClientSecretVerifier {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final PasswordEncoder passwordEncoder;
+    private final Cache<String, String> verified;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac;
+
+    public ClientSecretVerifier(PasswordEncoder passwordEncoder, Duration ttl, long maxSize) {
+        this.passwordEncoder = passwordEncoder;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        this.key = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    @Autowired
+    public ClientSecretVerifier(
+            PasswordEncoder passwordEncoder,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${security.client-secret.cache-ttl-ms:300000}") long ttlMillis,
+            @Value("${security.client-secret.cache-max-size:10000}") long maxSize) {
+        this(passwordEncoder, Duration.ofMillis(ttlMillis), maxSize);
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, verified, "oauth.client-secret"));
+    }
+
+    /**
+     * client_secret 검증
+     * @return 일치하면 true
+     */
+    public boolean matches(ClientPolicy client, String clientSecret) {
+        if (clientSecret == null || clientSecret.isEmpty() || client.getClientSecret() == null) {
+            return false;
+        }
+
+        String cacheKey = cacheKey(client.getClientId(), clientSecret);
+        if (!client.isEnabled()) {
+            verified.invalidate(cacheKey);
+            return passwordEncoder.matches(clientSecret, client.getClientSecret());
+        }
+
+        if (client.getClientSecret().equals(verified.getIfPresent(cacheKey))) {
+            return true;
+        }
+
+        boolean matches = passwordEncoder.matches(clientSecret, client.getClientSecret());
+        if (matches) {
+            verified.put(cacheKey, client.getClientSecret());
+        }
+        return matches;
+    }
+
+    /**
+     * 캐시된 검증 결과 수
+     */
+    public long cachedCount() {
+        verified.cleanUp();
+        return verified.estimatedSize();
+    }
+
+    private String cacheKey(String clientId, String clientSecret) {
+        Mac hmac = mac.get();
+        hmac.update(clientId.getBytes(StandardCharsets.UTF_8));
+        hmac.update((byte) '\n');
+        return Base64.getEncoder().encodeToString(hmac.doFinal(clientSecret.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac hmac = Mac.getInstance(HMAC_ALGORITHM);
+            hmac.init(key);
+            return hmac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
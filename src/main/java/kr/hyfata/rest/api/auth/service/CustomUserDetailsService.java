@@ -2,20 +2,48 @@ package kr.hyfata.rest.api.auth.service;
 
 import kr.hyfata.rest.api.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
+    private final UserCacheService userCacheService;
     private final UserRepository userRepository;
 
+    /**
+     * 로그인(/oauth/login) 자격 증명 확인용 조회
+     * 비밀번호 변경/비활성화/삭제가 다른 노드에도 즉시 반영되도록 노드 로컬 캐시를 거치지 않고 DB에서 조회
+     */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그인 성공 시 저장된 해시가 현재 해시 설정보다 낮으면 AuthenticationManager가 호출 (/oauth/login)
+     * user는 방금 검증에 사용한 주체 - 그 해시가 아직 저장되어 있을 때만 교체하고, DB에서 다시 읽은 사용자를 반환
+     * (검증과 교체 사이에 비밀번호가 변경/재설정되었으면 새 비밀번호를 덮어쓰지 않음)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        String email = user.getUsername();
+        if (userRepository.updatePassword(email, user.getPassword(), newPassword) == 0) {
+            log.info("Password hash upgrade skipped, stored hash changed: {}", email);
+        } else {
+            userCacheService.evict(email);
+            log.info("Password hash upgraded: {}", email);
+        }
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+    }
+}
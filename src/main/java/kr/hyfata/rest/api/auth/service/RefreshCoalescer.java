@@ -0,0 +1,324 @@
+package kr.hyfata.rest.api.auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.hyfata.rest.api.common.exception.RefreshInProgressException;
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동시 토큰 갱신 병합 (single-flight)
+ * 액세스 토큰 만료 직후 앱이 같은 Refresh Token으로 여러 요청을 동시에 보내는 경우,
+ * 로테이션은 한 번만 수행하고 나머지 요청에는 같은 결과(새 토큰 쌍)를 반환
+ * - 노드 내: 진행 중인 갱신을 키별 CompletableFuture로 공유
+ * - 노드 간: Redis 락(SET NX PX)을 잡은 노드만 로테이션, 다른 노드는 Redis에 저장된 결과를 짧게(wait-ms) 대기
+ *   대기 시간 안에 결과가 없으면 409로 재시도 요청 (요청 스레드를 락 만료까지 붙잡지 않음)
+ * - 유예 시간(grace) 동안 같은 요청이 다시 오면 저장된 결과 반환
+ *
+ * 키 = SHA-256(refresh token + 클라이언트 자격 증명)이므로 같은 토큰과 자격 증명을 제시한 요청만 결과를 공유
+ * Redis에 공유하는 결과는 AES-GCM으로 암호화 (키 = HMAC-SHA256(서버 비밀 키, refresh token + 자격 증명))
+ * 서버 비밀 키와 원래 Refresh Token 없이는 Redis 값만으로 토큰 쌍을 복원할 수 없음
+ * 실패한 갱신은 저장하지 않음 (각 대기 요청에 같은 예외 전달)
+ * 호출은 트랜잭션 밖(컨트롤러)에서 해야 커밋된 결과만 공유됨
+ */
+@Service
+@Slf4j
+public class RefreshCoalescer {
+
+    private static final String LOCK_PREFIX = "refresh:lock:";
+    private static final String RESULT_PREFIX = "refresh:result:";
+    private static final String NO_LOCK = "";
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    /**
+     * 락 소유자일 때만 삭제
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+    private final Duration lockTimeout;
+    private final Duration gracePeriod;
+    private final long pollIntervalMillis;
+    private final long waitMillis;
+    private final HmacUtils resultKeyDerivation;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, String> recent;
+
+    public RefreshCoalescer(
+            StringRedisTemplate redisTemplate,
+            RedisCircuitBreaker circuitBreaker,
+            ObjectMapper objectMapper,
+            @Value("${security.refresh.lock-ms:5000}") long lockMillis,
+            @Value("${security.refresh.grace-ms:10000}") long graceMillis,
+            @Value("${security.refresh.poll-ms:50}") long pollIntervalMillis,
+            @Value("${security.refresh.wait-ms:300}") long waitMillis,
+            @Value("${security.refresh.result-secret:${jwt.secret}}") String resultSecret) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.objectMapper = objectMapper;
+        this.lockTimeout = Duration.ofMillis(lockMillis);
+        this.gracePeriod = Duration.ofMillis(graceMillis);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.waitMillis = Math.min(waitMillis, lockMillis);
+        this.resultKeyDerivation = new HmacUtils(HmacAlgorithms.HMAC_SHA_256,
+                resultSecret.getBytes(StandardCharsets.UTF_8));
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(gracePeriod)
+                .build();
+    }
+
+    /**
+     * 같은 Refresh Token의 동시 갱신을 하나로 병합
+     * @param refreshToken 갱신에 사용된 Refresh Token
+     * @param credentials  결과 공유 범위를 좁힐 클라이언트 자격 증명 (client_id, client_secret 등, 없으면 null)
+     * @param type         결과 타입 (JSON으로 저장/복원)
+     * @param rotation     실제 로테이션
+     * @return 로테이션 결과 (병합된 요청은 같은 토큰 쌍)
+     */
+    public <T> T coalesce(String refreshToken, String credentials, Class<T> type, Supplier<T> rotation) {
+        String material = refreshToken + '\n' + (credentials != null ? credentials : "");
+        String key = DigestUtils.sha256Hex(material);
+
+        String cached = recent.getIfPresent(key);
+        if (cached != null) {
+            log.debug("Refresh served from grace window");
+            return read(cached, type);
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            log.debug("Joining in-flight refresh");
+            return read(await(existing), type);
+        }
+
+        try {
+            SecretKey resultKey = new SecretKeySpec(resultKeyDerivation.hmac(material), "AES");
+            String result = rotateOnce(key, resultKey, () -> write(rotation.get()));
+            recent.put(key, result);
+            mine.complete(result);
+            return read(result, type);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 노드 간 병합: 저장된 결과 → 락 획득 후 로테이션 → (다른 노드가 진행 중이면) 결과 대기
+     * Redis를 사용할 수 없으면 노드 내 병합만 적용
+     */
+    private String rotateOnce(String key, SecretKey resultKey, Supplier<String> rotation) {
+        String stored = readResult(key, resultKey);
+        if (stored != null) {
+            return stored;
+        }
+
+        String owner = tryLock(key);
+        if (owner == null) {
+            String awaited = awaitResult(key, resultKey);
+            if (awaited != null) {
+                return awaited;
+            }
+            // 다른 노드의 갱신이 결과 없이 끝남 (실패/락 만료): 직접 시도 (이미 무효화된 세션이면 거부됨)
+            return rotation.get();
+        }
+
+        try {
+            String result = rotation.get();
+            storeResult(key, resultKey, result);
+            return result;
+        } finally {
+            releaseLock(key, owner);
+        }
+    }
+
+    /**
+     * @return 락 소유 토큰, 다른 노드가 보유 중이면 null, Redis 사용 불가 시 NO_LOCK
+     */
+    private String tryLock(String key) {
+        if (!circuitBreaker.allowRequest()) {
+            return NO_LOCK;
+        }
+
+        String owner = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + key, owner, lockTimeout);
+            circuitBreaker.recordSuccess();
+            return Boolean.TRUE.equals(acquired) ? owner : null;
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            log.error("Failed to acquire refresh lock: {}", e.getMessage());
+            return NO_LOCK;
+        }
+    }
+
+    private void releaseLock(String key, String owner) {
+        if (NO_LOCK.equals(owner)) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_PREFIX + key), owner);
+        } catch (Exception e) {
+            // 락은 lock-ms 후 자동 만료
+            log.error("Failed to release refresh lock: {}", e.getMessage());
+        }
+    }
+
+    private String readResult(String key, SecretKey resultKey) {
+        if (!circuitBreaker.allowRequest()) {
+            return null;
+        }
+
+        try {
+            String value = redisTemplate.opsForValue().get(RESULT_PREFIX + key);
+            circuitBreaker.recordSuccess();
+            return value != null ? decrypt(key, resultKey, value) : null;
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            log.error("Failed to read refresh result: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void storeResult(String key, SecretKey resultKey, String result) {
+        try {
+            redisTemplate.opsForValue().set(RESULT_PREFIX + key, encrypt(key, resultKey, result), gracePeriod);
+        } catch (Exception e) {
+            log.error("Failed to store refresh result: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 결과를 wait-ms까지 대기
+     * @return 저장된 결과, 락이 결과 없이 풀렸으면 null
+     * @throws RefreshInProgressException 대기 시간 안에 다른 노드의 갱신이 끝나지 않은 경우
+     */
+    private String awaitResult(String key, SecretKey resultKey) {
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RefreshInProgressException("Interrupted while waiting for refresh result", 1);
+            }
+
+            String result = readResult(key, resultKey);
+            if (result != null) {
+                return result;
+            }
+            if (!isLocked(key)) {
+                // 락이 풀렸는데 결과가 없으면 갱신 실패
+                return readResult(key, resultKey);
+            }
+        }
+        throw new RefreshInProgressException("Refresh already in progress on another node", 1);
+    }
+
+    private boolean isLocked(String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(LOCK_PREFIX + key));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * IV(12바이트) + 암호문을 Base64로 저장, 결과 키를 AAD로 묶어 다른 키로 옮긴 값은 거부
+     */
+    private String encrypt(String key, SecretKey resultKey, String plaintext) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_LENGTH];
+        secureRandom.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.ENCRYPT_MODE, resultKey, new GCMParameterSpec(TAG_BITS, iv));
+        cipher.updateAAD(key.getBytes(StandardCharsets.UTF_8));
+        byte[] ciphertext = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(
+                ByteBuffer.allocate(iv.length + ciphertext.length).put(iv).put(ciphertext).array());
+    }
+
+    /**
+     * @return 복호화 실패(변조, 다른 서버 키) 시 null - 저장된 결과가 없는 것으로 처리
+     */
+    private String decrypt(String key, SecretKey resultKey, String stored) {
+        try {
+            byte[] payload = Base64.getDecoder().decode(stored);
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, resultKey, new GCMParameterSpec(TAG_BITS, payload, 0, IV_LENGTH));
+            cipher.updateAAD(key.getBytes(StandardCharsets.UTF_8));
+            byte[] plaintext = cipher.doFinal(payload, IV_LENGTH, payload.length - IV_LENGTH);
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            log.warn("Discarding unreadable refresh result: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String await(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize refresh result", e);
+        }
+    }
+
+    private <T> T read(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize refresh result", e);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package kr.hyfata.rest.api.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 토큰 무효화 기준 시각(epoch) 서비스
+ * "이 시각 이전에 발급된 토큰은 모두 무효" 값을 사용자당 Redis 키 하나로 관리
+ * - 전체 로그아웃/비밀번호 재설정 시 세션 수와 무관하게 Redis 쓰기 1회
+ * - 인증 시 토큰의 발급 시각(iat_ms)을 밀리초 단위로 epoch와 비교 (프로세스 내 미러로 Redis 조회 최소화)
+ * - 키 TTL = Access Token 수명 (그 이후에는 이전 토큰이 모두 만료되므로 불필요)
+ *
+ * 개별 세션 무효화는 기존 JTI 블랙리스트(TokenBlacklistService) 사용
+ * Redis 조회/기록은 블랙리스트와 같은 서킷 브레이커 및 fail-mode 정책을 따름 (실패 결과는 미러에 저장하지 않음)
+ * 기록하지 못한 epoch는 RevocationJournal에 남겨 복구 후 재전송 (replayJournal)
+ */
+@Service
+@Slf4j
+public class RevocationEpochService implements MessageListener {
+
+    private static final String EPOCH_PREFIX = "token:revoke-epoch:";
+
+    /**
+     * epoch 전파 채널 (메시지 형식: <epoch millis>|<email>)
+     */
+    public static final String EPOCH_CHANNEL = "token:revocation:epoch";
+    private static final String EPOCH_ENTRY = "epoch";
+    private static final long NONE = 0L;
+
+    /**
+     * 이보다 작은 epoch는 초 단위로 기록된 값 (밀리초 단위로 바뀌기 전에 기록되어 아직 만료되지 않은 키/메시지)
+     */
+    private static final long MIN_EPOCH_MILLIS = 100_000_000_000L;
+
+    /**
+     * 저장된 epoch보다 클 때만 기록 (늦게 재전송된 epoch가 그 사이 설정된 epoch를 되돌리지 않도록)
+     * KEYS[1]: epoch 키, ARGV[1]: epoch, ARGV[2]: TTL (millis)
+     */
+    private static final RedisScript<Long> SET_MAX_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "if current < tonumber(ARGV[1]) then " +
+            "  redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RevocationJournal journal;
+    private final long accessTokenTtlSeconds;
+    private final boolean failClosed;
+    private final Cache<String, Long> mirror;
+
+    public RevocationEpochService(
+            StringRedisTemplate redisTemplate,
+            RedisCircuitBreaker circuitBreaker,
+            RevocationJournal journal,
+            @Value("${jwt.expiration:900000}") long jwtExpiration,
+            @Value("${security.revocation.epoch-mirror-ttl-seconds:10}") long mirrorTtlSeconds,
+            @Value("${security.revocation.epoch-mirror-max-size:100000}") long mirrorMaxSize,
+            @Value("${security.revocation.fail-mode:open}") String failMode) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.journal = journal;
+        this.accessTokenTtlSeconds = jwtExpiration / 1000;
+        this.failClosed = "closed".equalsIgnoreCase(failMode);
+        this.mirror = Caffeine.newBuilder()
+                .maximumSize(mirrorMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(mirrorTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 사용자의 현재까지 발급된 모든 토큰 무효화
+     * 밀리초 단위로 비교하므로 무효화 직후(다음 밀리초부터) 다시 로그인해 발급된 토큰은 유효
+     * 같은 밀리초에 발급된 토큰은 무효화 이전 토큰으로 간주
+     * @return 설정된 epoch (epoch millis)
+     */
+    public long revokeAllIssuedBefore(String email) {
+        long epoch = System.currentTimeMillis() + 1;
+        mirror.asMap().merge(email, epoch, Math::max);
+
+        RevocationJournal.Entry entry = new RevocationJournal.Entry(EPOCH_ENTRY, email,
+                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(accessTokenTtlSeconds), epoch);
+        if (writeEpoch(entry)) {
+            log.debug("Revocation epoch set for {}: {}", email, epoch);
+        } else {
+            journal(entry);
+        }
+        return epoch;
+    }
+
+    /**
+     * 로컬 저널에 남은 epoch를 Redis로 재전송
+     * 재전송 전까지는 미러에 다시 반영해 이 노드에서 계속 차단 (재전송 주기가 미러 TTL보다 짧음)
+     * @return 재전송된 항목 수
+     */
+    public int replayJournal() {
+        if (journal.isEmpty()) {
+            return 0;
+        }
+
+        List<RevocationJournal.Entry> entries = journal.readAll().stream()
+                .filter(entry -> EPOCH_ENTRY.equals(entry.type()))
+                .toList();
+        entries.forEach(entry -> mirror.asMap().merge(entry.id(), entry.value(), Math::max));
+
+        List<RevocationJournal.Entry> replayed = new ArrayList<>();
+        for (RevocationJournal.Entry entry : entries) {
+            if (!writeEpoch(entry)) {
+                break;
+            }
+            replayed.add(entry);
+        }
+        if (!replayed.isEmpty()) {
+            journal.remove(replayed);
+            log.info("Replayed {} journaled revocation epoch(s) to Redis", replayed.size());
+        }
+        return replayed.size();
+    }
+
+    /**
+     * 토큰이 사용자 epoch 이전에 발급되었는지 확인
+     * iat_ms가 없는 구버전 토큰은 초 단위 iat로 비교하므로 같은 초에 발급되었으면 무효로 간주
+     * @param email    토큰 subject
+     * @param issuedAt 토큰 발급 시각
+     * @return 무효화된 토큰이면 true
+     */
+    public boolean isRevoked(String email, Instant issuedAt) {
+        if (email == null || issuedAt == null) {
+            return false;
+        }
+
+        long epoch = getEpoch(email);
+        return epoch != NONE && issuedAt.toEpochMilli() < epoch;
+    }
+
+    /**
+     * 사용자 epoch 조회 (미러 우선, 없으면 Redis)
+     * @return epoch millis, 없으면 0
+     */
+    public long getEpoch(String email) {
+        Long epoch = mirror.get(email, this::loadEpoch);
+        if (epoch != null) {
+            return epoch;
+        }
+        // Redis 확인 불가: closed 정책이면 모든 토큰을 무효로 간주
+        return failClosed ? Long.MAX_VALUE : NONE;
+    }
+
+    /**
+     * 다른 노드에서 설정한 epoch를 미러에 즉시 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator <= 0) {
+            log.warn("Ignoring malformed epoch message: {}", body);
+            return;
+        }
+
+        try {
+            long epoch = toMillis(Long.parseLong(body.substring(0, separator)));
+            mirror.asMap().merge(body.substring(separator + 1), epoch, Math::max);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed epoch message: {}", body);
+        }
+    }
+
+    /**
+     * epoch를 Redis에 기록하고 다른 노드로 전파
+     * @return 기록 성공 여부 (서킷이 열려 있거나 실패하면 false)
+     */
+    private boolean writeEpoch(RevocationJournal.Entry entry) {
+        long ttlMillis = entry.expiresAtMillis() - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            // 그 사이 무효화 대상 토큰이 모두 만료됨
+            return true;
+        }
+        if (!circuitBreaker.allowRequest()) {
+            return false;
+        }
+
+        try {
+            redisTemplate.execute(SET_MAX_SCRIPT, List.of(EPOCH_PREFIX + entry.id()),
+                    Long.toString(entry.value()), Long.toString(ttlMillis));
+            redisTemplate.convertAndSend(EPOCH_CHANNEL, entry.value() + "|" + entry.id());
+            circuitBreaker.recordSuccess();
+            return true;
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            log.error("Failed to set revocation epoch: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void journal(RevocationJournal.Entry entry) {
+        try {
+            journal.append(List.of(entry));
+        } catch (Exception e) {
+            log.error("Failed to journal revocation epoch: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis에서 epoch 조회
+     * @return epoch (없으면 0), Redis 확인 불가 시 null (미러에 저장되지 않음)
+     */
+    private Long loadEpoch(String email) {
+        if (!circuitBreaker.allowRequest()) {
+            return null;
+        }
+
+        try {
+            String value = redisTemplate.opsForValue().get(EPOCH_PREFIX + email);
+            circuitBreaker.recordSuccess();
+            return value != null ? toMillis(Long.parseLong(value)) : NONE;
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            log.error("Failed to load revocation epoch: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 초 단위로 기록된 epoch를 밀리초로 변환
+     */
+    private static long toMillis(long epoch) {
+        return epoch != NONE && epoch < MIN_EPOCH_MILLIS ? TimeUnit.SECONDS.toMillis(epoch) : epoch;
+    }
+}
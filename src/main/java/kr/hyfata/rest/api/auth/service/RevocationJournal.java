@@ -0,0 +1,163 @@
+package kr.hyfata.rest.api.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis에 반영하지 못한 토큰 무효화를 보관하는 로컬 파일 저널
+ * Redis 장애 중 발생한 무효화를 잃지 않도록 기록해 두고, 복구 후 재전송
+ *
+ * 파일 형식: 한 줄에 하나씩 v2|<type>|<Base64url(id)>|<만료 epoch millis>|<value>
+ * - type: jti (JTI 블랙리스트) / token (토큰 해시 블랙리스트) / epoch (사용자 무효화 기준 시각, id=email, value=epoch)
+ * - id는 구분자(|)나 줄바꿈이 들어 있어도 줄이 깨지지 않도록 Base64url로 인코딩
+ * - 이전 형식(<type>|<id>|<만료>[|<value>])으로 남은 줄도 읽음 (업그레이드 전에 기록된 저널)
+ *
+ * 재전송한 항목은 Redis 반영이 끝난 뒤 remove로 지움 (재전송 중 중단되어도 항목이 남아 다음 재전송 대상이 됨)
+ */
+@Component
+@Slf4j
+public class RevocationJournal {
+
+    public record Entry(String type, String id, long expiresAtMillis, long value) {
+
+        private static final String VERSION = "v2";
+
+        public Entry(String type, String id, long expiresAtMillis) {
+            this(type, id, expiresAtMillis, 0L);
+        }
+
+        String toLine() {
+            String encodedId = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(id.getBytes(StandardCharsets.UTF_8));
+            return VERSION + "|" + type + "|" + encodedId + "|" + expiresAtMillis + "|" + value;
+        }
+
+        static Entry parse(String line) {
+            String[] parts = line.split("\\|");
+            try {
+                if (parts.length == 5 && VERSION.equals(parts[0])) {
+                    String id = new String(Base64.getUrlDecoder().decode(parts[2]), StandardCharsets.UTF_8);
+                    return new Entry(parts[1], id, Long.parseLong(parts[3]), Long.parseLong(parts[4]));
+                }
+                if (parts.length == 3 || parts.length == 4) {
+                    long value = parts.length == 4 ? Long.parseLong(parts[3]) : 0L;
+                    return new Entry(parts[0], parts[1], Long.parseLong(parts[2]), value);
+                }
+                return null;
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    private final Path path;
+
+    public RevocationJournal(
+            @Value("${security.revocation.journal-path:./data/revocation-journal.log}") String path) {
+        this.path = Path.of(path);
+    }
+
+    /**
+     * 저널에 항목 추가 (DSYNC로 디스크 기록 후 반환)
+     */
+    public synchronized void append(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        String lines = entries.stream().map(Entry::toLine).collect(Collectors.joining("\n", "", "\n"));
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+            log.warn("Journaled {} revocation(s) pending Redis recovery", entries.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write revocation journal", e);
+        }
+    }
+
+    /**
+     * 만료되지 않은 항목 조회 (파일은 유지)
+     */
+    public synchronized List<Entry> readAll() {
+        if (!Files.exists(path)) {
+            return List.of();
+        }
+
+        long now = System.currentTimeMillis();
+        List<Entry> entries = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                Entry entry = Entry.parse(line);
+                if (entry == null) {
+                    log.warn("Ignoring malformed journal line: {}", line);
+                } else if (entry.expiresAtMillis() > now) {
+                    entries.add(entry);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read revocation journal", e);
+        }
+        return entries;
+    }
+
+    /**
+     * Redis에 반영한 항목을 저널에서 제거 (만료된 항목도 함께 정리)
+     * 남은 항목은 임시 파일에 기록한 뒤 원자적으로 교체하므로, 중간에 중단되어도 기존 저널이 그대로 남음
+     * readAll 이후 append된 항목은 제거 대상이 아니므로 유지됨
+     */
+    public synchronized void remove(Collection<Entry> replayed) {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        Set<Entry> removed = new HashSet<>(replayed);
+        long now = System.currentTimeMillis();
+        try {
+            List<String> remaining = new ArrayList<>();
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                Entry entry = Entry.parse(line);
+                if (entry != null && entry.expiresAtMillis() > now && !removed.contains(entry)) {
+                    remaining.add(line);
+                }
+            }
+
+            if (remaining.isEmpty()) {
+                Files.deleteIfExists(path);
+                return;
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(temp, remaining, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DSYNC);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rewrite revocation journal", e);
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        try {
+            return !Files.exists(path) || Files.size(path) == 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package kr.hyfata.rest.api.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세션 활동 시각 write-behind 저장소
+ * 인증된 API 요청(JwtAuthenticationFilter)마다 활동 시각을 Redis 해시에 먼저 기록하고, 주기적으로 user_sessions에 배치 반영
+ * - 세션마다 매번 행을 갱신하지 않으므로 Postgres 쓰기(WAL)가 플러시 주기당 세션 1회로 줄어듦
+ * - 같은 토큰의 기록은 노드마다 touch-interval에 한 번만 Redis로 전송
+ * - 세션 목록 조회 시 DB 값과 Redis 값 중 최신 값을 사용
+ * - Redis를 사용할 수 없으면 기록을 건너뜀 (활동 시각은 참고용이므로 요청 경로에서 DB에 쓰지 않음)
+ *
+ * Redis 키: session:activity (field = 세션의 현재 Access Token JTI, value = epoch millis)
+ * 플러시 후에는 값이 그 사이 바뀌지 않은 필드만 삭제하므로 플러시 중 갱신된 활동 시각은 유실되지 않음
+ */
+@Service
+@Slf4j
+public class SessionActivityStore {
+
+    private static final String ACTIVITY_KEY = "session:activity";
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    /**
+     * 반영된 값과 같을 때만 필드 삭제 (ARGV: field1, value1, field2, value2, ...)
+     */
+    private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT = new DefaultRedisScript<>(
+            "local removed = 0 " +
+            "for i = 1, #ARGV, 2 do " +
+            "  if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then " +
+            "    removed = removed + redis.call('HDEL', KEYS[1], ARGV[i]) " +
+            "  end " +
+            "end " +
+            "return removed",
+            Long.class);
+
+    private static final String UPDATE_SQL =
+            "UPDATE user_sessions SET last_active_at = ? " +
+            "WHERE access_token_jti = ? AND last_active_at < ?";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이 노드에서 최근 기록한 JTI (touch-interval 동안 같은 토큰의 재기록 생략)
+     */
+    private final Cache<String, Boolean> recentlyTouched;
+
+    public SessionActivityStore(
+            StringRedisTemplate redisTemplate,
+            RedisCircuitBreaker circuitBreaker,
+            JdbcTemplate jdbcTemplate,
+            @Value("${session.activity.touch-interval-ms:60000}") long touchIntervalMillis) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.jdbcTemplate = jdbcTemplate;
+        this.recentlyTouched = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(touchIntervalMillis))
+                .build();
+    }
+
+    /**
+     * 세션 활동 시각 기록 (인증된 요청의 Access Token JTI 기준)
+     * @return Redis에 기록했거나 최근에 기록했으면 true, Redis를 사용할 수 없으면 false
+     */
+    public boolean touch(String accessTokenJti) {
+        if (recentlyTouched.getIfPresent(accessTokenJti) != null) {
+            return true;
+        }
+        if (!circuitBreaker.allowRequest()) {
+            return false;
+        }
+
+        try {
+            hashOps().put(ACTIVITY_KEY, accessTokenJti, Long.toString(System.currentTimeMillis()));
+            circuitBreaker.recordSuccess();
+            recentlyTouched.put(accessTokenJti, Boolean.TRUE);
+            return true;
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            log.error("Failed to record session activity: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 활동 시각 조회
+     * @return Access Token JTI -> 활동 시각 (Redis에 값이 없는 세션은 제외)
+     */
+    public Map<String, LocalDateTime> getPendingActivity(Collection<String> accessTokenJtis) {
+        Map<String, LocalDateTime> result = new HashMap<>();
+        if (accessTokenJtis.isEmpty() || !circuitBreaker.allowRequest()) {
+            return result;
+        }
+
+        try {
+            List<String> fields = new ArrayList<>(accessTokenJtis);
+            List<String> values = hashOps().multiGet(ACTIVITY_KEY, fields);
+            circuitBreaker.recordSuccess();
+            for (int i = 0; i < fields.size(); i++) {
+                if (values.get(i) != null) {
+                    result.put(fields.get(i), toLocalDateTime(Long.parseLong(values.get(i))));
+                }
+            }
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            log.error("Failed to read session activity: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Redis의 활동 시각을 user_sessions에 배치 반영
+     * 여러 노드가 동시에 실행해도 같은 값을 쓰므로 안전 (더 최신 DB 값은 덮어쓰지 않음)
+     * @return 반영된 세션 수
+     */
+    public int flushToDatabase() {
+        Map<String, String> pending = hashOps().entries(ACTIVITY_KEY);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<String, String>> entries = new ArrayList<>(pending.entrySet());
+        int flushed = 0;
+        for (int from = 0; from < entries.size(); from += FLUSH_BATCH_SIZE) {
+            List<Map.Entry<String, String>> batch = entries.subList(from, Math.min(from + FLUSH_BATCH_SIZE, entries.size()));
+
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, entry) -> {
+                Timestamp lastActiveAt = Timestamp.valueOf(toLocalDateTime(Long.parseLong(entry.getValue())));
+                ps.setTimestamp(1, lastActiveAt);
+                ps.setString(2, entry.getKey());
+                ps.setTimestamp(3, lastActiveAt);
+            });
+
+            Object[] args = new Object[batch.size() * 2];
+            for (int i = 0; i < batch.size(); i++) {
+                args[i * 2] = batch.get(i).getKey();
+                args[i * 2 + 1] = batch.get(i).getValue();
+            }
+            redisTemplate.execute(ACKNOWLEDGE_SCRIPT, List.of(ACTIVITY_KEY), args);
+            flushed += batch.size();
+        }
+
+        log.debug("Flushed {} session activity timestamps to database", flushed);
+        return flushed;
+    }
+
+    private HashOperations<String, String, String> hashOps() {
+        return redisTemplate.opsForHash();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
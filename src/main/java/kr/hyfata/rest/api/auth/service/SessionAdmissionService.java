@@ -0,0 +1,239 @@
+package kr.hyfata.rest.api.auth.service;
+
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동시 세션 수 제한 (Redis ZSET 기반 원자적 입장 처리)
+ * 사용자별 활성 세션을 ZSET(member = refresh token 해시, score = 생성 시각)으로 유지하고,
+ * 새 세션 추가와 초과분(가장 오래된 세션) 제거를 Lua 스크립트 한 번으로 처리
+ * - 동시 로그인도 Redis에서 직렬화되므로 제한을 넘지 않음
+ * - 로그인마다 COUNT/목록 조회 없이 Redis 왕복 1회
+ * - 키가 없으면 (최초 사용/만료/Redis 초기화) DB의 활성 세션으로 채운 뒤 처리
+ *
+ * 세션을 무효화하는 경로는 remove/clear로 ZSET에서도 제거해야 함
+ * Redis를 사용할 수 없으면 Optional.empty()를 반환하고 호출자가 DB 기반으로 처리
+ * - 그동안 ZSET에 반영하지 못한 범위(DB 기반 입장, 실패한 remove/clear)는 노드 로컬에 기록해 두고,
+ *   Redis 복구 후 키를 삭제해 다음 입장 때 DB 기준으로 다시 채움 (clearStaleScopes, 다음 admit)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SessionAdmissionService {
+
+    private static final String ACTIVE_PREFIX = "session:active:";
+    private static final String SEED_REQUIRED = "!seed";
+
+    /**
+     * KEYS[1] = 활성 세션 ZSET
+     * ARGV = now, ttlMillis, limit, member, score, seeded, [seedScore, seedMember]...
+     * 키가 없고 seeded=0이면 {"!seed"} 반환 (호출자가 DB에서 읽어 seeded=1로 재호출)
+     * @return 제거된(가장 오래된) 세션 해시 목록
+     */
+    private static final RedisScript<List> ADMIT_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local ttl = tonumber(ARGV[2]) " +
+            "local limit = tonumber(ARGV[3]) " +
+            "if ARGV[6] == '0' and redis.call('EXISTS', KEYS[1]) == 0 then return {'" + SEED_REQUIRED + "'} end " +
+            "for i = 7, #ARGV, 2 do redis.call('ZADD', KEYS[1], 'NX', ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. (now - ttl)) " +
+            "redis.call('ZADD', KEYS[1], ARGV[5], ARGV[4]) " +
+            "local evicted = {} " +
+            "local excess = redis.call('ZCARD', KEYS[1]) - limit " +
+            "if excess > 0 then " +
+            "  local popped = redis.call('ZPOPMIN', KEYS[1], excess) " +
+            "  for i = 1, #popped, 2 do evicted[#evicted + 1] = popped[i] end " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ttl) " +
+            "return evicted",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    /**
+     * ZSET이 DB와 어긋났을 수 있는 범위 (Redis 장애 중 변경을 반영하지 못함)
+     */
+    private final Set<String> staleScopes = ConcurrentHashMap.newKeySet();
+
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshTokenExpiration;
+
+    /**
+     * 새 세션을 입장시키고 제한을 넘는 가장 오래된 세션을 같은 단계에서 제거
+     * 트랜잭션 안에서 호출되면 롤백 시 ZSET을 비워 다음 입장 때 DB 기준으로 다시 채움
+     * @param scope       제한 단위 (예: 사용자 ID)
+     * @param sessionHash 새 세션의 refresh token 해시
+     * @param createdAtMillis 새 세션 생성 시각
+     * @param limit       최대 활성 세션 수
+     * @param seed        키가 없을 때 사용할 DB의 활성 세션 (해시 -> 생성 시각 millis)
+     * @return 제거해야 할 세션 해시 목록, Redis를 사용할 수 없으면 empty
+     */
+    public Optional<List<String>> admit(String scope, String sessionHash, long createdAtMillis, int limit,
+                                        Supplier<Map<String, Long>> seed) {
+        if (!circuitBreaker.allowRequest()) {
+            markStale(scope);
+            return Optional.empty();
+        }
+
+        String key = ACTIVE_PREFIX + scope;
+        try {
+            if (staleScopes.remove(scope)) {
+                redisTemplate.delete(key);
+            }
+            List<String> evicted = run(key, sessionHash, createdAtMillis, limit, null);
+            if (evicted != null && evicted.size() == 1 && SEED_REQUIRED.equals(evicted.get(0))) {
+                evicted = run(key, sessionHash, createdAtMillis, limit, seed.get());
+            }
+            circuitBreaker.recordSuccess();
+
+            clearOnRollback(key);
+            return Optional.of(evicted != null ? evicted : List.of());
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            log.error("Failed to admit session: {}", e.getMessage());
+            markStale(scope);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 무효화된 세션을 활성 집합에서 제거
+     */
+    public void remove(String scope, Collection<String> sessionHashes) {
+        if (sessionHashes.isEmpty()) {
+            return;
+        }
+        if (!circuitBreaker.allowRequest()) {
+            markStale(scope);
+            return;
+        }
+
+        try {
+            redisTemplate.opsForZSet().remove(ACTIVE_PREFIX + scope, sessionHashes.toArray());
+            circuitBreaker.recordSuccess();
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            log.error("Failed to remove sessions from active set: {}", e.getMessage());
+            markStale(scope);
+        }
+    }
+
+    /**
+     * 활성 집합 전체 삭제 (다음 로그인 시 DB에서 다시 채움)
+     */
+    public void clear(String scope) {
+        if (!circuitBreaker.allowRequest()) {
+            markStale(scope);
+            return;
+        }
+
+        try {
+            redisTemplate.delete(ACTIVE_PREFIX + scope);
+            circuitBreaker.recordSuccess();
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            log.error("Failed to clear active session set: {}", e.getMessage());
+            markStale(scope);
+        }
+    }
+
+    /**
+     * Redis 장애 중 어긋난 범위의 키 삭제 (다음 입장 때 DB에서 다시 채움)
+     * 다른 노드가 어긋난 ZSET으로 입장시키지 않도록 복구 직후 주기적으로 호출
+     * @return 삭제한 범위 수
+     */
+    public int clearStaleScopes() {
+        if (staleScopes.isEmpty() || !circuitBreaker.allowRequest()) {
+            return 0;
+        }
+
+        List<String> scopes = new ArrayList<>(staleScopes);
+        try {
+            redisTemplate.delete(scopes.stream().map(scope -> ACTIVE_PREFIX + scope).toList());
+            circuitBreaker.recordSuccess();
+            scopes.forEach(staleScopes::remove);
+            return scopes.size();
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            log.error("Failed to clear stale active session sets: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 범위를 어긋난 것으로 기록
+     * 트랜잭션 안이면 종료 후 다시 기록 (커밋 전에 키를 지우면 다른 노드가 커밋 전 DB로 다시 채울 수 있음)
+     */
+    private void markStale(String scope) {
+        staleScopes.add(scope);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                staleScopes.add(scope);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> run(String key, String sessionHash, long createdAtMillis, int limit,
+                             Map<String, Long> seed) {
+        List<String> args = new ArrayList<>();
+        args.add(Long.toString(System.currentTimeMillis()));
+        args.add(Long.toString(refreshTokenExpiration));
+        args.add(Integer.toString(limit));
+        args.add(sessionHash);
+        args.add(Long.toString(createdAtMillis));
+        args.add(seed != null ? "1" : "0");
+        if (seed != null) {
+            seed.forEach((hash, createdAt) -> {
+                args.add(Long.toString(createdAt));
+                args.add(hash);
+            });
+        }
+        return (List<String>) redisTemplate.execute(ADMIT_SCRIPT, List.of(key), args.toArray());
+    }
+
+    /**
+     * 롤백 시 키 삭제 (새 세션 추가와 제거된 세션 반영을 모두 되돌리기 위해 다음 로그인 때 DB에서 다시 채움)
+     */
+    private void clearOnRollback(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    try {
+                        redisTemplate.delete(key);
+                    } catch (Exception e) {
+                        log.error("Failed to reset active session set after rollback: {}", e.getMessage());
+                    }
+                }
+            }
+        });
+    }
+}
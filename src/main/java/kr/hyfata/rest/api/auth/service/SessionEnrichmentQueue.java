@@ -0,0 +1,153 @@
+package kr.hyfata.rest.api.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hyfata.rest.api.common.util.DeviceDetector;
+import kr.hyfata.rest.api.common.util.GeoIpService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 세션 부가 정보(기기/위치) 비동기 보강
+ * 세션은 IP와 User-Agent 원본만으로 즉시 저장하고, User-Agent 파싱과 GeoIP 조회는
+ * 제한된 크기의 큐를 거쳐 백그라운드에서 처리한 뒤 user_sessions에 배치 반영
+ * - 로그인/토큰 갱신 지연에 파싱/조회 시간이 포함되지 않음
+ * - 큐가 가득 차면 보강을 건너뜀 (세션은 기기/위치 없이 유지, 로그인은 지연되지 않음)
+ * - 트랜잭션 안에서 요청되면 커밋 후에 큐에 넣음 (아직 없는 행을 갱신하지 않도록)
+ */
+@Service
+@Slf4j
+public class SessionEnrichmentQueue {
+
+    private static final String UPDATE_SQL =
+            "UPDATE user_sessions SET device_type = ?, device_name = ?, location = ? " +
+            "WHERE refresh_token_hash = ?";
+
+    private final DeviceDetector deviceDetector;
+    private final GeoIpService geoIpService;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<Task> queue;
+    private final int batchSize;
+    private final Counter dropped;
+    private final Counter enriched;
+
+    public SessionEnrichmentQueue(
+            DeviceDetector deviceDetector,
+            GeoIpService geoIpService,
+            JdbcTemplate jdbcTemplate,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${session.enrichment.queue-capacity:10000}") int capacity,
+            @Value("${session.enrichment.batch-size:200}") int batchSize) {
+        this.deviceDetector = deviceDetector;
+        this.geoIpService = geoIpService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("session.enrichment.queue.size", queue, BlockingQueue::size).register(registry);
+            this.dropped = Counter.builder("session.enrichment.dropped").register(registry);
+            this.enriched = Counter.builder("session.enrichment.completed").register(registry);
+        } else {
+            this.dropped = null;
+            this.enriched = null;
+        }
+    }
+
+    /**
+     * 세션 보강 요청 (대기하지 않음)
+     */
+    public void enqueue(String sessionHash, String ipAddress, String userAgent) {
+        Task task = new Task(sessionHash, ipAddress, userAgent);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(task);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(task);
+            }
+        });
+    }
+
+    /**
+     * 대기 중인 보강 작업을 batch-size 단위로 처리
+     * @return 반영된 세션 수
+     */
+    public int drain() {
+        int processed = 0;
+        List<Task> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            for (Task task : batch) {
+                rows.add(enrich(task));
+            }
+            jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+
+            processed += batch.size();
+            if (enriched != null) {
+                enriched.increment(batch.size());
+            }
+            batch.clear();
+        }
+        return processed;
+    }
+
+    /**
+     * 대기 중인 작업 수
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private void offer(Task task) {
+        if (!queue.offer(task)) {
+            if (dropped != null) {
+                dropped.increment();
+            }
+            log.warn("Session enrichment queue is full, skipping enrichment");
+        }
+    }
+
+    /**
+     * @return UPDATE 파라미터 (device_type, device_name, location, refresh_token_hash)
+     */
+    private Object[] enrich(Task task) {
+        String deviceType = null;
+        String deviceName = null;
+        String location = null;
+
+        try {
+            DeviceDetector.DeviceInfo deviceInfo = deviceDetector.parse(task.userAgent());
+            deviceType = deviceInfo.getDeviceType();
+            deviceName = deviceInfo.getDeviceName();
+        } catch (Exception e) {
+            log.debug("Failed to parse user agent: {}", e.getMessage());
+        }
+
+        try {
+            location = geoIpService.resolveLocation(task.ipAddress());
+        } catch (Exception e) {
+            log.debug("Failed to resolve location: {}", e.getMessage());
+        }
+
+        return new Object[]{deviceType, deviceName, location, task.sessionHash()};
+    }
+
+    private record Task(String sessionHash, String ipAddress, String userAgent) {
+    }
+}
@@ -2,6 +2,7 @@ package kr.hyfata.rest.api.auth.service;
 
 import jakarta.servlet.http.HttpServletRequest;
 import kr.hyfata.rest.api.auth.dto.UserSessionDTO;
+import kr.hyfata.rest.api.auth.entity.Client;
 import kr.hyfata.rest.api.auth.entity.User;
 import kr.hyfata.rest.api.auth.entity.UserSession;
 
@@ -46,6 +47,39 @@ public interface SessionService {
     UserSession createSession(User user, String refreshToken, String accessTokenJti,
                               HttpServletRequest request, boolean isPkceFlow, java.util.Set<String> scopes);
 
+    /**
+     * 새 세션 생성 (OAuth 클라이언트 지정)
+     * 세션 수 제한은 (사용자, 클라이언트) 단위로 Client.maxTokensPerUser를 적용
+     * @param user 사용자
+     * @param refreshToken Refresh Token (원본)
+     * @param accessTokenJti Access Token의 JTI
+     * @param request HTTP 요청 (IP, User-Agent 추출용)
+     * @param isPkceFlow PKCE 기반 Public Client 여부
+     * @param scopes 발급된 scope 목록
+     * @param client 세션을 생성한 클라이언트 (null이면 직접 로그인으로 간주)
+     * @return 생성된 세션
+     */
+    UserSession createSession(User user, String refreshToken, String accessTokenJti,
+                              HttpServletRequest request, boolean isPkceFlow, java.util.Set<String> scopes,
+                              Client client);
+
+    /**
+     * 세션 로테이션 (Refresh Token 갱신 시)
+     * 기존 세션 무효화와 새 세션 생성을 같은 트랜잭션에서 처리
+     * 기존 세션은 호출자의 트랜잭션에서 조회한 엔티티여야 함 (변경 감지로 새 세션 INSERT와 함께 반영)
+     * @param currentSession 기존 세션 (사용자 포함)
+     * @param newRefreshToken 새 Refresh Token (원본)
+     * @param newAccessTokenJti 새 Access Token의 JTI
+     * @param request HTTP 요청 (IP, User-Agent 추출용)
+     * @param isPkceFlow PKCE 기반 Public Client 여부
+     * @param scopes 발급된 scope 목록
+     * @param client 세션을 생성한 클라이언트
+     * @return 생성된 세션
+     */
+    UserSession rotateSession(UserSession currentSession, String newRefreshToken, String newAccessTokenJti,
+                              HttpServletRequest request, boolean isPkceFlow, java.util.Set<String> scopes,
+                              Client client);
+
     /**
      * 사용자의 활성 세션 목록 조회
      * @param userEmail 사용자 이메일
@@ -1,25 +1,84 @@
 package kr.hyfata.rest.api.auth.service;
 
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Redis 기반 토큰 블랙리스트 서비스
- * 민감한 API 요청 시 무효화된 Access Token을 차단
+ * 무효화된 Access Token을 차단
+ *
+ * 각 노드는 무효화된 JTI를 메모리에 복제해 두고 모든 요청에서 네트워크 없이 확인
+ * - 기동 시/주기적으로 Redis에서 전체 동기화 (SCAN + PTTL)
+ * - blacklistJti 호출 시 pub/sub 채널로 다른 노드에 전파
+ * - 민감한 API는 Redis로 한 번 더 확인 (pub/sub 유실 대비)
+ *
+ * JTI 항목 저장 형식 (수백만 건 무효화를 고려한 압축 형식)
+ * - 키: "tb:" + JTI 16바이트 원본 (32자리 hex JTI 기준, 기존 "token:blacklist:<hex>" 48바이트 -> 19바이트)
+ * - 값: "1" (1바이트)
+ * - TTL: 토큰의 실제 exp까지 남은 시간 (만료된 토큰은 저장하지 않음)
+ * hex 형식이 아닌 JTI는 "tbs:" + UTF-8 바이트로 저장
+ * 기존 형식 키는 배포 후 Access Token 수명이 지나면 모두 만료되므로 그때까지만 함께 조회
+ *
+ * Redis 장애 대응
+ * - 모든 Redis 호출은 RedisCircuitBreaker를 거치며, 열린 동안은 호출 없이 즉시 실패 처리
+ * - 조회 실패 시 security.revocation.fail-mode 정책 적용 (open: 통과, closed: 차단)
+ * - 반영하지 못한 무효화는 RevocationJournal에 기록 후 복구 시 재전송 (replayJournal)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MessageListener {
 
     private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RevocationJournal journal;
+
+    @Value("${security.revocation.fail-mode:open}")
+    private String failMode;
 
     private static final String BLACKLIST_PREFIX = "token:blacklist:";
+    private static final byte[] JTI_KEY_PREFIX = "tb:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TEXT_JTI_KEY_PREFIX = "tbs:".getBytes(StandardCharsets.UTF_8);
+    private static final int BINARY_JTI_LENGTH = 16;
+
+    /**
+     * 무효화 전파 채널 (메시지 형식: 한 줄에 하나씩 jti|<jti>|<만료 epoch millis>)
+     */
+    public static final String REVOCATION_CHANNEL = "token:revocation";
+    private static final String JTI_MESSAGE = "jti";
+    private static final String TOKEN_ENTRY = "token";
+    private static final int SYNC_BATCH_SIZE = 500;
+    private static final byte[] REVOKED_VALUE = {'1'};
+
+    /**
+     * 노드 로컬 무효화 집합 (JTI -> 만료 시각 epoch millis)
+     * 항목 수는 Access Token 수명 동안 무효화된 토큰 수로 제한됨
+     */
+    private final Map<String, Long> localRevocations = new ConcurrentHashMap<>();
 
     /**
      * 토큰을 블랙리스트에 추가
@@ -31,12 +90,23 @@ public class TokenBlacklistService {
             return;
         }
 
+        String hash = hashIfNeeded(tokenOrJti);
+        RevocationJournal.Entry entry = new RevocationJournal.Entry(TOKEN_ENTRY, hash,
+                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds));
+        if (!circuitBreaker.allowRequest()) {
+            journal(List.of(entry));
+            return;
+        }
+
         try {
-            String key = BLACKLIST_PREFIX + hashIfNeeded(tokenOrJti);
+            String key = BLACKLIST_PREFIX + hash;
             redisTemplate.opsForValue().set(key, "revoked", ttlSeconds, TimeUnit.SECONDS);
+            circuitBreaker.recordSuccess();
             log.debug("Token added to blacklist: {}", key);
         } catch (Exception e) {
+            circuitBreaker.recordFailure();
             log.error("Failed to add token to blacklist: {}", e.getMessage());
+            journal(List.of(entry));
         }
     }
 
@@ -49,13 +119,157 @@ public class TokenBlacklistService {
         if (jti == null || jti.isBlank()) {
             return;
         }
+        blacklistJtis(Map.of(jti, ttlSeconds));
+    }
+
+    /**
+     * JTI를 토큰의 실제 만료 시각까지 블랙리스트에 추가
+     * 이미 만료된 토큰은 서명 검증에서 거부되므로 저장하지 않음
+     * @param jti JWT ID
+     * @param expiresAt Access Token 만료 시각 (exp)
+     */
+    public void blacklistJtiUntil(String jti, Instant expiresAt) {
+        long ttlSeconds = ttlUntil(expiresAt);
+        if (ttlSeconds > 0) {
+            blacklistJti(jti, ttlSeconds);
+        }
+    }
+
+    /**
+     * 만료 시각까지 남은 TTL (초, 올림)
+     */
+    public static long ttlUntil(Instant expiresAt) {
+        long remainingMillis = expiresAt.toEpochMilli() - System.currentTimeMillis();
+        return remainingMillis > 0 ? TimeUnit.MILLISECONDS.toSeconds(remainingMillis + 999) : 0;
+    }
+
+    /**
+     * 여러 JTI를 한 번의 파이프라인으로 블랙리스트에 추가
+     * SET(EX) 명령과 다른 노드로의 전파 메시지 1건을 같은 왕복에 전송
+     * Redis에 반영하지 못한 JTI는 로컬 저널에 기록되어 복구 후 재전송됨
+     * @param jtiTtls JTI -> TTL(초)
+     * @return JTI별 Redis 반영 성공 여부 (입력 순서 유지)
+     */
+    public Map<String, Boolean> blacklistJtis(Map<String, Long> jtiTtls) {
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        List<RevocationJournal.Entry> entries = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        jtiTtls.forEach((jti, ttlSeconds) -> {
+            if (jti != null && !jti.isBlank() && ttlSeconds != null && ttlSeconds > 0) {
+                long expiresAtMillis = now + TimeUnit.SECONDS.toMillis(ttlSeconds);
+                entries.add(new RevocationJournal.Entry(JTI_MESSAGE, jti, expiresAtMillis));
+                localRevocations.merge(jti, expiresAtMillis, Math::max);
+            }
+        });
+        if (entries.isEmpty()) {
+            return results;
+        }
+
+        List<RevocationJournal.Entry> failed = writeEntries(entries, results);
+        if (!failed.isEmpty()) {
+            journal(failed);
+        }
+        log.debug("Blacklisted {} JTIs in one pipeline ({} journaled)", entries.size(), failed.size());
+        return results;
+    }
+
+    /**
+     * 로컬 저널에 남은 무효화를 Redis로 재전송
+     * 저널 항목은 먼저 로컬 집합에 반영되므로 Redis 복구 전에도 이 노드에서는 차단됨
+     * Redis에 반영된 항목만 저널에서 제거 (epoch 항목은 RevocationEpochService가 재전송)
+     * @return 재전송된 항목 수
+     */
+    public int replayJournal() {
+        if (journal.isEmpty()) {
+            return 0;
+        }
+
+        List<RevocationJournal.Entry> entries = journal.readAll().stream()
+                .filter(entry -> JTI_MESSAGE.equals(entry.type()) || TOKEN_ENTRY.equals(entry.type()))
+                .toList();
+        entries.stream()
+                .filter(entry -> JTI_MESSAGE.equals(entry.type()))
+                .forEach(entry -> localRevocations.merge(entry.id(), entry.expiresAtMillis(), Math::max));
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        // 서킷이 열려 있으면 writeEntries가 호출 없이 모두 실패로 반환하고 저널은 그대로 유지
+        List<RevocationJournal.Entry> failed = writeEntries(entries, new LinkedHashMap<>());
+        List<RevocationJournal.Entry> replayed = entries.stream()
+                .filter(entry -> !failed.contains(entry))
+                .toList();
+        if (!replayed.isEmpty()) {
+            journal.remove(replayed);
+            log.info("Replayed {} journaled revocation(s) to Redis", replayed.size());
+        }
+        return replayed.size();
+    }
+
+    /**
+     * 항목들을 한 번의 파이프라인으로 Redis에 기록하고 JTI 항목은 다른 노드로 전파
+     * @param results 항목 id별 성공 여부를 기록할 맵
+     * @return Redis에 반영하지 못한 항목
+     */
+    private List<RevocationJournal.Entry> writeEntries(List<RevocationJournal.Entry> entries,
+                                                       Map<String, Boolean> results) {
+        if (!circuitBreaker.allowRequest()) {
+            entries.forEach(entry -> results.put(entry.id(), false));
+            return entries;
+        }
+
+        String message = entries.stream()
+                .filter(entry -> JTI_MESSAGE.equals(entry.type()))
+                .map(entry -> JTI_MESSAGE + "|" + entry.id() + "|" + entry.expiresAtMillis())
+                .collect(Collectors.joining("\n"));
 
         try {
-            String key = BLACKLIST_PREFIX + jti;
-            redisTemplate.opsForValue().set(key, "revoked", ttlSeconds, TimeUnit.SECONDS);
-            log.debug("JTI added to blacklist: {}", jti);
+            List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (RevocationJournal.Entry entry : entries) {
+                    long ttlSeconds = ttlUntil(Instant.ofEpochMilli(entry.expiresAtMillis()));
+                    connection.stringCommands().set(
+                            entryKey(entry),
+                            REVOKED_VALUE,
+                            Expiration.seconds(Math.max(ttlSeconds, 1)),
+                            RedisStringCommands.SetOption.upsert());
+                }
+                if (!message.isEmpty()) {
+                    connection.publish(REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                            message.getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            circuitBreaker.recordSuccess();
+
+            List<RevocationJournal.Entry> failed = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                boolean ok = i < replies.size() && Boolean.TRUE.equals(replies.get(i));
+                results.put(entries.get(i).id(), ok);
+                if (!ok) {
+                    failed.add(entries.get(i));
+                }
+            }
+            return failed;
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            log.error("Failed to write revocations to Redis: {}", e.getMessage());
+            entries.forEach(entry -> results.put(entry.id(), false));
+            return entries;
+        }
+    }
+
+    private byte[] entryKey(RevocationJournal.Entry entry) {
+        return TOKEN_ENTRY.equals(entry.type())
+                ? (BLACKLIST_PREFIX + entry.id()).getBytes(StandardCharsets.UTF_8)
+                : jtiKey(entry.id());
+    }
+
+    private void journal(List<RevocationJournal.Entry> entries) {
+        try {
+            journal.append(entries);
         } catch (Exception e) {
-            log.error("Failed to blacklist JTI: {}", e.getMessage());
+            log.error("Failed to journal {} revocation(s): {}", entries.size(), e.getMessage());
         }
     }
 
@@ -69,19 +283,24 @@ public class TokenBlacklistService {
             return false;
         }
 
+        if (!circuitBreaker.allowRequest()) {
+            return failClosed();
+        }
+
         try {
             String key = BLACKLIST_PREFIX + hashIfNeeded(tokenOrJti);
             Boolean exists = redisTemplate.hasKey(key);
+            circuitBreaker.recordSuccess();
             return Boolean.TRUE.equals(exists);
         } catch (Exception e) {
+            circuitBreaker.recordFailure();
             log.error("Failed to check blacklist: {}", e.getMessage());
-            // Redis 오류 시 보안을 위해 false 반환 (기본 JWT 검증만 수행)
-            return false;
+            return failClosed();
         }
     }
 
     /**
-     * JTI가 블랙리스트에 있는지 확인
+     * JTI가 블랙리스트에 있는지 확인 (로컬 집합 확인 후 Redis 확인)
      * @param jti JWT ID
      * @return 블랙리스트에 있으면 true
      */
@@ -89,15 +308,145 @@ public class TokenBlacklistService {
         if (jti == null || jti.isBlank()) {
             return false;
         }
+        if (isJtiRevokedLocally(jti)) {
+            return true;
+        }
+        if (!circuitBreaker.allowRequest()) {
+            return failClosed();
+        }
 
         try {
-            String key = BLACKLIST_PREFIX + jti;
-            Boolean exists = redisTemplate.hasKey(key);
-            return Boolean.TRUE.equals(exists);
+            // 새 형식 키와 기존 형식 키를 EXISTS 한 번으로 확인
+            byte[] legacyKey = (BLACKLIST_PREFIX + jti).getBytes(StandardCharsets.UTF_8);
+            Long exists = redisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.keyCommands().exists(jtiKey(jti), legacyKey));
+            circuitBreaker.recordSuccess();
+            return exists != null && exists > 0;
         } catch (Exception e) {
+            circuitBreaker.recordFailure();
             log.error("Failed to check JTI blacklist: {}", e.getMessage());
+            return failClosed();
+        }
+    }
+
+    /**
+     * Redis로 확인할 수 없을 때의 결과
+     * open(기본): 서명 검증과 로컬 무효화 집합 결과만으로 통과
+     * closed: 확인 불가한 토큰을 무효화된 것으로 간주
+     */
+    private boolean failClosed() {
+        return "closed".equalsIgnoreCase(failMode);
+    }
+
+    /**
+     * 노드 로컬 무효화 집합만 확인 (네트워크 호출 없음, 모든 요청에서 사용)
+     * @param jti JWT ID
+     * @return 무효화된 JTI면 true
+     */
+    public boolean isJtiRevokedLocally(String jti) {
+        if (jti == null) {
             return false;
         }
+        Long expiresAt = localRevocations.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 다른 노드에서 전파된 무효화 메시지 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String line : body.split("\n")) {
+            String[] parts = line.split("\\|");
+            if (parts.length != 3 || !JTI_MESSAGE.equals(parts[0])) {
+                log.warn("Ignoring malformed revocation message: {}", line);
+                continue;
+            }
+
+            try {
+                localRevocations.merge(parts[1], Long.parseLong(parts[2]), Math::max);
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring malformed revocation message: {}", line);
+            }
+        }
+    }
+
+    /**
+     * Redis의 블랙리스트 전체를 로컬 집합으로 동기화
+     * SCAN으로 키를 나누어 조회하고 PTTL은 배치 단위 파이프라인으로 조회
+     * @return 동기화된 항목 수
+     */
+    public int syncFromRedis() {
+        int synced = 0;
+        for (byte[] prefix : List.of(JTI_KEY_PREFIX, TEXT_JTI_KEY_PREFIX,
+                BLACKLIST_PREFIX.getBytes(StandardCharsets.UTF_8))) {
+            synced += syncPrefix(prefix);
+        }
+        return synced;
+    }
+
+    private int syncPrefix(byte[] prefix) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(new String(prefix, StandardCharsets.UTF_8) + "*")
+                .count(SYNC_BATCH_SIZE)
+                .build();
+
+        int synced = 0;
+        List<byte[]> batch = new ArrayList<>(SYNC_BATCH_SIZE);
+        // 바이너리 키가 문자열로 역직렬화되지 않도록 원본 바이트로 SCAN
+        try (Cursor<byte[]> cursor = redisTemplate.executeWithStickyConnection(
+                connection -> connection.keyCommands().scan(options))) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == SYNC_BATCH_SIZE) {
+                    synced += syncBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            synced += syncBatch(batch);
+        }
+        return synced;
+    }
+
+    private int syncBatch(List<byte[]> keys) {
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] key : keys) {
+                connection.keyCommands().pTtl(key);
+            }
+            return null;
+        });
+
+        long now = System.currentTimeMillis();
+        int synced = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            // -2: 키 없음(이미 만료), -1: TTL 없음 (blacklistJti는 항상 TTL 설정)
+            if (ttls.get(i) instanceof Long ttl && ttl > 0) {
+                localRevocations.merge(jtiFromKey(keys.get(i)), now + ttl, Math::max);
+                synced++;
+            }
+        }
+        return synced;
+    }
+
+    /**
+     * 만료된 로컬 항목 제거
+     * @return 제거된 항목 수
+     */
+    public int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = localRevocations.size();
+        localRevocations.values().removeIf(expiresAt -> expiresAt <= now);
+        return before - localRevocations.size();
+    }
+
+    /**
+     * 로컬 무효화 집합 크기
+     */
+    public int localRevocationCount() {
+        return localRevocations.size();
     }
 
     /**
@@ -110,13 +459,59 @@ public class TokenBlacklistService {
 
         try {
             String key = BLACKLIST_PREFIX + hashIfNeeded(tokenOrJti);
-            redisTemplate.delete(key);
+            byte[] jtiKey = jtiKey(hashIfNeeded(tokenOrJti));
+            localRevocations.remove(hashIfNeeded(tokenOrJti));
+            redisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.keyCommands().del(key.getBytes(StandardCharsets.UTF_8), jtiKey));
             log.debug("Token removed from blacklist: {}", key);
         } catch (Exception e) {
             log.error("Failed to remove token from blacklist: {}", e.getMessage());
         }
     }
 
+    /**
+     * JTI 블랙리스트 키 생성
+     * 32자리 hex JTI는 16바이트로 디코딩해 "tb:" 뒤에 붙이고, 그 외는 "tbs:" + UTF-8
+     */
+    public static byte[] jtiKey(String jti) {
+        boolean binary = jti.length() == BINARY_JTI_LENGTH * 2 && isLowerHex(jti);
+        byte[] prefix = binary ? JTI_KEY_PREFIX : TEXT_JTI_KEY_PREFIX;
+        byte[] id = binary ? HexFormat.of().parseHex(jti) : jti.getBytes(StandardCharsets.UTF_8);
+
+        byte[] key = Arrays.copyOf(prefix, prefix.length + id.length);
+        System.arraycopy(id, 0, key, prefix.length, id.length);
+        return key;
+    }
+
+    /**
+     * 블랙리스트 키에서 JTI 복원 (jtiKey 및 기존 문자열 키의 역변환)
+     */
+    static String jtiFromKey(byte[] key) {
+        if (startsWith(key, JTI_KEY_PREFIX) && key.length == JTI_KEY_PREFIX.length + BINARY_JTI_LENGTH) {
+            return HexFormat.of().formatHex(key, JTI_KEY_PREFIX.length, key.length);
+        }
+        if (startsWith(key, TEXT_JTI_KEY_PREFIX)) {
+            return new String(key, TEXT_JTI_KEY_PREFIX.length, key.length - TEXT_JTI_KEY_PREFIX.length,
+                    StandardCharsets.UTF_8);
+        }
+        return new String(key, StandardCharsets.UTF_8).substring(BLACKLIST_PREFIX.length());
+    }
+
+    private static boolean startsWith(byte[] key, byte[] prefix) {
+        return key.length >= prefix.length
+                && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    private static boolean isLowerHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * JWT 토큰인 경우 해시 처리, JTI인 경우 그대로 반환
      */
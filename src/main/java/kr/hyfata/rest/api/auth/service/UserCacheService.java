@@ -0,0 +1,82 @@
+package kr.hyfata.rest.api.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.hyfata.rest.api.auth.entity.User;
+import kr.hyfata.rest.api.auth.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 노드 로컬 User 캐시 (이메일 기준)
+ * 조회 전용 경로에서 반복되는 userRepository.findByEmail 호출을 줄이기 위한 캐시
+ * - 같은 키의 동시 미스는 한 번의 쿼리로 합쳐짐 (single-flight)
+ * - 존재하지 않는 사용자는 캐시하지 않음
+ *
+ * 캐시된 엔티티는 여러 스레드가 공유하는 detached 객체이므로 수정 금지
+ * 사용자를 수정하는 경로는 UserRepository로 직접 조회한 뒤 저장하고 evict() 호출
+ */
+@Service
+@Slf4j
+public class UserCacheService {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> cache;
+
+    public UserCacheService(
+            UserRepository userRepository,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${auth.user-cache.max-size:10000}") long maxSize,
+            @Value("${auth.user-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "users"));
+    }
+
+    /**
+     * 이메일로 사용자 조회 (캐시 우선)
+     */
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(email, key -> userRepository.findByEmail(key).orElse(null)));
+    }
+
+    /**
+     * 사용자 캐시 무효화
+     * 즉시 제거하고, 트랜잭션 안이면 커밋 후 한 번 더 제거
+     * (커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우 방지)
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+
+        cache.invalidate(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(email);
+                }
+            });
+        }
+        log.debug("User cache evicted: {}", email);
+    }
+}
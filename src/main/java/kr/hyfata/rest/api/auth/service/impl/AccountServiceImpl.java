@@ -5,6 +5,7 @@ import kr.hyfata.rest.api.auth.entity.User;
 import kr.hyfata.rest.api.auth.entity.UserStatus;
 import kr.hyfata.rest.api.auth.repository.UserRepository;
 import kr.hyfata.rest.api.auth.service.AccountService;
+import kr.hyfata.rest.api.auth.service.UserCacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ public class AccountServiceImpl implements AccountService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCacheService userCacheService;
     private static final String RESTORE_CONFIRM_TEXT = "계정을 삭제합니다";
     private static final int RESTORE_DAYS = 30;
 
@@ -39,6 +41,7 @@ public class AccountServiceImpl implements AccountService {
         // 비밀번호 변경
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        userCacheService.evict(user.getEmail());
 
         return "비밀번호가 변경되었습니다";
     }
@@ -57,6 +60,7 @@ public class AccountServiceImpl implements AccountService {
         user.setDeactivatedAt(LocalDateTime.now());
         user.setDeactivationReason(request.getReason());
         userRepository.save(user);
+        userCacheService.evict(user.getEmail());
 
         return "계정이 비활성화되었습니다";
     }
@@ -79,6 +83,7 @@ public class AccountServiceImpl implements AccountService {
         user.setStatus(UserStatus.DELETED);
         user.setDeletedAt(LocalDateTime.now());
         userRepository.save(user);
+        userCacheService.evict(user.getEmail());
 
         return "계정이 삭제되었습니다. 30일 후 완전히 삭제됩니다";
     }
@@ -107,6 +112,7 @@ public class AccountServiceImpl implements AccountService {
         user.setDeactivatedAt(null);
         user.setDeactivationReason(null);
         userRepository.save(user);
+        userCacheService.evict(user.getEmail());
 
         return "계정이 복구되었습니다. 다시 로그인해주세요";
     }
@@ -6,8 +6,10 @@ import kr.hyfata.rest.api.auth.entity.User;
 import kr.hyfata.rest.api.auth.repository.UserRepository;
 import kr.hyfata.rest.api.auth.service.AuthService;
 import kr.hyfata.rest.api.auth.service.ClientService;
+import kr.hyfata.rest.api.common.exception.CryptoCapacityExceededException;
 import kr.hyfata.rest.api.common.service.EmailService;
 import kr.hyfata.rest.api.auth.service.SessionService;
+import kr.hyfata.rest.api.auth.service.UserCacheService;
 import kr.hyfata.rest.api.common.util.JwtUtil;
 import kr.hyfata.rest.api.common.util.TokenGenerator;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +34,7 @@ public class AuthServiceImpl implements AuthService {
     private final EmailService emailService;
     private final ClientService clientService;
     private final SessionService sessionService;
+    private final UserCacheService userCacheService;
 
     @Value("${jwt.expiration:900000}")
     private long jwtExpiration;
@@ -95,6 +98,7 @@ public class AuthServiceImpl implements AuthService {
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             throw new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
+        upgradePasswordHash(user, request.getPassword());
 
         // 2FA 활성화 시
         if (user.getTwoFactorEnabled()) {
@@ -102,6 +106,7 @@ public class AuthServiceImpl implements AuthService {
             user.setTwoFactorCode(twoFactorCode);
             user.setTwoFactorCodeExpiredAt(LocalDateTime.now().plusMinutes(twoFactorExpirationMinutes));
             userRepository.save(user);
+            userCacheService.evict(user.getEmail());
 
             emailService.sendTwoFactorEmail(user.getEmail(), twoFactorCode, request.getClientId());
 
@@ -138,6 +143,7 @@ public class AuthServiceImpl implements AuthService {
         user.setTwoFactorCode(null);
         user.setTwoFactorCodeExpiredAt(null);
         userRepository.save(user);
+        userCacheService.evict(user.getEmail());
 
         // 토큰 생성 (JTI 포함)
         JwtUtil.TokenResult tokenResult = jwtUtil.generateAccessTokenWithJti(user);
@@ -165,7 +171,7 @@ public class AuthServiceImpl implements AuthService {
         }
 
         String email = jwtUtil.extractEmail(request.getRefreshToken());
-        User user = userRepository.findByEmail(email)
+        User user = userCacheService.findByEmail(email)
                 .orElseThrow(() -> new BadCredentialsException("사용자를 찾을 수 없습니다."));
 
         // 새 토큰 생성 (토큰 로테이션)
@@ -211,6 +217,7 @@ public class AuthServiceImpl implements AuthService {
         user.setResetPasswordToken(resetToken);
         user.setResetPasswordTokenExpiredAt(LocalDateTime.now().plusHours(resetTokenExpirationHours));
         userRepository.save(user);
+        userCacheService.evict(user.getEmail());
 
         emailService.sendPasswordResetEmail(user.getEmail(), resetToken, clientId);
 
@@ -236,6 +243,7 @@ public class AuthServiceImpl implements AuthService {
         user.setResetPasswordToken(null);
         user.setResetPasswordTokenExpiredAt(null);
         userRepository.save(user);
+        userCacheService.evict(user.getEmail());
 
         // 보안: 비밀번호 변경 시 모든 세션 무효화
         sessionService.revokeAllSessions(user.getEmail());
@@ -251,6 +259,7 @@ public class AuthServiceImpl implements AuthService {
         user.setEmailVerified(true);
         user.setEmailVerificationToken(null);
         userRepository.save(user);
+        userCacheService.evict(user.getEmail());
 
         log.info("Email verified for: {}", user.getEmail());
     }
@@ -262,6 +271,7 @@ public class AuthServiceImpl implements AuthService {
 
         user.setTwoFactorEnabled(true);
         userRepository.save(user);
+        userCacheService.evict(email);
 
         log.info("2FA 활성화: {}", email);
     }
@@ -275,7 +285,32 @@ public class AuthServiceImpl implements AuthService {
         user.setTwoFactorCode(null);
         user.setTwoFactorCodeExpiredAt(null);
         userRepository.save(user);
+        userCacheService.evict(email);
 
         log.info("2FA 비활성화: {}", email);
     }
+
+    /**
+     * 저장된 해시가 현재 해시 설정(알고리즘/작업 계수)보다 낮으면 확인된 비밀번호로 다시 해싱
+     * 검증에 사용한 해시가 아직 저장되어 있을 때만 교체 (그 사이 변경/재설정된 비밀번호를 덮어쓰지 않음)
+     * 해싱 실행기가 포화 상태면 로그인은 그대로 진행하고 다음 로그인에서 다시 시도
+     */
+    private void upgradePasswordHash(User user, String rawPassword) {
+        String verifiedHash = user.getPassword();
+        if (!passwordEncoder.upgradeEncoding(verifiedHash)) {
+            return;
+        }
+        try {
+            String upgradedHash = passwordEncoder.encode(rawPassword);
+            if (userRepository.updatePassword(user.getEmail(), verifiedHash, upgradedHash) == 0) {
+                log.info("Password hash upgrade skipped, stored hash changed: {}", user.getEmail());
+                return;
+            }
+            user.setPassword(upgradedHash);
+            userCacheService.evict(user.getEmail());
+            log.info("Password hash upgraded: {}", user.getEmail());
+        } catch (CryptoCapacityExceededException e) {
+            log.debug("Password hash upgrade deferred: {}", user.getEmail());
+        }
+    }
 }
@@ -6,6 +6,8 @@ import kr.hyfata.rest.api.auth.entity.Client;
 import kr.hyfata.rest.api.auth.entity.User;
 import kr.hyfata.rest.api.auth.repository.ClientRepository;
 import kr.hyfata.rest.api.auth.repository.UserRepository;
+import kr.hyfata.rest.api.auth.service.ClientPolicy;
+import kr.hyfata.rest.api.auth.service.ClientRegistry;
 import kr.hyfata.rest.api.auth.service.ClientService;
 import kr.hyfata.rest.api.common.util.TokenGenerator;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,7 @@ public class ClientServiceImpl implements ClientService {
     private final UserRepository userRepository;
     private final TokenGenerator tokenGenerator;
     private final PasswordEncoder passwordEncoder;
+    private final ClientRegistry clientRegistry;
 
     @Override
     public ClientResponse registerClient(ClientRegistrationRequest request, Authentication authentication) {
@@ -82,6 +85,7 @@ public class ClientServiceImpl implements ClientService {
         }
 
         Client savedClient = clientRepository.save(client);
+        clientRegistry.update(savedClient);
         log.info("Client registered: {} ({}) by user={} (admin={})", request.getName(), clientId,
                 authentication != null ? authentication.getName() : "anonymous", isAdmin);
 
@@ -91,20 +95,20 @@ public class ClientServiceImpl implements ClientService {
 
     @Override
     public Optional<ClientResponse> getClient(String clientId) {
-        return clientRepository.findByClientId(clientId)
-                .map(this::mapToResponse);
+        return clientRegistry.find(clientId)
+                .map(ClientPolicy::getResponse);
     }
 
     @Override
-    public Optional<Client> validateClient(String clientId) {
-        Optional<Client> client = clientRepository.findByClientId(clientId);
+    public Optional<ClientPolicy> validateClient(String clientId) {
+        Optional<ClientPolicy> client = clientRegistry.find(clientId);
 
         if (client.isEmpty()) {
             log.warn("Client not found: {}", clientId);
             return Optional.empty();
         }
 
-        if (!client.get().getEnabled()) {
+        if (!client.get().isEnabled()) {
             log.warn("Client is disabled: {}", clientId);
             return Optional.empty();
         }
@@ -114,7 +118,7 @@ public class ClientServiceImpl implements ClientService {
 
     @Override
     public boolean existsClient(String clientId) {
-        return clientRepository.existsByClientId(clientId);
+        return clientRegistry.find(clientId).isPresent();
     }
 
     /**
@@ -129,29 +133,6 @@ public class ClientServiceImpl implements ClientService {
         return clientId;
     }
 
-    /**
-     * Client 엔티티를 ClientResponse DTO로 변환 (clientSecret 제외)
-     */
-    private ClientResponse mapToResponse(Client client) {
-        List<String> redirectUris = List.of(client.getRedirectUris().split(","));
-
-        return ClientResponse.builder()
-                .id(client.getId())
-                .clientId(client.getClientId())
-                .name(client.getName())
-                .description(client.getDescription())
-                .frontendUrl(client.getFrontendUrl())
-                .redirectUris(redirectUris)
-                .enabled(client.getEnabled())
-                .maxTokensPerUser(client.getMaxTokensPerUser())
-                .defaultScopes(client.getDefaultScopes())
-                .allowedScopes(client.getAllowedScopes())
-                .ownerId(client.getOwner() != null ? client.getOwner().getId() : null)
-                .createdAt(client.getCreatedAt())
-                .updatedAt(client.getUpdatedAt())
-                .build();
-    }
-
     /**
      * Client 엔티티를 ClientResponse DTO로 변환 (생성 시에만 평문 clientSecret 포함)
      */
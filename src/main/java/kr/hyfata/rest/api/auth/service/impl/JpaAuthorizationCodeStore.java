@@ -0,0 +1,43 @@
+package kr.hyfata.rest.api.auth.service.impl;
+
+import kr.hyfata.rest.api.auth.entity.AuthorizationCode;
+import kr.hyfata.rest.api.auth.repository.AuthorizationCodeRepository;
+import kr.hyfata.rest.api.auth.service.AuthorizationCodeStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * DB(authorization_codes) 기반 Authorization Code 저장소 (oauth.code-store=jpa)
+ * 조건부 UPDATE(used = false → true)로 사용 처리하므로 동시 교환 시 하나만 성공
+ * 만료된 코드는 OAuthCleanupScheduler가 정리
+ */
+@Service
+@ConditionalOnProperty(name = "oauth.code-store", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaAuthorizationCodeStore implements AuthorizationCodeStore {
+
+    private final AuthorizationCodeRepository authorizationCodeRepository;
+
+    @Override
+    public void save(AuthorizationCode authorizationCode) {
+        authorizationCodeRepository.save(authorizationCode);
+    }
+
+    @Override
+    @Transactional
+    public Optional<AuthorizationCode> consume(String code, String clientId) {
+        if (authorizationCodeRepository.markUsed(code, clientId) == 0) {
+            return Optional.empty();
+        }
+        return authorizationCodeRepository.findByCodeAndClientId(code, clientId);
+    }
+
+    @Override
+    public Optional<AuthorizationCode> find(String code) {
+        return authorizationCodeRepository.findByCode(code);
+    }
+}
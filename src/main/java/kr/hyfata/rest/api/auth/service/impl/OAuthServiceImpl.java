@@ -3,24 +3,24 @@ package kr.hyfata.rest.api.auth.service.impl;
 import jakarta.servlet.http.HttpServletRequest;
 import kr.hyfata.rest.api.auth.dto.OAuthTokenResponse;
 import kr.hyfata.rest.api.auth.entity.AuthorizationCode;
-import kr.hyfata.rest.api.auth.entity.Client;
 import kr.hyfata.rest.api.auth.entity.User;
 import kr.hyfata.rest.api.auth.entity.UserSession;
-import kr.hyfata.rest.api.auth.repository.AuthorizationCodeRepository;
-import kr.hyfata.rest.api.auth.repository.ClientRepository;
-import kr.hyfata.rest.api.auth.repository.UserRepository;
 import kr.hyfata.rest.api.auth.repository.UserSessionRepository;
+import kr.hyfata.rest.api.auth.service.AuthorizationCodeStore;
+import kr.hyfata.rest.api.auth.service.ClientPolicy;
+import kr.hyfata.rest.api.auth.service.ClientRegistry;
+import kr.hyfata.rest.api.auth.service.ClientSecretVerifier;
 import kr.hyfata.rest.api.auth.service.OAuthService;
 import kr.hyfata.rest.api.auth.service.SessionService;
-import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
+import kr.hyfata.rest.api.auth.service.UserCacheService;
 import kr.hyfata.rest.api.common.util.JwtUtil;
 import kr.hyfata.rest.api.common.util.PkceUtil;
 import kr.hyfata.rest.api.common.util.TokenGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -32,16 +32,15 @@ import java.util.Set;
 @Slf4j
 public class OAuthServiceImpl implements OAuthService {
 
-    private final AuthorizationCodeRepository authorizationCodeRepository;
-    private final ClientRepository clientRepository;
-    private final UserRepository userRepository;
+    private final AuthorizationCodeStore authorizationCodeStore;
+    private final ClientRegistry clientRegistry;
+    private final UserCacheService userCacheService;
     private final UserSessionRepository userSessionRepository;
     private final JwtUtil jwtUtil;
     private final TokenGenerator tokenGenerator;
     private final PkceUtil pkceUtil;
-    private final PasswordEncoder passwordEncoder;
+    private final ClientSecretVerifier clientSecretVerifier;
     private final SessionService sessionService;
-    private final TokenBlacklistService tokenBlacklistService;
 
     @Override
     public String generateAuthorizationCode(String clientId, String email, String redirectUri, String state) {
@@ -64,10 +63,10 @@ public class OAuthServiceImpl implements OAuthService {
     public String generateAuthorizationCode(String clientId, String email, String redirectUri, String state,
                                            String codeChallenge, String codeChallengeMethod, String scopes) {
         // 클라이언트 검증
-        Client client = clientRepository.findByClientId(clientId)
+        ClientPolicy client = clientRegistry.find(clientId)
                 .orElseThrow(() -> new BadCredentialsException("유효하지 않은 클라이언트입니다."));
 
-        if (!client.getEnabled()) {
+        if (!client.isEnabled()) {
             throw new BadCredentialsException("비활성화된 클라이언트입니다.");
         }
 
@@ -77,7 +76,7 @@ public class OAuthServiceImpl implements OAuthService {
         }
 
         // 사용자 검증
-        userRepository.findByEmail(email)
+        userCacheService.findByEmail(email)
                 .orElseThrow(() -> new BadCredentialsException("사용자를 찾을 수 없습니다."));
 
         // Authorization Code 생성
@@ -101,7 +100,7 @@ public class OAuthServiceImpl implements OAuthService {
         }
 
         AuthorizationCode authCode = builder.build();
-        authorizationCodeRepository.save(authCode);
+        authorizationCodeStore.save(authCode);
 
         if (codeChallenge != null && !codeChallenge.isEmpty()) {
             log.info("Authorization code generated with PKCE: client_id={}, email={}", clientId, email);
@@ -119,27 +118,22 @@ public class OAuthServiceImpl implements OAuthService {
 
     @Override
     public OAuthTokenResponse exchangeCodeForToken(String code, String clientId, String clientSecret, String redirectUri, String codeVerifier) {
-        // 1. Authorization Code 검증
-        AuthorizationCode authCode = authorizationCodeRepository.findByCodeAndClientId(code, clientId)
+        // 1. Authorization Code 사용 처리 (원자적, 한 번만 사용 가능 - 이미 사용된 코드는 조회되지 않음)
+        // 이후 검증에 실패해도 코드는 다시 사용할 수 없음
+        AuthorizationCode authCode = authorizationCodeStore.consume(code, clientId)
                 .orElseThrow(() -> new BadCredentialsException("유효하지 않은 인증 코드입니다."));
 
         // 2. 코드 만료 여부 확인
         if (LocalDateTime.now().isAfter(authCode.getExpiresAt())) {
-            authorizationCodeRepository.delete(authCode);
             throw new BadCredentialsException("인증 코드가 만료되었습니다.");
         }
 
-        // 3. 코드 사용 여부 확인 (한 번만 사용 가능)
-        if (authCode.getUsed()) {
-            throw new BadCredentialsException("이미 사용된 인증 코드입니다.");
-        }
-
-        // 4. Redirect URI 검증
+        // 3. Redirect URI 검증
         if (!authCode.getRedirectUri().equals(redirectUri)) {
             throw new BadCredentialsException("redirect URI가 일치하지 않습니다.");
         }
 
-        // 5. PKCE 검증 (code_challenge가 저장되어 있으면 code_verifier 필수)
+        // 4. PKCE 검증 (code_challenge가 저장되어 있으면 code_verifier 필수)
         if (authCode.getCodeChallenge() != null && !authCode.getCodeChallenge().isEmpty()) {
             if (codeVerifier == null || codeVerifier.isEmpty()) {
                 throw new BadCredentialsException("PKCE 흐름에서는 code_verifier가 필요합니다.");
@@ -159,28 +153,24 @@ public class OAuthServiceImpl implements OAuthService {
             log.debug("PKCE verification successful: clientId={}, email={}", clientId, authCode.getEmail());
         }
 
-        // 6. Client Secret 검증
-        Client client = clientRepository.findByClientId(clientId)
+        // 5. Client Secret 검증
+        ClientPolicy client = clientRegistry.find(clientId)
                 .orElseThrow(() -> new BadCredentialsException("유효하지 않은 클라이언트 인증 정보입니다."));
 
-        // BCrypt로 저장된 clientSecret과 비교
-        if (!passwordEncoder.matches(clientSecret, client.getClientSecret())) {
+        // 저장된 clientSecret 해시와 비교 (검증 결과 캐시 사용)
+        if (!clientSecretVerifier.matches(client, clientSecret)) {
             throw new BadCredentialsException("Invalid client credentials");
         }
 
-        if (!client.getEnabled()) {
+        if (!client.isEnabled()) {
             throw new BadCredentialsException("비활성화된 클라이언트입니다.");
         }
 
-        // 7. 사용자 조회
-        User user = userRepository.findByEmail(authCode.getEmail())
+        // 6. 사용자 조회
+        User user = userCacheService.findByEmail(authCode.getEmail())
                 .orElseThrow(() -> new BadCredentialsException("사용자를 찾을 수 없습니다."));
 
-        // 8. 코드 사용 표시
-        authCode.setUsed(true);
-        authorizationCodeRepository.save(authCode);
-
-        // 9. 토큰 생성 (scope 포함)
+        // 7. 토큰 생성 (scope 포함)
         Set<String> scopes = parseScopes(authCode.getScopes());
         JwtUtil.TokenResult accessTokenResult = jwtUtil.generateAccessTokenWithJti(user, clientId, scopes);
         String accessToken = accessTokenResult.token();
@@ -205,7 +195,8 @@ public class OAuthServiceImpl implements OAuthService {
 
     @Override
     public boolean validateAuthorizationCode(String code, String clientId) {
-        return authorizationCodeRepository.findByCodeAndClientId(code, clientId)
+        return authorizationCodeStore.find(code)
+                .filter(authCode -> authCode.getClientId().equals(clientId))
                 .map(authCode -> {
                     // 만료 여부 확인
                     if (LocalDateTime.now().isAfter(authCode.getExpiresAt())) {
@@ -219,23 +210,14 @@ public class OAuthServiceImpl implements OAuthService {
 
     @Override
     public boolean validateRedirectUri(String clientId, String redirectUri) {
-        if (redirectUri == null || redirectUri.isBlank()) {
-            return false;
-        }
-        String trimmedRedirectUri = redirectUri.trim();
-        return clientRepository.findByClientId(clientId)
-                .map(client -> {
-                    String[] redirectUris = client.getRedirectUris().split(",");
-                    return Arrays.stream(redirectUris)
-                            .map(String::trim)
-                            .anyMatch(uri -> uri.equals(trimmedRedirectUri));
-                })
+        return clientRegistry.find(clientId)
+                .map(client -> client.isRedirectUriAllowed(redirectUri))
                 .orElse(false);
     }
 
     @Override
     public boolean validateState(String code, String state) {
-        return authorizationCodeRepository.findByCode(code)
+        return authorizationCodeStore.find(code)
                 .map(authCode -> authCode.getState() != null && authCode.getState().equals(state))
                 .orElse(false);
     }
@@ -243,27 +225,22 @@ public class OAuthServiceImpl implements OAuthService {
     @Override
     public OAuthTokenResponse exchangeCodeForToken(String code, String clientId, String clientSecret,
                                                    String redirectUri, String codeVerifier, HttpServletRequest request) {
-        // 1. Authorization Code 검증
-        AuthorizationCode authCode = authorizationCodeRepository.findByCodeAndClientId(code, clientId)
+        // 1. Authorization Code 사용 처리 (원자적, 한 번만 사용 가능 - 이미 사용된 코드는 조회되지 않음)
+        // 이후 검증에 실패해도 코드는 다시 사용할 수 없음
+        AuthorizationCode authCode = authorizationCodeStore.consume(code, clientId)
                 .orElseThrow(() -> new BadCredentialsException("유효하지 않은 인증 코드입니다."));
 
         // 2. 코드 만료 여부 확인
         if (LocalDateTime.now().isAfter(authCode.getExpiresAt())) {
-            authorizationCodeRepository.delete(authCode);
             throw new BadCredentialsException("인증 코드가 만료되었습니다.");
         }
 
-        // 3. 코드 사용 여부 확인 (한 번만 사용 가능)
-        if (authCode.getUsed()) {
-            throw new BadCredentialsException("이미 사용된 인증 코드입니다.");
-        }
-
-        // 4. Redirect URI 검증
+        // 3. Redirect URI 검증
         if (!authCode.getRedirectUri().equals(redirectUri)) {
             throw new BadCredentialsException("redirect URI가 일치하지 않습니다.");
         }
 
-        // 5. PKCE 또는 Client Secret 검증
+        // 4. PKCE 또는 Client Secret 검증
         boolean isPkceFlow = authCode.getCodeChallenge() != null && !authCode.getCodeChallenge().isEmpty();
 
         if (isPkceFlow) {
@@ -291,30 +268,26 @@ public class OAuthServiceImpl implements OAuthService {
             }
         }
 
-        // 6. Client 검증
-        Client client = clientRepository.findByClientId(clientId)
+        // 5. Client 검증
+        ClientPolicy client = clientRegistry.find(clientId)
                 .orElseThrow(() -> new BadCredentialsException("유효하지 않은 클라이언트입니다."));
 
         // Confidential Client인 경우 client_secret 검증
         if (!isPkceFlow) {
-            if (!passwordEncoder.matches(clientSecret, client.getClientSecret())) {
+            if (!clientSecretVerifier.matches(client, clientSecret)) {
                 throw new BadCredentialsException("Invalid client credentials");
             }
         }
 
-        if (!client.getEnabled()) {
+        if (!client.isEnabled()) {
             throw new BadCredentialsException("비활성화된 클라이언트입니다.");
         }
 
-        // 7. 사용자 조회
-        User user = userRepository.findByEmail(authCode.getEmail())
+        // 6. 사용자 조회
+        User user = userCacheService.findByEmail(authCode.getEmail())
                 .orElseThrow(() -> new BadCredentialsException("사용자를 찾을 수 없습니다."));
 
-        // 8. 코드 사용 표시
-        authCode.setUsed(true);
-        authorizationCodeRepository.save(authCode);
-
-        // 9. 토큰 생성 (JTI + client_id + scope 포함)
+        // 7. 토큰 생성 (JTI + client_id + scope 포함)
         Set<String> scopes = parseScopes(authCode.getScopes());
         JwtUtil.TokenResult accessTokenResult = jwtUtil.generateAccessTokenWithJti(user, clientId, scopes);
         String accessToken = accessTokenResult.token();
@@ -322,8 +295,8 @@ public class OAuthServiceImpl implements OAuthService {
         String refreshToken = jwtUtil.generateRefreshToken(user);
         long expiresIn = 86400000;  // 24시간
 
-        // 10. 세션 생성 (PKCE 여부 및 scope 저장)
-        sessionService.createSession(user, refreshToken, jti, request, isPkceFlow, scopes);
+        // 8. 세션 생성 (PKCE 여부 및 scope 저장)
+        sessionService.createSession(user, refreshToken, jti, request, isPkceFlow, scopes, client.toClient());
 
         if (isPkceFlow) {
             log.info("Authorization code exchanged for tokens with PKCE (Public Client): clientId={}, email={}", clientId, authCode.getEmail());
@@ -341,6 +314,7 @@ public class OAuthServiceImpl implements OAuthService {
     }
 
     @Override
+    @Transactional
     public OAuthTokenResponse refreshAccessToken(String refreshToken, String clientId, String clientSecret,
                                                  HttpServletRequest request) {
         // 1. Refresh Token 유효성 검증 (JWT 서명)
@@ -348,62 +322,56 @@ public class OAuthServiceImpl implements OAuthService {
             throw new BadCredentialsException("Invalid refresh token");
         }
 
-        // 2. 세션 유효성 검증 (DB)
-        if (!sessionService.validateSession(refreshToken)) {
+        // 2. 세션 + 사용자 조회 (SELECT 1회) 및 유효성 검증
+        String oldSessionHash = sessionService.hashToken(refreshToken);
+        UserSession oldSession = userSessionRepository.findWithUserByRefreshTokenHash(oldSessionHash)
+                .orElseThrow(() -> new BadCredentialsException("세션을 찾을 수 없습니다."));
+
+        if (!oldSession.isValid()) {
             throw new BadCredentialsException("세션이 해지되었습니다.");
         }
 
         // 3. 세션에서 PKCE 여부 확인
-        String oldSessionHash = sessionService.hashToken(refreshToken);
-        UserSession oldSession = userSessionRepository.findById(oldSessionHash)
-                .orElseThrow(() -> new BadCredentialsException("세션을 찾을 수 없습니다."));
-
         boolean isPkceFlow = oldSession.getPkceFlow() != null && oldSession.getPkceFlow();
 
         // 4. Client 검증
-        Client client = clientRepository.findByClientId(clientId)
+        ClientPolicy client = clientRegistry.find(clientId)
                 .orElseThrow(() -> new BadCredentialsException("유효하지 않은 클라이언트입니다."));
 
+        if (oldSession.getClientId() != null && !oldSession.getClientId().equals(clientId)) {
+            throw new BadCredentialsException("세션을 발급한 클라이언트가 아닙니다.");
+        }
+
         // Confidential Client (PKCE 아님)인 경우 client_secret 검증
         if (!isPkceFlow) {
             if (clientSecret == null || clientSecret.isEmpty()) {
                 throw new BadCredentialsException("PKCE가 아닌 세션에서는 client_secret이 필요합니다.");
             }
-            if (!passwordEncoder.matches(clientSecret, client.getClientSecret())) {
+            if (!clientSecretVerifier.matches(client, clientSecret)) {
                 throw new BadCredentialsException("Invalid client credentials");
             }
         }
 
-        if (!client.getEnabled()) {
+        if (!client.isEnabled()) {
             throw new BadCredentialsException("비활성화된 클라이언트입니다.");
         }
 
-        // 5. 사용자 조회
-        String email = jwtUtil.extractEmail(refreshToken);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BadCredentialsException("사용자를 찾을 수 없습니다."));
+        // 5. 사용자 (세션과 함께 조회됨)
+        User user = oldSession.getUser();
+        String email = user.getEmail();
 
-        // 6. 기존 세션에서 이전 Access Token JTI 가져와서 블랙리스트 등록
-        if (oldSession.getAccessTokenJti() != null) {
-            // Access Token 남은 만료 시간 계산 (대략 15분으로 설정)
-            tokenBlacklistService.blacklistJti(oldSession.getAccessTokenJti(), 900);
-        }
-
-        // 7. 기존 세션의 scope 유지
+        // 6. 기존 세션의 scope 유지
         Set<String> scopes = parseScopes(oldSession.getScopes());
 
-        // 8. 새 토큰 생성 (토큰 로테이션, 기존 scope 유지)
+        // 7. 새 토큰 생성 (토큰 로테이션, 기존 scope 유지)
         JwtUtil.TokenResult newAccessTokenResult = jwtUtil.generateAccessTokenWithJti(user, clientId, scopes);
         String newAccessToken = newAccessTokenResult.token();
         String newJti = newAccessTokenResult.jti();
         String newRefreshToken = jwtUtil.generateRefreshToken(user);
         long expiresIn = 86400000;  // 24시간
 
-        // 9. 기존 세션 무효화 (refresh token 해시로 찾아서)
-        sessionService.revokeSession(email, oldSessionHash, null);
-
-        // 10. 새 세션 생성 (PKCE 여부 및 scope 유지)
-        sessionService.createSession(user, newRefreshToken, newJti, request, isPkceFlow, scopes);
+        // 8. 기존 세션 무효화 + 새 세션 생성 (이전 Access Token은 만료 시각까지 블랙리스트 등록)
+        sessionService.rotateSession(oldSession, newRefreshToken, newJti, request, isPkceFlow, scopes, client.toClient());
 
         if (isPkceFlow) {
             log.info("OAuth token refreshed (Public Client/PKCE): email={}, clientId={}", email, clientId);
@@ -425,15 +393,7 @@ public class OAuthServiceImpl implements OAuthService {
         // 1. 세션 찾기
         String sessionHash = sessionService.hashToken(refreshToken);
 
-        // 2. 해당 세션의 Access Token JTI를 블랙리스트에 추가
-        userSessionRepository.findById(sessionHash).ifPresent(session -> {
-            if (session.getAccessTokenJti() != null) {
-                // Access Token 남은 만료 시간 계산 (최대 24시간)
-                tokenBlacklistService.blacklistJti(session.getAccessTokenJti(), 86400);
-            }
-        });
-
-        // 3. 세션 무효화
+        // 2. 세션 무효화 (Access Token JTI도 토큰 만료 시각까지 블랙리스트 등록)
         sessionService.revokeSession(email, sessionHash, null);
 
         log.info("OAuth logout successful: email={}", email);
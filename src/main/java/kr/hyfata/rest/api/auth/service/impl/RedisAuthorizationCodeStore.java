@@ -0,0 +1,113 @@
+package kr.hyfata.rest.api.auth.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hyfata.rest.api.auth.entity.AuthorizationCode;
+import kr.hyfata.rest.api.auth.service.AuthorizationCodeStore;
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Redis 기반 Authorization Code 저장소 (기본)
+ * - 발급: SET PX 한 번 (만료는 Redis TTL로 처리하므로 정리 작업 불필요)
+ * - 교환: GETDEL 한 번으로 조회와 삭제를 원자적으로 수행 (동시 교환 시 하나만 성공)
+ *
+ * Redis 키: oauth:code:{SHA-256(code)} (코드 원문은 저장하지 않음), 값: 코드 정보 JSON
+ * 다른 클라이언트가 제시한 코드도 삭제되므로 유출된 코드는 그 시점에 무효화됨
+ */
+@Service
+@ConditionalOnProperty(name = "oauth.code-store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RedisAuthorizationCodeStore implements AuthorizationCodeStore {
+
+    private static final String CODE_PREFIX = "oauth:code:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void save(AuthorizationCode authorizationCode) {
+        Duration ttl = Duration.between(LocalDateTime.now(), authorizationCode.getExpiresAt());
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(authorizationCode);
+        } catch (Exception e) {
+            throw new IllegalStateException("인증 코드를 저장할 수 없습니다.", e);
+        }
+
+        execute(() -> {
+            redisTemplate.opsForValue().set(key(authorizationCode.getCode()), json, ttl);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<AuthorizationCode> consume(String code, String clientId) {
+        if (code == null || code.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String json = execute(() -> redisTemplate.opsForValue().getAndDelete(key(code)));
+        return parse(json).filter(authCode -> authCode.getClientId().equals(clientId));
+    }
+
+    @Override
+    public Optional<AuthorizationCode> find(String code) {
+        if (code == null || code.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return parse(execute(() -> redisTemplate.opsForValue().get(key(code))));
+    }
+
+    private Optional<AuthorizationCode> parse(String json) {
+        if (json == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(json, AuthorizationCode.class));
+        } catch (Exception e) {
+            log.error("Failed to parse authorization code: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Redis 장애 시 코드를 발급/교환할 수 없으므로 예외로 실패 (서킷이 열려 있으면 즉시 실패)
+     */
+    private <T> T execute(Supplier<T> command) {
+        if (!circuitBreaker.allowRequest()) {
+            throw new IllegalStateException("인증 코드 저장소를 사용할 수 없습니다.");
+        }
+
+        try {
+            T result = command.get();
+            circuitBreaker.recordSuccess();
+            return result;
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            log.error("Authorization code store error: {}", e.getMessage());
+            throw new IllegalStateException("인증 코드 저장소를 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String key(String code) {
+        return CODE_PREFIX + DigestUtils.sha256Hex(code);
+    }
+}
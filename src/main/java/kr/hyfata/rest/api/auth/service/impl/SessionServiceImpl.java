@@ -2,14 +2,18 @@ package kr.hyfata.rest.api.auth.service.impl;
 
 import jakarta.servlet.http.HttpServletRequest;
 import kr.hyfata.rest.api.auth.dto.UserSessionDTO;
+import kr.hyfata.rest.api.auth.entity.Client;
 import kr.hyfata.rest.api.auth.entity.User;
 import kr.hyfata.rest.api.auth.entity.UserSession;
 import kr.hyfata.rest.api.auth.repository.UserRepository;
 import kr.hyfata.rest.api.auth.repository.UserSessionRepository;
+import kr.hyfata.rest.api.auth.service.RevocationEpochService;
+import kr.hyfata.rest.api.auth.service.SessionActivityStore;
+import kr.hyfata.rest.api.auth.service.SessionAdmissionService;
+import kr.hyfata.rest.api.auth.service.SessionEnrichmentQueue;
 import kr.hyfata.rest.api.auth.service.SessionService;
 import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
-import kr.hyfata.rest.api.common.util.DeviceDetector;
-import kr.hyfata.rest.api.common.util.GeoIpService;
+import kr.hyfata.rest.api.auth.service.UserCacheService;
 import kr.hyfata.rest.api.common.util.IpUtil;
 import kr.hyfata.rest.api.common.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +28,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -36,10 +45,13 @@ public class SessionServiceImpl implements SessionService {
 
     private final UserSessionRepository sessionRepository;
     private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
     private final TokenBlacklistService blacklistService;
+    private final RevocationEpochService revocationEpochService;
+    private final SessionActivityStore sessionActivityStore;
+    private final SessionAdmissionService sessionAdmissionService;
     private final IpUtil ipUtil;
-    private final DeviceDetector deviceDetector;
-    private final GeoIpService geoIpService;
+    private final SessionEnrichmentQueue sessionEnrichmentQueue;
     private final JwtUtil jwtUtil;
 
     @Autowired(required = false)
@@ -69,65 +81,169 @@ public class SessionServiceImpl implements SessionService {
     @Transactional
     public UserSession createSession(User user, String refreshToken, String accessTokenJti,
                                       HttpServletRequest request, boolean isPkceFlow, Set<String> scopes) {
-        // 동시 세션 수 확인 및 제한
-        enforceSessionLimit(user);
+        return createSession(user, refreshToken, accessTokenJti, request, isPkceFlow, scopes, null);
+    }
 
+    @Override
+    @Transactional
+    public UserSession createSession(User user, String refreshToken, String accessTokenJti,
+                                      HttpServletRequest request, boolean isPkceFlow, Set<String> scopes,
+                                      Client client) {
         String tokenHash = hashToken(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+        String clientId = client != null ? client.getClientId() : null;
+        int limit = (client != null && client.getMaxTokensPerUser() != null)
+                ? client.getMaxTokensPerUser()
+                : maxSessionsPerUser;
+
+        // 동시 세션 수 제한 (새 세션 입장 + 초과분 무효화)
+        enforceSessionLimit(user, clientId, limit, tokenHash, now);
+
         String ipAddress = ipUtil.normalizeIp(ipUtil.getClientIp(request));
         String userAgent = request.getHeader("User-Agent");
-        DeviceDetector.DeviceInfo deviceInfo = deviceDetector.parse(userAgent);
-        String location = geoIpService.resolveLocation(ipAddress);
 
         LocalDateTime expiresAt = LocalDateTime.now()
                 .plusSeconds(refreshTokenExpiration / 1000);
+        LocalDateTime accessTokenExpiresAt = accessTokenExpiresAt();
 
         String scopesStr = (scopes != null && !scopes.isEmpty()) ? String.join(" ", scopes) : null;
 
         UserSession session = UserSession.builder()
                 .refreshTokenHash(tokenHash)
                 .user(user)
+                .clientId(clientId)
                 .accessTokenJti(accessTokenJti)
-                .deviceType(deviceInfo.getDeviceType())
-                .deviceName(deviceInfo.getDeviceName())
+                .accessTokenExpiresAt(accessTokenExpiresAt)
                 .ipAddress(ipAddress)
-                .location(location)
                 .userAgent(userAgent)
                 .expiresAt(expiresAt)
                 .isRevoked(false)
                 .pkceFlow(isPkceFlow)  // PKCE 기반 Public Client 여부
                 .scopes(scopesStr)
-                .lastActiveAt(LocalDateTime.now())
-                .createdAt(LocalDateTime.now())
+                .lastActiveAt(now)
+                .createdAt(now)
                 .build();
 
-        return sessionRepository.save(session);
+        UserSession saved = sessionRepository.save(session);
+
+        // 기기/위치 정보는 커밋 후 백그라운드에서 보강 (로그인 지연에 포함되지 않음)
+        sessionEnrichmentQueue.enqueue(tokenHash, ipAddress, userAgent);
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public UserSession rotateSession(UserSession currentSession, String newRefreshToken, String newAccessTokenJti,
+                                     HttpServletRequest request, boolean isPkceFlow, Set<String> scopes,
+                                     Client client) {
+        User user = currentSession.getUser();
+
+        // 기존 세션 무효화 (관리 상태 엔티티이므로 별도 save 없이 새 세션 INSERT와 함께 flush)
+        currentSession.revoke();
+        sessionAdmissionService.remove(admissionScope(user.getId(), currentSession.getClientId()),
+                List.of(currentSession.getRefreshTokenHash()));
+
+        // 기존 Access Token 블랙리스트 등록 (토큰 만료 시각까지)
+        if (currentSession.getAccessTokenJti() != null) {
+            blacklistService.blacklistJtiUntil(
+                    currentSession.getAccessTokenJti(),
+                    currentSession.accessTokenExpiry(jwtUtil.getJwtExpiration())
+            );
+        }
+
+        return createSession(user, newRefreshToken, newAccessTokenJti, request, isPkceFlow, scopes, client);
     }
 
     /**
      * 동시 세션 수 제한 적용
+     * 제한 단위는 (사용자, 클라이언트): 직접 로그인 세션은 session.max-per-user,
+     * OAuth 클라이언트 세션은 Client.maxTokensPerUser를 적용하므로 한 클라이언트가 다른 앱의 세션을 밀어내지 않음
+     * Redis 활성 세션 집합에서 새 세션 입장과 초과분 선정을 원자적으로 처리하고,
+     * 선정된 세션은 한 번의 UPDATE로 무효화
+     * Redis를 사용할 수 없으면 사용자 행을 잠근 뒤 DB에서 초과분 선정
+     * (이때 Redis 집합은 SessionAdmissionService가 복구 후 비워 DB 기준으로 다시 채움)
      */
-    private void enforceSessionLimit(User user) {
-        long activeCount = sessionRepository.countActiveSessionsByUser(user, LocalDateTime.now());
-
-        if (activeCount >= maxSessionsPerUser) {
-            // 가장 오래된 세션을 무효화
-            List<UserSession> oldestSessions = sessionRepository
-                    .findOldestActiveSessionsByUser(user, LocalDateTime.now());
-
-            if (!oldestSessions.isEmpty()) {
-                UserSession oldest = oldestSessions.get(0);
-                oldest.revoke();
-
-                // 해당 세션의 Access Token도 블랙리스트에 추가
-                if (oldest.getAccessTokenJti() != null) {
-                    blacklistService.blacklistJti(
-                            oldest.getAccessTokenJti(),
-                            jwtUtil.getJwtExpiration() / 1000
-                    );
+    private void enforceSessionLimit(User user, String clientId, int limit,
+                                     String newSessionHash, LocalDateTime createdAt) {
+        List<UserSession> evicted = sessionAdmissionService
+                .admit(admissionScope(user.getId(), clientId), newSessionHash, toEpochMillis(createdAt), limit,
+                        () -> activeSessionSeed(user, clientId))
+                .map(hashes -> hashes.isEmpty() ? List.<UserSession>of() : sessionRepository.findAllById(hashes))
+                .orElseGet(() -> findExcessSessionsLocked(user, clientId, limit));
+
+        if (!evicted.isEmpty()) {
+            // 해당 세션들의 Access Token도 블랙리스트에 추가 (한 번의 왕복)
+            blacklistAccessTokens(evicted.stream().filter(session -> !session.getIsRevoked()).toList());
+
+            int revoked = sessionRepository.revokeByRefreshTokenHashes(
+                    evicted.stream().map(UserSession::getRefreshTokenHash).toList());
+            log.info("Session limit exceeded. Revoked {} oldest session(s) for user: {}, client: {}",
+                    revoked, user.getEmail(), clientId);
+        }
+    }
+
+    /**
+     * Redis 활성 세션 집합 초기화용 DB 활성 세션 (해시 -> 생성 시각)
+     */
+    private Map<String, Long> activeSessionSeed(User user, String clientId) {
+        Map<String, Long> seed = new LinkedHashMap<>();
+        for (UserSession session : findOldestActiveSessions(user, clientId)) {
+            seed.put(session.getRefreshTokenHash(), toEpochMillis(session.getCreatedAt()));
+        }
+        return seed;
+    }
+
+    /**
+     * DB 기반 초과분 선정 (Redis 장애 시)
+     * 사용자 행을 잠가 같은 사용자의 동시 로그인을 직렬화
+     */
+    private List<UserSession> findExcessSessionsLocked(User user, String clientId, int limit) {
+        userRepository.lockById(user.getId());
+
+        List<UserSession> active = findOldestActiveSessions(user, clientId);
+        int excess = active.size() - limit + 1;
+        return excess > 0 ? active.subList(0, excess) : List.of();
+    }
+
+    private List<UserSession> findOldestActiveSessions(User user, String clientId) {
+        LocalDateTime now = LocalDateTime.now();
+        return clientId == null
+                ? sessionRepository.findOldestActiveFirstPartySessionsByUser(user, now)
+                : sessionRepository.findOldestActiveSessionsByUserAndClientId(user, clientId, now);
+    }
+
+    /**
+     * 세션 제한 단위 (직접 로그인: 사용자 ID, OAuth: 사용자 ID:클라이언트 ID)
+     */
+    private static String admissionScope(Long userId, String clientId) {
+        return clientId == null ? userId.toString() : userId + ":" + clientId;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 세션들의 Access Token JTI를 한 번의 파이프라인으로 블랙리스트에 추가
+     * TTL은 각 토큰의 실제 만료 시각까지 (이미 만료된 토큰은 제외)
+     */
+    private void blacklistAccessTokens(List<UserSession> sessions) {
+        long accessTokenTtlMillis = jwtUtil.getJwtExpiration();
+        Map<String, Long> jtiTtls = new LinkedHashMap<>();
+        for (UserSession session : sessions) {
+            if (session.getAccessTokenJti() != null) {
+                long ttlSeconds = TokenBlacklistService.ttlUntil(session.accessTokenExpiry(accessTokenTtlMillis));
+                if (ttlSeconds > 0) {
+                    jtiTtls.put(session.getAccessTokenJti(), ttlSeconds);
                 }
+            }
+        }
 
-                sessionRepository.save(oldest);
-                log.info("Session limit exceeded. Revoked oldest session for user: {}", user.getEmail());
+        if (!jtiTtls.isEmpty()) {
+            Map<String, Boolean> results = blacklistService.blacklistJtis(jtiTtls);
+            long failed = results.values().stream().filter(ok -> !ok).count();
+            if (failed > 0) {
+                log.warn("Failed to blacklist {} of {} access tokens in Redis", failed, jtiTtls.size());
             }
         }
     }
@@ -135,7 +251,7 @@ public class SessionServiceImpl implements SessionService {
     @Override
     @Transactional(readOnly = true)
     public List<UserSessionDTO> getActiveSessions(String userEmail, String currentRefreshToken) {
-        User user = userRepository.findByEmail(userEmail)
+        User user = userCacheService.findByEmail(userEmail)
                 .orElseThrow(() -> new BadCredentialsException("User not found"));
 
         String currentHash = currentRefreshToken != null ? hashToken(currentRefreshToken) : null;
@@ -143,22 +259,34 @@ public class SessionServiceImpl implements SessionService {
         List<UserSession> sessions = sessionRepository
                 .findActiveSessionsByUser(user, LocalDateTime.now());
 
+        // 아직 DB에 반영되지 않은 활동 시각 병합 (Redis 조회 1회, 세션의 현재 Access Token JTI 기준)
+        Map<String, LocalDateTime> pendingActivity = sessionActivityStore.getPendingActivity(
+                sessions.stream().map(UserSession::getAccessTokenJti).filter(Objects::nonNull).toList());
+
         return sessions.stream()
-                .map(session -> toDTO(session, currentHash))
+                .map(session -> toDTO(session, currentHash,
+                        session.getAccessTokenJti() != null ? pendingActivity.get(session.getAccessTokenJti()) : null))
+                .sorted(Comparator.comparing(UserSessionDTO::getLastActiveAt,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
                 .collect(Collectors.toList());
     }
 
-    private UserSessionDTO toDTO(UserSession session, String currentHash) {
+    private UserSessionDTO toDTO(UserSession session, String currentHash, LocalDateTime pendingLastActiveAt) {
         boolean isCurrent = currentHash != null &&
                 currentHash.equals(session.getRefreshTokenHash());
 
+        LocalDateTime lastActiveAt = session.getLastActiveAt();
+        if (pendingLastActiveAt != null && (lastActiveAt == null || pendingLastActiveAt.isAfter(lastActiveAt))) {
+            lastActiveAt = pendingLastActiveAt;
+        }
+
         return UserSessionDTO.builder()
                 .sessionId(session.getRefreshTokenHash())
                 .deviceType(session.getDeviceType())
                 .deviceName(session.getDeviceName())
                 .ipAddress(session.getIpAddress())
                 .location(session.getLocation())
-                .lastActiveAt(session.getLastActiveAt())
+                .lastActiveAt(lastActiveAt)
                 .createdAt(session.getCreatedAt())
                 .expiresAt(session.getExpiresAt())
                 .isCurrent(isCurrent)
@@ -168,7 +296,7 @@ public class SessionServiceImpl implements SessionService {
     @Override
     @Transactional
     public void revokeSession(String userEmail, String sessionId, String currentAccessToken) {
-        User user = userRepository.findByEmail(userEmail)
+        User user = userCacheService.findByEmail(userEmail)
                 .orElseThrow(() -> new BadCredentialsException("User not found"));
 
         UserSession session = sessionRepository.findByRefreshTokenHash(sessionId)
@@ -181,12 +309,14 @@ public class SessionServiceImpl implements SessionService {
 
         session.revoke();
         sessionRepository.save(session);
+        sessionAdmissionService.remove(admissionScope(user.getId(), session.getClientId()),
+                List.of(session.getRefreshTokenHash()));
 
-        // 해당 세션의 Access Token 블랙리스트 등록
+        // 해당 세션의 Access Token 블랙리스트 등록 (토큰 만료 시각까지)
         if (session.getAccessTokenJti() != null) {
-            blacklistService.blacklistJti(
+            blacklistService.blacklistJtiUntil(
                     session.getAccessTokenJti(),
-                    jwtUtil.getJwtExpiration() / 1000
+                    session.accessTokenExpiry(jwtUtil.getJwtExpiration())
             );
         }
 
@@ -196,23 +326,16 @@ public class SessionServiceImpl implements SessionService {
     @Override
     @Transactional
     public void revokeAllSessions(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
+        User user = userCacheService.findByEmail(userEmail)
                 .orElseThrow(() -> new BadCredentialsException("User not found"));
 
-        // 모든 활성 세션의 Access Token을 블랙리스트에 추가
-        List<UserSession> activeSessions = sessionRepository
-                .findActiveSessionsByUser(user, LocalDateTime.now());
-
-        for (UserSession session : activeSessions) {
-            if (session.getAccessTokenJti() != null) {
-                blacklistService.blacklistJti(
-                        session.getAccessTokenJti(),
-                        jwtUtil.getJwtExpiration() / 1000
-                );
-            }
-        }
+        // 지금까지 발급된 모든 Access Token 무효화 (세션 수와 무관하게 Redis 쓰기 1회)
+        revocationEpochService.revokeAllIssuedBefore(user.getEmail());
 
+        List<String> clientIds = sessionRepository.findActiveClientIdsByUser(user);
         int revokedCount = sessionRepository.revokeAllByUser(user);
+        sessionAdmissionService.clear(admissionScope(user.getId(), null));
+        clientIds.forEach(clientId -> sessionAdmissionService.clear(admissionScope(user.getId(), clientId)));
         log.info("All sessions revoked for user: {}. Count: {}", userEmail, revokedCount);
 
         // OAuth 서버사이드 세션(Redis)도 무효화
@@ -238,7 +361,7 @@ public class SessionServiceImpl implements SessionService {
     @Override
     @Transactional
     public void revokeOtherSessions(String userEmail, String currentRefreshToken) {
-        User user = userRepository.findByEmail(userEmail)
+        User user = userCacheService.findByEmail(userEmail)
                 .orElseThrow(() -> new BadCredentialsException("User not found"));
 
         String currentHash = hashToken(currentRefreshToken);
@@ -247,17 +370,16 @@ public class SessionServiceImpl implements SessionService {
         List<UserSession> activeSessions = sessionRepository
                 .findActiveSessionsByUser(user, LocalDateTime.now());
 
-        for (UserSession session : activeSessions) {
-            if (!session.getRefreshTokenHash().equals(currentHash) &&
-                    session.getAccessTokenJti() != null) {
-                blacklistService.blacklistJti(
-                        session.getAccessTokenJti(),
-                        jwtUtil.getJwtExpiration() / 1000
-                );
-            }
-        }
+        List<UserSession> otherSessions = activeSessions.stream()
+                .filter(session -> !session.getRefreshTokenHash().equals(currentHash))
+                .toList();
+        blacklistAccessTokens(otherSessions);
 
         int revokedCount = sessionRepository.revokeOthersByUser(user, currentHash);
+        otherSessions.stream()
+                .collect(Collectors.groupingBy(session -> admissionScope(user.getId(), session.getClientId()),
+                        Collectors.mapping(UserSession::getRefreshTokenHash, Collectors.toList())))
+                .forEach(sessionAdmissionService::remove);
         log.info("Other sessions revoked for user: {}. Count: {}", userEmail, revokedCount);
     }
 
@@ -286,15 +408,16 @@ public class SessionServiceImpl implements SessionService {
     @Override
     @Transactional
     public void updateSessionActivity(String refreshToken, String newAccessTokenJti) {
-        String tokenHash = hashToken(refreshToken);
-        Optional<UserSession> sessionOpt = sessionRepository.findByRefreshTokenHash(tokenHash);
+        // 행을 어차피 갱신하므로 활동 시각도 같은 UPDATE로 기록 (이후 요청의 활동 시각은 SessionActivityStore가 JTI 기준으로 반영)
+        sessionRepository.updateAccessToken(hashToken(refreshToken), newAccessTokenJti, accessTokenExpiresAt(),
+                LocalDateTime.now());
+    }
 
-        if (sessionOpt.isPresent()) {
-            UserSession session = sessionOpt.get();
-            session.updateActivity();
-            session.setAccessTokenJti(newAccessTokenJti);
-            sessionRepository.save(session);
-        }
+    /**
+     * 지금 발급된 Access Token의 만료 시각 (JwtUtil과 동일한 수명)
+     */
+    private LocalDateTime accessTokenExpiresAt() {
+        return LocalDateTime.now().plusNanos(jwtUtil.getJwtExpiration() * 1_000_000L);
     }
 
     @Override
@@ -2,6 +2,7 @@ package kr.hyfata.rest.api.common.config;
 
 import kr.hyfata.rest.api.auth.entity.Client;
 import kr.hyfata.rest.api.auth.repository.ClientRepository;
+import kr.hyfata.rest.api.auth.service.ClientRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -10,6 +11,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * Client secrets encryption initializer
@@ -21,8 +23,11 @@ import java.util.List;
 @Slf4j
 public class ClientSecretEncryptionInitializer implements ApplicationRunner {
 
+    private static final Pattern ENCODED_WITH_ID = Pattern.compile("^\\{[a-z0-9@_.-]+}.+", Pattern.CASE_INSENSITIVE);
+
     private final ClientRepository clientRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ClientRegistry clientRegistry;
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
@@ -32,8 +37,8 @@ public class ClientSecretEncryptionInitializer implements ApplicationRunner {
         int encryptedCount = 0;
 
         for (Client client : clients) {
-            // Skip if already encrypted (BCrypt hashes start with $2a$, $2b$, or $2y$)
-            if (client.getClientSecret() != null && client.getClientSecret().startsWith("$2")) {
+            // Skip if already encrypted ({id} prefixed hashes, or legacy BCrypt hashes starting with $2a$, $2b$, or $2y$)
+            if (client.getClientSecret() != null && isEncoded(client.getClientSecret())) {
                 continue;
             }
 
@@ -42,6 +47,7 @@ public class ClientSecretEncryptionInitializer implements ApplicationRunner {
                 String encryptedSecret = passwordEncoder.encode(client.getClientSecret());
                 client.setClientSecret(encryptedSecret);
                 clientRepository.save(client);
+                clientRegistry.evict(client.getClientId());
                 encryptedCount++;
                 log.debug("Encrypted clientSecret for client: {}", client.getClientId());
             }
@@ -53,4 +59,8 @@ public class ClientSecretEncryptionInitializer implements ApplicationRunner {
             log.debug("All client secrets are already encrypted");
         }
     }
+
+    private static boolean isEncoded(String clientSecret) {
+        return clientSecret.startsWith("$2") || ENCODED_WITH_ID.matcher(clientSecret).matches();
+    }
 }
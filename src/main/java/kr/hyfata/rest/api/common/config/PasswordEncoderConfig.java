@@ -0,0 +1,114 @@
+package kr.hyfata.rest.api.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hyfata.rest.api.common.security.BoundedPasswordEncoder;
+import kr.hyfata.rest.api.common.security.PasswordHashCalibrator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 비밀번호 해시 설정
+ * - 새 해시는 {bcrypt} 또는 {argon2} 접두사를 붙여 저장 (security.password.algorithm)
+ * - 접두사 없는 기존 해시는 BCrypt로 검증하고, 로그인 성공 시 현재 설정으로 다시 해싱
+ * - 작업 계수는 기동 시 이 노드에서 측정해 목표 시간에 맞춤 (노드마다 다를 수 있으나,
+ *   다시 해싱은 저장된 계수가 현재 노드보다 낮을 때만 일어나므로 노드 간에 번갈아 바뀌지 않음)
+ * - 해싱/검증은 BoundedPasswordEncoder의 전용 실행기에서 수행
+ */
+@Configuration
+@Slf4j
+public class PasswordEncoderConfig {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+
+    @Value("${security.password.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${security.password.calibration.enabled:true}")
+    private boolean calibrationEnabled;
+
+    @Value("${security.password.calibration.target-ms:250}")
+    private long targetMillis;
+
+    @Value("${security.password.bcrypt.min-strength:10}")
+    private int bcryptMinStrength;
+
+    @Value("${security.password.bcrypt.max-strength:14}")
+    private int bcryptMaxStrength;
+
+    @Value("${security.password.argon2.memory-kib:19456}")
+    private int argon2MemoryKib;
+
+    @Value("${security.password.argon2.parallelism:1}")
+    private int argon2Parallelism;
+
+    @Value("${security.password.argon2.min-iterations:2}")
+    private int argon2MinIterations;
+
+    @Value("${security.password.argon2.max-iterations:10}")
+    private int argon2MaxIterations;
+
+    /**
+     * 전용 실행기 크기 (0이면 CPU 코어 수)
+     */
+    @Value("${security.crypto.threads:0}")
+    private int cryptoThreads;
+
+    @Value("${security.crypto.queue-capacity:64}")
+    private int cryptoQueueCapacity;
+
+    @Value("${security.crypto.wait-timeout-ms:5000}")
+    private long cryptoWaitTimeoutMillis;
+
+    @Value("${security.crypto.retry-after-seconds:1}")
+    private long cryptoRetryAfterSeconds;
+
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(ObjectProvider<MeterRegistry> meterRegistry) {
+        String idForEncode = idForEncode();
+        Duration target = Duration.ofMillis(targetMillis);
+
+        int bcryptStrength = calibrationEnabled && BCRYPT.equals(idForEncode)
+                ? PasswordHashCalibrator.bcryptStrength(target, bcryptMinStrength, bcryptMaxStrength)
+                : bcryptMinStrength;
+        int argon2Iterations = calibrationEnabled && ARGON2.equals(idForEncode)
+                ? PasswordHashCalibrator.argon2Iterations(target, argon2MemoryKib, argon2Parallelism,
+                        argon2MinIterations, argon2MaxIterations)
+                : argon2MinIterations;
+
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, PasswordHashCalibrator.argon2(argon2MemoryKib, argon2Parallelism, argon2Iterations));
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(idForEncode, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        log.info("Password hashing: algorithm={}, bcryptStrength={}, argon2Iterations={}, argon2MemoryKib={}",
+                idForEncode, bcryptStrength, argon2Iterations, argon2MemoryKib);
+
+        int threads = cryptoThreads > 0 ? cryptoThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, threads, cryptoQueueCapacity,
+                Duration.ofMillis(cryptoWaitTimeoutMillis), cryptoRetryAfterSeconds,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    private String idForEncode() {
+        return switch (algorithm.trim().toLowerCase()) {
+            case "bcrypt" -> BCRYPT;
+            case "argon2", "argon2id" -> ARGON2;
+            default -> throw new IllegalStateException("Unsupported security.password.algorithm: " + algorithm);
+        };
+    }
+}
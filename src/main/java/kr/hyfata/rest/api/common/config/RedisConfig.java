@@ -1,16 +1,25 @@
 package kr.hyfata.rest.api.common.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import kr.hyfata.rest.api.auth.service.RevocationEpochService;
+import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
 
 /**
  * Redis 설정
- * 토큰 블랙리스트 저장에 사용
+ * 토큰 블랙리스트 저장 및 노드 간 무효화 전파(pub/sub)에 사용
  */
 @Configuration
 public class RedisConfig {
@@ -24,6 +33,12 @@ public class RedisConfig {
     @Value("${spring.data.redis.password:}")
     private String redisPassword;
 
+    @Value("${spring.data.redis.timeout:500ms}")
+    private Duration commandTimeout;
+
+    @Value("${spring.data.redis.connect-timeout:1s}")
+    private Duration connectTimeout;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
@@ -34,7 +49,17 @@ public class RedisConfig {
             config.setPassword(redisPassword);
         }
 
-        return new LettuceConnectionFactory(config);
+        // 요청 스레드가 Redis 지연에 묶이지 않도록 짧은 명령 타임아웃 적용
+        // 연결이 끊긴 동안에는 명령을 쌓아두지 않고 즉시 실패 (서킷 브레이커가 이후 호출 차단)
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .commandTimeout(commandTimeout)
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build())
+                .build();
+
+        return new LettuceConnectionFactory(config, clientConfig);
     }
 
     @Bean
@@ -43,4 +68,26 @@ public class RedisConfig {
         template.setConnectionFactory(connectionFactory);
         return template;
     }
+
+    /**
+     * 토큰 무효화 pub/sub 구독
+     * 다른 노드의 blacklistJti / 전체 로그아웃을 로컬 무효화 집합에 반영
+     * 컨텍스트 시작 시 구독하지 않음 (Redis 장애 중에도 기동되도록) - RevocationSyncScheduler가 시작/재시도
+     */
+    @Bean
+    public RedisMessageListenerContainer revocationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TokenBlacklistService tokenBlacklistService,
+            RevocationEpochService revocationEpochService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public boolean isAutoStartup() {
+                return false;
+            }
+        };
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenBlacklistService, new ChannelTopic(TokenBlacklistService.REVOCATION_CHANNEL));
+        container.addMessageListener(revocationEpochService, new ChannelTopic(RevocationEpochService.EPOCH_CHANNEL));
+        return container;
+    }
 }
@@ -0,0 +1,18 @@
+package kr.hyfata.rest.api.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 비밀번호 해싱 전용 실행기의 대기열이 가득 찼거나 대기 시간이 초과된 경우
+ * 요청 스레드를 붙잡아 두지 않고 즉시 실패시키며, 응답은 503 + Retry-After
+ */
+@Getter
+public class CryptoCapacityExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public CryptoCapacityExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
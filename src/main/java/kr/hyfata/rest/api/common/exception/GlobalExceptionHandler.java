@@ -1,6 +1,7 @@
 package kr.hyfata.rest.api.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -33,6 +34,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
     }
 
+    @ExceptionHandler(CryptoCapacityExceededException.class)
+    public ResponseEntity<Map<String, String>> handleCryptoCapacityExceededException(CryptoCapacityExceededException e) {
+        log.warn("Password hashing capacity exceeded: {}", e.getMessage());
+        Map<String, String> response = new HashMap<>();
+        response.put("error", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        response.put("status", "SERVICE_UNAVAILABLE");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    @ExceptionHandler(RefreshInProgressException.class)
+    public ResponseEntity<Map<String, String>> handleRefreshInProgressException(RefreshInProgressException e) {
+        log.warn("Refresh already in progress: {}", e.getMessage());
+        Map<String, String> response = new HashMap<>();
+        response.put("error", "토큰 갱신이 진행 중입니다. 잠시 후 다시 시도해 주세요.");
+        response.put("status", "CONFLICT");
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception e) {
         log.error("Unexpected error: {}", e.getMessage(), e);
@@ -0,0 +1,18 @@
+package kr.hyfata.rest.api.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 다른 노드가 같은 Refresh Token을 갱신 중이고 짧은 대기 시간 안에 결과가 나오지 않은 경우
+ * 요청 스레드를 락 만료까지 붙잡아 두지 않고 즉시 실패시키며, 응답은 409 + Retry-After
+ */
+@Getter
+public class RefreshInProgressException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RefreshInProgressException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,91 @@
+package kr.hyfata.rest.api.common.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * 서명 검증이 끝난 Access Token의 파싱 결과
+ * 요청당 한 번만 생성되어 필터, scope Aspect, 컨트롤러가 공유
+ *
+ * @param subject    토큰 subject (이메일)
+ * @param jti        JWT ID
+ * @param clientId   발급 클라이언트 ID (없으면 null)
+ * @param scopes     발급된 scope 목록 (불변)
+ * @param role       발급 시점의 사용자 권한 (구버전 토큰은 null)
+ * @param status     발급 시점의 계정 상태 (구버전 토큰은 null)
+ * @param issuedAt   발급 시각 (밀리초 단위, 구버전 토큰은 초 단위)
+ * @param expiration 만료 시각
+ */
+public record AuthenticatedToken(
+        String subject,
+        String jti,
+        String clientId,
+        Set<String> scopes,
+        String role,
+        String status,
+        Instant issuedAt,
+        Instant expiration
+) {
+
+    /**
+     * 요청 속성 키
+     */
+    public static final String REQUEST_ATTRIBUTE = AuthenticatedToken.class.getName();
+
+    /**
+     * 토큰 클레임만으로 인증 주체를 구성할 수 있는지 여부
+     */
+    public boolean hasPrincipalClaims() {
+        return role != null && status != null;
+    }
+
+    /**
+     * 토큰 만료 여부 확인
+     */
+    public boolean isExpired() {
+        return expiration != null && expiration.isBefore(Instant.now());
+    }
+
+    /**
+     * 토큰의 남은 유효 시간(초) 반환
+     */
+    public long remainingSeconds() {
+        if (expiration == null) {
+            return 0;
+        }
+        return Math.max(0, expiration.getEpochSecond() - Instant.now().getEpochSecond());
+    }
+
+    /**
+     * 요청에 검증된 토큰을 저장
+     */
+    public void bindTo(HttpServletRequest request) {
+        request.setAttribute(REQUEST_ATTRIBUTE, this);
+    }
+
+    /**
+     * 요청에 저장된 검증된 토큰 조회
+     * @return 인증 필터를 통과한 토큰, 없으면 null
+     */
+    public static AuthenticatedToken from(HttpServletRequest request) {
+        Object value = request.getAttribute(REQUEST_ATTRIBUTE);
+        return value instanceof AuthenticatedToken token ? token : null;
+    }
+
+    /**
+     * 현재 요청 스레드에 바인딩된 검증된 토큰 조회
+     * @return 인증 필터를 통과한 토큰, 요청 컨텍스트 밖이거나 없으면 null
+     */
+    public static AuthenticatedToken current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object value = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return value instanceof AuthenticatedToken token ? token : null;
+    }
+}
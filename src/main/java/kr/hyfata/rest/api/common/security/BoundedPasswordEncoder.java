@@ -0,0 +1,140 @@
+package kr.hyfata.rest.api.common.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hyfata.rest.api.common.exception.CryptoCapacityExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱/검증 전용 실행기를 사용하는 PasswordEncoder
+ * BCrypt 같은 느린 해시를 고정 크기 스레드 풀에서만 수행해 동시에 도는 해시 수를 CPU 코어 수로 제한
+ * - 대기열(queue-capacity)이 가득 차면 대기 없이 CryptoCapacityExceededException (503 + Retry-After)
+ * - 대기열에 들어갔더라도 wait-timeout 안에 결과를 받지 못하면 작업을 취소하고 같은 예외
+ * - 메트릭: security.crypto.queue.size / security.crypto.active (gauge),
+ *   security.crypto.duration (해시 수행 시간) / security.crypto.queue.wait (대기 시간) (timer),
+ *   security.crypto.rejected (reason=queue_full|timeout)
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutNanos;
+    private final long retryAfterSeconds;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  Duration waitTimeout, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "crypto-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+
+        this.encodeTimer = Timer.builder("security.crypto.duration").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("security.crypto.duration").tag("operation", "matches").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("security.crypto.queue.wait").register(meterRegistry);
+        this.rejectedQueueFull = Counter.builder("security.crypto.rejected").tag("reason", "queue_full").register(meterRegistry);
+        this.rejectedTimeout = Counter.builder("security.crypto.rejected").tag("reason", "timeout").register(meterRegistry);
+        Gauge.builder("security.crypto.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("security.crypto.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+
+        log.info("Password hashing executor started: threads={}, queueCapacity={}, waitTimeout={}",
+                threads, queueCapacity, waitTimeout);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    /**
+     * 해시 형식 판별만 하므로 실행기를 거치지 않음
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 대기열 길이 (대기 중인 해시 작업 수)
+     */
+    public int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 애플리케이션 종료 시 실행기 정리
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task, Timer timer) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw new CryptoCapacityExceededException("Password hashing queue is full", retryAfterSeconds);
+        }
+
+        try {
+            return future.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedTimeout.increment();
+            throw new CryptoCapacityExceededException("Password hashing timed out", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+}
@@ -4,8 +4,10 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import kr.hyfata.rest.api.auth.service.RevocationEpochService;
+import kr.hyfata.rest.api.auth.service.SessionActivityStore;
 import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
-import kr.hyfata.rest.api.common.util.JwtUtil;
+import kr.hyfata.rest.api.auth.service.UserCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,28 +15,26 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserCacheService userCacheService;
+    private final SessionActivityStore sessionActivityStore;
     private final TokenBlacklistService tokenBlacklistService;
+    private final RevocationEpochService revocationEpochService;
+    private final SensitiveEndpointMatcher sensitiveEndpointMatcher;
 
-    @Value("${security.sensitive-endpoints:/api/auth/change-password,/api/users/me,/api/payments,/api/sessions}")
-    private String sensitiveEndpointsConfig;
-
-    private List<String> sensitiveEndpoints;
+    @Value("${security.stateless-principal:true}")
+    private boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -43,55 +43,108 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 이미 세션에서 복원된 인증 정보가 있으면 JWT 검증 스킵 (OAuth 서버사이드 세션 지원)
             if (SecurityContextHolder.getContext().getAuthentication() != null) {
                 log.debug("Authentication already present in SecurityContext (session-based), skipping JWT validation");
-                filterChain.doFilter(request, response);
+            } else if (!authenticate(request, response)) {
                 return;
             }
+        } catch (Exception e) {
+            log.error("Cannot set user authentication: {}", e.getMessage());
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Bearer 토큰을 한 번 검증하여 SecurityContext에 인증 정보 설정
+     * @return 필터 체인을 계속 진행하면 true, 응답을 이미 작성했으면 false
+     */
+    private boolean authenticate(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        final String jwt = extractJwtFromRequest(request);
+
+        log.debug("JWT from request: {}", jwt != null ? "present" : "null");
+
+        if (jwt == null) {
+            log.debug("No JWT token in request");
+            return true;
+        }
+
+        // 서명 검증은 요청당 최대 한 번 (캐시 적중 시 생략), 결과를 요청 속성으로 공유
+        final AuthenticatedToken token = verifiedTokenCache.verify(jwt);
+        if (token == null) {
+            log.warn("JWT validation failed for token");
+            return true;
+        }
+
+        log.debug("JWT validation passed");
+        token.bindTo(request);
+
+        // 전체 로그아웃/비밀번호 재설정 이전에 발급된 토큰 차단 (모든 요청)
+        if (revocationEpochService.isRevoked(token.subject(), token.issuedAt())) {
+            log.warn("Blocked request with token issued before revocation epoch: {}", token.subject());
+            writeRevokedResponse(response);
+            return false;
+        }
+
+        // 블랙리스트 확인: 모든 요청은 로컬 복제본, 민감한 API는 Redis까지 확인
+        if (token.jti() != null) {
+            boolean revoked = sensitiveEndpointMatcher.matches(request.getRequestURI())
+                    ? tokenBlacklistService.isJtiBlacklisted(token.jti())
+                    : tokenBlacklistService.isJtiRevokedLocally(token.jti());
+            if (revoked) {
+                log.warn("Blocked request with revoked token: {}", request.getRequestURI());
+                writeRevokedResponse(response);
+                return false;
+            }
+        }
+
+        final String email = token.subject();
+        log.debug("Extracted email from JWT: {}", email);
 
-            final String jwt = extractJwtFromRequest(request);
+        final UserDetails userDetails = resolvePrincipal(token);
+        log.debug("Loaded user: {}, username: {}", userDetails != null, userDetails != null ? userDetails.getUsername() : "null");
 
-            log.debug("JWT from request: {}", jwt != null ? "present" : "null");
+        // 서명/만료는 parseToken에서 이미 검증됨 - subject 일치 여부만 확인
+        if (userDetails != null && userDetails.getUsername().equals(email)) {
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            log.debug("Authentication set successfully for user: {}", email);
 
-            if (jwt == null) {
-                log.debug("No JWT token in request");
-            } else if (!jwtUtil.validateToken(jwt)) {
-                log.warn("JWT validation failed for token");
+            // 세션 활동 시각 기록 (Redis write-behind, 같은 토큰은 노드당 touch-interval에 한 번)
+            if (token.jti() != null) {
+                sessionActivityStore.touch(token.jti());
             }
+        } else {
+            log.warn("Token validation with userDetails failed for email: {}", email);
+        }
+        return true;
+    }
 
-            if (jwt != null && jwtUtil.validateToken(jwt)) {
-                log.debug("JWT validation passed");
-                // 민감한 API인 경우 블랙리스트 확인
-                if (isSensitiveEndpoint(request.getRequestURI())) {
-                    String jti = jwtUtil.extractJti(jwt);
-                    if (jti != null && tokenBlacklistService.isJtiBlacklisted(jti)) {
-                        log.warn("Blocked request with revoked token to sensitive endpoint: {}", request.getRequestURI());
-                        response.setStatus(HttpStatus.UNAUTHORIZED.value());
-                        response.setContentType("application/json");
-                        response.getWriter().write("{\"error\": \"Token has been revoked\"}");
-                        return;
-                    }
-                }
-
-                final String email = jwtUtil.extractEmail(jwt);
-                log.debug("Extracted email from JWT: {}", email);
-
-                final UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                log.debug("Loaded user: {}, username: {}", userDetails != null, userDetails != null ? userDetails.getUsername() : "null");
-
-                if (jwtUtil.validateToken(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("Authentication set successfully for user: {}", email);
-                } else {
-                    log.warn("Token validation with userDetails failed for email: {}", email);
-                }
+    /**
+     * 인증 주체 구성
+     * stateless 모드에서는 토큰의 role/status 클레임으로 구성하여 DB 조회 생략
+     * 클레임이 없는 구버전 토큰이거나 stateless 모드가 꺼져 있으면 User 캐시에서 조회 (조회 전용 경로)
+     * @return 인증 주체, 비활성 계정이면 null
+     */
+    private UserDetails resolvePrincipal(AuthenticatedToken token) {
+        if (statelessPrincipal && token.hasPrincipalClaims()) {
+            JwtUserPrincipal principal = JwtUserPrincipal.from(token);
+            if (!principal.isEnabled()) {
+                log.warn("Rejected token for inactive account: {} (status={})", token.subject(), token.status());
+                return null;
             }
-        } catch (Exception e) {
-            log.error("Cannot set user authentication: {}", e.getMessage());
+            return principal;
         }
+        return userCacheService.findByEmail(token.subject()).orElse(null);
+    }
 
-        filterChain.doFilter(request, response);
+    /**
+     * 무효화된 토큰 응답 작성
+     */
+    private void writeRevokedResponse(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\": \"Token has been revoked\"}");
     }
 
     /**
@@ -104,24 +157,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-
-    /**
-     * 민감한 API 엔드포인트인지 확인
-     */
-    private boolean isSensitiveEndpoint(String requestUri) {
-        if (sensitiveEndpoints == null) {
-            sensitiveEndpoints = Arrays.asList(sensitiveEndpointsConfig.split(","));
-        }
-
-        return sensitiveEndpoints.stream()
-                .anyMatch(endpoint -> {
-                    String pattern = endpoint.trim();
-                    if (pattern.endsWith("/**")) {
-                        // /api/payments/** 패턴 처리
-                        String prefix = pattern.substring(0, pattern.length() - 3);
-                        return requestUri.startsWith(prefix);
-                    }
-                    return requestUri.startsWith(pattern);
-                });
-    }
 }
@@ -1,5 +1,6 @@
 package kr.hyfata.rest.api.common.security;
 
+import kr.hyfata.rest.api.auth.service.RevocationEpochService;
 import kr.hyfata.rest.api.common.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +22,7 @@ import java.util.ArrayList;
 public class JwtChannelInterceptor implements ChannelInterceptor {
 
     private final JwtUtil jwtUtil;
+    private final RevocationEpochService revocationEpochService;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -44,9 +46,14 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
                 throw new IllegalArgumentException("JWT token is required");
             }
 
-            // JWT 토큰 검증
-            if (jwtUtil.validateToken(token)) {
-                String email = jwtUtil.extractEmail(token);
+            // JWT 토큰 검증 (서명 검증 1회)
+            AuthenticatedToken verified = jwtUtil.parseToken(token);
+            if (verified != null && revocationEpochService.isRevoked(verified.subject(), verified.issuedAt())) {
+                log.warn("Revoked JWT token provided for WebSocket connection: {}", verified.subject());
+                throw new IllegalArgumentException("Token has been revoked");
+            }
+            if (verified != null) {
+                String email = verified.subject();
                 log.info("WebSocket connection authenticated for user: {}", email);
 
                 // 검증된 사용자 정보를 Authentication에 설정
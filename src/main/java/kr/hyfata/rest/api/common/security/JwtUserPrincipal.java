@@ -0,0 +1,48 @@
+package kr.hyfata.rest.api.common.security;
+
+import kr.hyfata.rest.api.auth.entity.UserStatus;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 토큰 클레임만으로 구성한 인증 주체 (stateless 모드)
+ * 요청마다 users 테이블을 조회하지 않기 위해 사용하며,
+ * User 엔티티가 필요한 곳은 getUsername()(이메일)으로 직접 조회
+ *
+ * @param email  사용자 이메일 (토큰 subject)
+ * @param role   권한 (예: ROLE_USER)
+ * @param status 계정 상태 (UserStatus 이름)
+ */
+public record JwtUserPrincipal(String email, String role, String status) implements UserDetails {
+
+    public static JwtUserPrincipal from(AuthenticatedToken token) {
+        return new JwtUserPrincipal(token.subject(), token.role(), token.status());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role));
+    }
+
+    /**
+     * 토큰 기반 인증이므로 비밀번호 없음
+     */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return UserStatus.ACTIVE.name().equals(status);
+    }
+}
@@ -0,0 +1,90 @@
+package kr.hyfata.rest.api.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * 비밀번호 해시 작업 계수 보정
+ * 기동 시 이 노드에서 실제 해싱 시간을 측정해 목표 시간(target)을 넘지 않는 가장 높은 작업 계수를 선택
+ * - bcrypt: strength (한 단계마다 시간 2배)
+ * - argon2id: memory/parallelism은 고정, iterations (반복 횟수에 비례)
+ * 결과는 항상 [min, max] 범위 (느린 노드에서도 min 아래로 내려가지 않음)
+ */
+@Slf4j
+public final class PasswordHashCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    private PasswordHashCalibrator() {
+    }
+
+    /**
+     * 목표 시간 안에 들어오는 가장 높은 BCrypt strength
+     */
+    public static int bcryptStrength(Duration target, int minStrength, int maxStrength) {
+        return calibrate("bcrypt strength", target, minStrength, maxStrength,
+                BCryptPasswordEncoder::new, strength -> 2.0);
+    }
+
+    /**
+     * 목표 시간 안에 들어오는 가장 높은 Argon2id iterations
+     */
+    public static int argon2Iterations(Duration target, int memoryKib, int parallelism,
+                                       int minIterations, int maxIterations) {
+        return calibrate("argon2id iterations", target, minIterations, maxIterations,
+                iterations -> argon2(memoryKib, parallelism, iterations),
+                iterations -> (iterations + 1) / (double) iterations);
+    }
+
+    /**
+     * Argon2id 인코더 (salt 16바이트, 해시 32바이트)
+     */
+    public static Argon2PasswordEncoder argon2(int memoryKib, int parallelism, int iterations) {
+        return new Argon2PasswordEncoder(16, 32, parallelism, memoryKib, iterations);
+    }
+
+    /**
+     * 작업 계수를 min부터 한 단계씩 올리며 측정
+     * 다음 단계의 예상 시간(현재 측정값 x growth)이 목표를 넘으면 측정하지 않고 중단
+     */
+    private static int calibrate(String name, Duration target, int min, int max,
+                                 IntFunction<PasswordEncoder> encoderFactory, IntToDoubleFunction growth) {
+        long targetNanos = target.toNanos();
+        encoderFactory.apply(min).encode(SAMPLE_PASSWORD);
+
+        int cost = min;
+        long elapsed = measure(encoderFactory.apply(cost));
+        while (cost < max && elapsed * growth.applyAsDouble(cost) <= targetNanos) {
+            long next = measure(encoderFactory.apply(cost + 1));
+            if (next > targetNanos) {
+                break;
+            }
+            cost++;
+            elapsed = next;
+        }
+
+        log.info("Calibrated {}: {} ({} ms per hash, target {} ms)",
+                name, cost, Duration.ofNanos(elapsed).toMillis(), target.toMillis());
+        return cost;
+    }
+
+    /**
+     * 해싱 시간 (여러 번 측정한 최솟값)
+     */
+    private static long measure(PasswordEncoder encoder) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,400 @@
+package kr.hyfata.rest.api.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 민감한 API 엔드포인트 판별기
+ * security.sensitive-endpoints 설정을 기동 시 세그먼트 단위 트리로 컴파일하고, 요청마다 경로를 한 번 훑어 판별
+ *
+ * 패턴 문법 (Ant 스타일)
+ * - 리터럴 세그먼트: /api/account
+ * - ? (문자 1개), * (세그먼트 내 0개 이상), {var}, {var:정규식}
+ * - ** (0개 이상의 세그먼트)
+ * 모든 패턴은 하위 경로까지 포함 (/api/account == /api/account/**)
+ * 매칭은 세그먼트 단위 (/api/account는 /api/accounts와 일치하지 않음), 세그먼트의 ;matrix 파라미터는 무시
+ *
+ * 리터럴/와일드카드 세그먼트는 할당 없이 판별, {var:정규식} 세그먼트만 Matcher 생성
+ * 설정 변경은 주기적으로 Environment를 확인해 새 트리로 교체 (volatile 참조, 요청 처리 중단 없음)
+ */
+@Component
+@Slf4j
+public class SensitiveEndpointMatcher {
+
+    static final String PROPERTY = "security.sensitive-endpoints";
+    private static final String DEFAULT_ENDPOINTS =
+            "/api/auth/change-password,/api/users/me,/api/payments,/api/sessions";
+
+    private final Environment environment;
+    private volatile Compiled compiled;
+
+    public SensitiveEndpointMatcher(Environment environment) {
+        this.environment = environment;
+        this.compiled = Compiled.of(currentConfig());
+        log.info("Sensitive endpoints compiled: {} pattern(s)", compiled.patternCount);
+    }
+
+    /**
+     * 요청 URI가 민감한 엔드포인트인지 확인
+     */
+    public boolean matches(String requestUri) {
+        return requestUri != null && compiled.matches(requestUri);
+    }
+
+    /**
+     * 설정이 바뀌었으면 다시 컴파일
+     * 기본 30초마다 실행
+     */
+    @Scheduled(fixedDelayString = "${security.sensitive-endpoints-reload-ms:30000}",
+            initialDelayString = "${security.sensitive-endpoints-reload-ms:30000}")
+    public void reloadIfChanged() {
+        String config = currentConfig();
+        if (!config.equals(compiled.source)) {
+            reload(config);
+        }
+    }
+
+    /**
+     * 주어진 설정으로 다시 컴파일하여 교체
+     * 잘못된 패턴이면 기존 설정 유지
+     */
+    public void reload(String config) {
+        try {
+            compiled = Compiled.of(config);
+            log.info("Sensitive endpoints reloaded: {} pattern(s)", compiled.patternCount);
+        } catch (RuntimeException e) {
+            log.error("Invalid sensitive endpoint configuration, keeping previous one: {}", e.getMessage());
+        }
+    }
+
+    private String currentConfig() {
+        return environment.getProperty(PROPERTY, DEFAULT_ENDPOINTS);
+    }
+
+    /**
+     * 컴파일된 패턴 트리 (불변)
+     */
+    private static final class Compiled {
+
+        private final String source;
+        private final int patternCount;
+        private final Node root;
+
+        private Compiled(String source, int patternCount, Node root) {
+            this.source = source;
+            this.patternCount = patternCount;
+            this.root = root;
+        }
+
+        static Compiled of(String source) {
+            NodeBuilder root = new NodeBuilder();
+            int count = 0;
+            for (String pattern : source.split(",")) {
+                String trimmed = pattern.trim();
+                if (!trimmed.isEmpty()) {
+                    root.add(trimmed);
+                    count++;
+                }
+            }
+            return new Compiled(source, count, root.build());
+        }
+
+        boolean matches(String path) {
+            return root.matches(path, 0);
+        }
+    }
+
+    /**
+     * 트리 노드
+     * 리터럴 자식은 세그먼트 해시 순으로 정렬해 이진 탐색, 와일드카드 자식은 순서대로 시도
+     */
+    private static final class Node {
+
+        private static final Node[] NO_NODES = new Node[0];
+
+        private final boolean terminal;
+        private final int[] literalHashes;
+        private final String[] literalKeys;
+        private final Node[] literalNodes;
+        private final SegmentPattern[] wildcards;
+        private final Node[] wildcardNodes;
+        private final Node anySegments;
+
+        private Node(boolean terminal, int[] literalHashes, String[] literalKeys, Node[] literalNodes,
+                     SegmentPattern[] wildcards, Node[] wildcardNodes, Node anySegments) {
+            this.terminal = terminal;
+            this.literalHashes = literalHashes;
+            this.literalKeys = literalKeys;
+            this.literalNodes = literalNodes;
+            this.wildcards = wildcards;
+            this.wildcardNodes = wildcardNodes;
+            this.anySegments = anySegments;
+        }
+
+        /**
+         * @param pos 다음 세그먼트를 찾기 시작할 위치
+         */
+        boolean matches(String path, int pos) {
+            if (terminal) {
+                return true;
+            }
+
+            int start = skipSlashes(path, pos);
+            if (start >= path.length()) {
+                return false;
+            }
+            int end = segmentEnd(path, start);
+            int next = nextSlash(path, end);
+
+            Node literal = findLiteral(path, start, end);
+            if (literal != null && literal.matches(path, next)) {
+                return true;
+            }
+
+            for (int i = 0; i < wildcards.length; i++) {
+                if (wildcards[i].matches(path, start, end) && wildcardNodes[i].matches(path, next)) {
+                    return true;
+                }
+            }
+
+            // ** : 현재 세그먼트부터 0개 이상 건너뛰며 시도
+            if (anySegments != null) {
+                int skipFrom = start;
+                while (skipFrom < path.length()) {
+                    if (anySegments.matches(path, skipFrom)) {
+                        return true;
+                    }
+                    skipFrom = skipSlashes(path, nextSlash(path, skipFrom));
+                }
+            }
+            return false;
+        }
+
+        private Node findLiteral(String path, int start, int end) {
+            if (literalHashes.length == 0) {
+                return null;
+            }
+
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + path.charAt(i);
+            }
+
+            int index = Arrays.binarySearch(literalHashes, hash);
+            if (index < 0) {
+                return null;
+            }
+            // 해시 충돌 대비 같은 해시 구간 전체 확인
+            while (index > 0 && literalHashes[index - 1] == hash) {
+                index--;
+            }
+            int length = end - start;
+            for (; index < literalHashes.length && literalHashes[index] == hash; index++) {
+                String key = literalKeys[index];
+                if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+                    return literalNodes[index];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 컴파일 시에만 사용하는 가변 노드
+     */
+    private static final class NodeBuilder {
+
+        private boolean terminal;
+        private final Map<String, NodeBuilder> literals = new HashMap<>();
+        private final Map<String, NodeBuilder> wildcards = new LinkedHashMap<>();
+        private NodeBuilder anySegments;
+
+        void add(String pattern) {
+            NodeBuilder node = this;
+            for (String segment : pattern.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (segment.equals("**")) {
+                    if (node.anySegments == null) {
+                        node.anySegments = new NodeBuilder();
+                    }
+                    node = node.anySegments;
+                } else if (SegmentPattern.isWildcard(segment)) {
+                    node = node.wildcards.computeIfAbsent(segment, key -> new NodeBuilder());
+                } else {
+                    node = node.literals.computeIfAbsent(segment, key -> new NodeBuilder());
+                }
+            }
+            node.terminal = true;
+        }
+
+        Node build() {
+            // 끝이 **인 패턴은 하위 경로 포함 규칙과 같으므로 현재 노드를 종단으로 처리
+            boolean isTerminal = terminal || (anySegments != null && anySegments.terminal);
+
+            List<Map.Entry<String, NodeBuilder>> sorted = new ArrayList<>(literals.entrySet());
+            sorted.sort(Comparator.comparingInt(entry -> entry.getKey().hashCode()));
+            int[] hashes = new int[sorted.size()];
+            String[] keys = new String[sorted.size()];
+            Node[] nodes = new Node[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                hashes[i] = sorted.get(i).getKey().hashCode();
+                keys[i] = sorted.get(i).getKey();
+                nodes[i] = sorted.get(i).getValue().build();
+            }
+
+            SegmentPattern[] patterns = new SegmentPattern[wildcards.size()];
+            Node[] patternNodes = wildcards.isEmpty() ? Node.NO_NODES : new Node[wildcards.size()];
+            int i = 0;
+            for (Map.Entry<String, NodeBuilder> entry : wildcards.entrySet()) {
+                patterns[i] = SegmentPattern.compile(entry.getKey());
+                patternNodes[i] = entry.getValue().build();
+                i++;
+            }
+
+            Node any = (anySegments != null && !isTerminal) ? anySegments.build() : null;
+            return new Node(isTerminal, hashes, keys, nodes, patterns, patternNodes, any);
+        }
+    }
+
+    /**
+     * 세그먼트 하나에 대한 와일드카드 패턴 (?, *, {var}, {var:정규식})
+     */
+    private static final class SegmentPattern {
+
+        private final String glob;
+        private final Pattern regex;
+
+        private SegmentPattern(String glob, Pattern regex) {
+            this.glob = glob;
+            this.regex = regex;
+        }
+
+        static boolean isWildcard(String segment) {
+            return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0;
+        }
+
+        static SegmentPattern compile(String segment) {
+            if (segment.indexOf(':') < 0 || segment.indexOf('{') < 0) {
+                // {var}는 *와 동일
+                return new SegmentPattern(segment.replaceAll("\\{[^}]*}", "*"), null);
+            }
+
+            StringBuilder regex = new StringBuilder();
+            int i = 0;
+            while (i < segment.length()) {
+                char c = segment.charAt(i);
+                if (c == '{') {
+                    int close = closingBrace(segment, i);
+                    if (close < 0) {
+                        throw new IllegalArgumentException("Unclosed '{' in pattern segment: " + segment);
+                    }
+                    String variable = segment.substring(i + 1, close);
+                    int colon = variable.indexOf(':');
+                    regex.append('(').append(colon >= 0 ? variable.substring(colon + 1) : "[^/]*").append(')');
+                    i = close + 1;
+                } else {
+                    regex.append(c == '*' ? "[^/]*" : c == '?' ? "[^/]" : Pattern.quote(String.valueOf(c)));
+                    i++;
+                }
+            }
+            return new SegmentPattern(null, Pattern.compile(regex.toString()));
+        }
+
+        /**
+         * open 위치의 {에 대응하는 } 위치 (정규식 안의 {n}, {m,n} 중첩과 \{, \} 이스케이프 허용)
+         * @return 닫는 위치, 없으면 -1
+         */
+        private static int closingBrace(String segment, int open) {
+            int depth = 0;
+            for (int i = open; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == '{') {
+                    depth++;
+                } else if (c == '}' && --depth == 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        boolean matches(String path, int start, int end) {
+            if (regex != null) {
+                return regex.matcher(path).region(start, end).matches();
+            }
+            return globMatches(path, start, end);
+        }
+
+        /**
+         * *, ? 글롭 매칭 (역추적 지점 1개만 유지하는 선형 알고리즘)
+         */
+        private boolean globMatches(String path, int start, int end) {
+            int p = 0;
+            int s = start;
+            int starIndex = -1;
+            int starMatch = start;
+
+            while (s < end) {
+                if (p < glob.length() && glob.charAt(p) == '*') {
+                    starIndex = p++;
+                    starMatch = s;
+                } else if (p < glob.length() && (glob.charAt(p) == '?' || glob.charAt(p) == path.charAt(s))) {
+                    p++;
+                    s++;
+                } else if (starIndex >= 0) {
+                    p = starIndex + 1;
+                    s = ++starMatch;
+                } else {
+                    return false;
+                }
+            }
+            while (p < glob.length() && glob.charAt(p) == '*') {
+                p++;
+            }
+            return p == glob.length();
+        }
+    }
+
+    private static int skipSlashes(String path, int pos) {
+        while (pos < path.length() && path.charAt(pos) == '/') {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * 세그먼트 끝 (다음 '/' 또는 matrix 파라미터 시작 ';')
+     */
+    private static int segmentEnd(String path, int start) {
+        int i = start;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '/' || c == ';') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static int nextSlash(String path, int pos) {
+        while (pos < path.length() && path.charAt(pos) != '/') {
+            pos++;
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,131 @@
+package kr.hyfata.rest.api.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.hyfata.rest.api.common.util.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 검증된 Access Token 캐시
+ * 같은 토큰이 만료 전까지 반복 전송되는 경우 JWS 서명 검증을 건너뛰기 위한 노드 로컬 캐시
+ * - 키: 원본 토큰의 SHA-256 (토큰 원문은 메모리에 보관하지 않음)
+ * - 양성 캐시: 토큰의 exp 시각까지만 유지
+ * - 음성 캐시: 서명 검증 실패 토큰을 짧게 유지하여 위조 토큰 반복 요청의 CPU 소모 차단
+ *
+ * 토큰 무효화(블랙리스트)는 캐시와 별개로 매 요청 확인하므로 캐시 적중과 무관하게 적용됨
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Cache<String, AuthenticatedToken> verified;
+    private final Cache<String, Boolean> rejected;
+
+    public VerifiedTokenCache(
+            JwtUtil jwtUtil,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${jwt.verification-cache.enabled:true}") boolean enabled,
+            @Value("${jwt.verification-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.verification-cache.negative-max-size:1000}") long negativeMaxSize,
+            @Value("${jwt.verification-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+
+        this.rejected = Caffeine.newBuilder()
+                .maximumSize(negativeMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(negativeTtlSeconds))
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, verified, "jwt.verified");
+            CaffeineCacheMetrics.monitor(registry, rejected, "jwt.rejected");
+        });
+
+        log.info("JWT verification cache {} (maxSize={}, negativeTtl={}s)",
+                enabled ? "enabled" : "disabled", maxSize, negativeTtlSeconds);
+    }
+
+    /**
+     * 토큰 검증 (캐시 우선)
+     * @return 검증된 토큰, 유효하지 않으면 null
+     */
+    public AuthenticatedToken verify(String token) {
+        if (!enabled) {
+            return jwtUtil.parseToken(token);
+        }
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String key = DigestUtils.sha256Hex(token);
+
+        AuthenticatedToken cached = verified.getIfPresent(key);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
+        if (rejected.getIfPresent(key) != null) {
+            return null;
+        }
+
+        AuthenticatedToken parsed = jwtUtil.parseToken(token);
+        if (parsed == null) {
+            rejected.put(key, Boolean.TRUE);
+            return null;
+        }
+
+        if (parsed.expiration() != null) {
+            verified.put(key, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * 전체 캐시 비우기 (서명 키 교체 등)
+     */
+    public void invalidateAll() {
+        verified.invalidateAll();
+        rejected.invalidateAll();
+    }
+
+    /**
+     * 엔트리별 만료 시각 = 토큰 exp
+     */
+    private static class UntilTokenExpiry implements Expiry<String, AuthenticatedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, AuthenticatedToken value, long currentTime) {
+            long remainingMillis = value.expiration().toEpochMilli() - Instant.now().toEpochMilli();
+            return Duration.ofMillis(Math.max(0, remainingMillis)).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, AuthenticatedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, AuthenticatedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
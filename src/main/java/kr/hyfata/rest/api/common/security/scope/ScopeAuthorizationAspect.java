@@ -1,6 +1,7 @@
 package kr.hyfata.rest.api.common.security.scope;
 
 import jakarta.servlet.http.HttpServletRequest;
+import kr.hyfata.rest.api.common.security.AuthenticatedToken;
 import kr.hyfata.rest.api.common.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,13 +31,7 @@ public class ScopeAuthorizationAspect {
     @Around("@annotation(requireScope)")
     public Object checkScope(ProceedingJoinPoint joinPoint, RequireScope requireScope) throws Throwable {
         HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-        String jwt = extractJwtFromRequest(request);
-
-        if (jwt == null) {
-            throw new AccessDeniedException("JWT token is required");
-        }
-
-        Set<String> tokenScopes = jwtUtil.extractScopes(jwt);
+        Set<String> tokenScopes = resolveTokenScopes(request);
 
         // AND 조건 검증
         if (requireScope.all().length > 0) {
@@ -89,6 +84,29 @@ public class ScopeAuthorizationAspect {
         return false;
     }
 
+    /**
+     * 요청 토큰의 scope 조회
+     * 인증 필터가 검증해 둔 토큰을 우선 사용하고, 없을 때만 헤더 토큰을 파싱
+     */
+    private Set<String> resolveTokenScopes(HttpServletRequest request) {
+        AuthenticatedToken token = AuthenticatedToken.from(request);
+        if (token != null) {
+            return token.scopes();
+        }
+
+        String jwt = extractJwtFromRequest(request);
+        if (jwt == null) {
+            throw new AccessDeniedException("JWT token is required");
+        }
+
+        token = jwtUtil.parseToken(jwt);
+        if (token == null) {
+            return Set.of();
+        }
+        token.bindTo(request);
+        return token.scopes();
+    }
+
     /**
      * Authorization 헤더에서 JWT 토큰 추출
      */
@@ -0,0 +1,171 @@
+package kr.hyfata.rest.api.common.util;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IPv4/IPv6 CIDR 대역 판별기
+ * 대역 목록을 생성 시 (네트워크 바이트, 마스크)로 컴파일하고, 주소 바이트를 직접 비교
+ * 문자열 접두사 비교와 달리 172.16.0.0/12, fc00::/7 같은 비트 단위 대역과 IPv6 표기 차이를 정확히 처리
+ */
+public final class CidrMatcher {
+
+    /**
+     * 로컬/사설/링크 로컬 대역 (위치 조회 대상이 아닌 주소)
+     */
+    public static final CidrMatcher PRIVATE_RANGES = CidrMatcher.of(
+            "0.0.0.0/8",        // 현재 네트워크
+            "10.0.0.0/8",       // 사설
+            "100.64.0.0/10",    // CGNAT 공유 주소
+            "127.0.0.0/8",      // 루프백
+            "169.254.0.0/16",   // 링크 로컬
+            "172.16.0.0/12",    // 사설
+            "192.168.0.0/16",   // 사설
+            "::/128",           // 미지정
+            "::1/128",          // 루프백
+            "fc00::/7",         // 고유 로컬 (ULA)
+            "fe80::/10"         // 링크 로컬
+    );
+
+    private final Range[] ipv4;
+    private final Range[] ipv6;
+
+    private CidrMatcher(Range[] ipv4, Range[] ipv6) {
+        this.ipv4 = ipv4;
+        this.ipv6 = ipv6;
+    }
+
+    /**
+     * CIDR 목록 컴파일
+     * @throws IllegalArgumentException 잘못된 CIDR 표기
+     */
+    public static CidrMatcher of(String... cidrs) {
+        List<Range> ipv4 = new ArrayList<>();
+        List<Range> ipv6 = new ArrayList<>();
+        for (String cidr : cidrs) {
+            Range range = Range.parse(cidr.trim());
+            (range.network.length == 4 ? ipv4 : ipv6).add(range);
+        }
+        return new CidrMatcher(ipv4.toArray(new Range[0]), ipv6.toArray(new Range[0]));
+    }
+
+    /**
+     * IP 주소 문자열이 대역에 포함되는지 확인
+     * @return 포함되면 true, IP 리터럴이 아니면 false
+     */
+    public boolean matches(String ip) {
+        byte[] address = parseAddress(ip);
+        return address != null && matches(address);
+    }
+
+    /**
+     * 주소 바이트(4 또는 16바이트)가 대역에 포함되는지 확인
+     */
+    public boolean matches(byte[] address) {
+        Range[] ranges = address.length == 4 ? ipv4 : ipv6;
+        for (Range range : ranges) {
+            if (range.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * IP 리터럴을 주소 바이트로 변환 (DNS 조회 없음)
+     * IPv4-mapped IPv6(::ffff:a.b.c.d)는 4바이트 IPv4로 변환
+     * @return 4 또는 16바이트, IP 리터럴이 아니면 null
+     */
+    public static byte[] parseAddress(String ip) {
+        if (ip == null || ip.isEmpty()) {
+            return null;
+        }
+        if (ip.indexOf(':') < 0) {
+            return parseIpv4(ip);
+        }
+
+        // IPv6: ':'가 포함된 문자열은 리터럴로만 해석되므로 이름 조회가 일어나지 않음
+        int zone = ip.indexOf('%');
+        String literal = zone >= 0 ? ip.substring(0, zone) : ip;
+        if (literal.startsWith("[") && literal.endsWith("]")) {
+            literal = literal.substring(1, literal.length() - 1);
+        }
+        try {
+            return InetAddress.getByName(literal).getAddress();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static byte[] parseIpv4(String ip) {
+        byte[] address = new byte[4];
+        int octet = 0;
+        int value = -1;
+        for (int i = 0; i <= ip.length(); i++) {
+            char c = i < ip.length() ? ip.charAt(i) : '.';
+            if (c >= '0' && c <= '9') {
+                value = (value < 0 ? 0 : value * 10) + (c - '0');
+                if (value > 255) {
+                    return null;
+                }
+            } else if (c == '.' && value >= 0 && octet < 4) {
+                address[octet++] = (byte) value;
+                value = -1;
+            } else {
+                return null;
+            }
+        }
+        return octet == 4 ? address : null;
+    }
+
+    /**
+     * 컴파일된 CIDR 대역
+     */
+    private static final class Range {
+
+        private final byte[] network;
+        private final byte[] mask;
+
+        private Range(byte[] network, byte[] mask) {
+            this.network = network;
+            this.mask = mask;
+        }
+
+        static Range parse(String cidr) {
+            int slash = cidr.indexOf('/');
+            byte[] address = parseAddress(slash >= 0 ? cidr.substring(0, slash) : cidr);
+            if (address == null) {
+                throw new IllegalArgumentException("Invalid CIDR: " + cidr);
+            }
+
+            int bits = address.length * 8;
+            int prefix;
+            try {
+                prefix = slash >= 0 ? Integer.parseInt(cidr.substring(slash + 1)) : bits;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid CIDR prefix: " + cidr);
+            }
+            if (prefix < 0 || prefix > bits) {
+                throw new IllegalArgumentException("Invalid CIDR prefix: " + cidr);
+            }
+
+            byte[] mask = new byte[address.length];
+            for (int i = 0; i < mask.length; i++) {
+                int remaining = prefix - i * 8;
+                mask[i] = (byte) (remaining >= 8 ? 0xFF : remaining <= 0 ? 0 : (0xFF << (8 - remaining)));
+                address[i] &= mask[i];
+            }
+            return new Range(address, mask);
+        }
+
+        boolean contains(byte[] address) {
+            for (int i = 0; i < network.length; i++) {
+                if ((address[i] & mask[i]) != network[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,29 +1,76 @@
 package kr.hyfata.rest.api.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.Builder;
-import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import ua_parser.Client;
 import ua_parser.Parser;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * User-Agent 파싱을 통한 디바이스 정보 추출
+ * 실제 트래픽의 User-Agent 종류는 많지 않으므로 파싱 결과를 UA 문자열 기준으로 캐시
+ * - 크기 제한 캐시 (Caffeine, 동시 접근 시 잠금 경합 없음), 히트율은 device.user-agent 캐시 메트릭으로 확인
+ * - device-detector.preload-path 파일(한 줄에 UA 하나, 빈도순)이 있으면 기동 시 상위 N개를 미리 파싱
  */
 @Component
 @Slf4j
 public class DeviceDetector {
 
+    private static final DeviceInfo UNKNOWN = DeviceInfo.builder()
+            .deviceType("Unknown")
+            .deviceName("Unknown Device")
+            .browser("Unknown")
+            .os("Unknown")
+            .build();
+
     private final Parser uaParser;
+    private final Cache<String, DeviceInfo> cache;
 
     public DeviceDetector() {
+        this(10_000);
+    }
+
+    public DeviceDetector(long maxCacheSize) {
         this.uaParser = new Parser();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxCacheSize)
+                .recordStats()
+                .build();
+    }
+
+    @Autowired
+    public DeviceDetector(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${device-detector.cache.max-size:10000}") long maxCacheSize,
+            @Value("${device-detector.preload-path:}") String preloadPath,
+            @Value("${device-detector.preload-limit:1000}") int preloadLimit) {
+        this(maxCacheSize);
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "device.user-agent"));
+
+        if (preloadPath != null && !preloadPath.isBlank()) {
+            preload(Path.of(preloadPath), preloadLimit);
+        }
     }
 
     /**
-     * 디바이스 정보 결과
+     * 디바이스 정보 결과 (캐시에서 공유되므로 불변)
      */
-    @Data
+    @lombok.Value
     @Builder
     public static class DeviceInfo {
         private String deviceType;   // Desktop, Mobile, Tablet
@@ -35,18 +82,51 @@ public class DeviceDetector {
     }
 
     /**
-     * User-Agent 문자열을 파싱하여 디바이스 정보 반환
+     * User-Agent 문자열을 파싱하여 디바이스 정보 반환 (캐시 우선)
      */
     public DeviceInfo parse(String userAgent) {
         if (userAgent == null || userAgent.isBlank()) {
-            return DeviceInfo.builder()
-                    .deviceType("Unknown")
-                    .deviceName("Unknown Device")
-                    .browser("Unknown")
-                    .os("Unknown")
-                    .build();
+            return UNKNOWN;
+        }
+        return cache.get(userAgent, this::parseUncached);
+    }
+
+    /**
+     * 자주 쓰이는 User-Agent 미리 파싱
+     * @return 캐시에 추가된 수
+     */
+    public int preload(Collection<String> userAgents) {
+        int loaded = 0;
+        for (String userAgent : userAgents) {
+            if (userAgent != null && !userAgent.isBlank() && cache.getIfPresent(userAgent) == null) {
+                cache.put(userAgent, parseUncached(userAgent));
+                loaded++;
+            }
         }
+        return loaded;
+    }
 
+    /**
+     * 캐시된 User-Agent 수
+     */
+    public long cacheSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private void preload(Path path, int limit) {
+        try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            List<String> userAgents = lines.map(String::trim).filter(line -> !line.isEmpty()).limit(limit).toList();
+            log.info("Preloaded {} user agents from {}", preload(userAgents), path);
+        } catch (IOException e) {
+            log.warn("Failed to preload user agents from {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * uap-java 정규식 파싱 (캐시 미스 시)
+     */
+    private DeviceInfo parseUncached(String userAgent) {
         try {
             Client client = uaParser.parse(userAgent);
 
@@ -75,12 +155,7 @@ public class DeviceDetector {
                     .build();
         } catch (Exception e) {
             log.error("Failed to parse User-Agent: {}", e.getMessage());
-            return DeviceInfo.builder()
-                    .deviceType("Unknown")
-                    .deviceName("Unknown Device")
-                    .browser("Unknown")
-                    .os("Unknown")
-                    .build();
+            return UNKNOWN;
         }
     }
 
@@ -1,32 +1,91 @@
 package kr.hyfata.rest.api.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.maxmind.db.CHMCache;
+import com.maxmind.db.Network;
+import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.model.CityResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
 import java.net.InetAddress;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * GeoIP를 사용한 IP → 위치 변환 서비스
  * MaxMind GeoLite2-City 데이터베이스 사용
+ * - 메모리 맵 모드 + MaxMind 노드 캐시로 DB 읽기 비용 감소
+ * - 조회 결과를 DB가 돌려준 네트워크(prefix) 단위로 캐시 (같은 대역의 다른 IP도 캐시 적중)
+ * - IP 문자열은 리터럴로만 해석 (DNS 조회 없음), 사설/로컬 대역은 CIDR 판별 후 조회하지 않음
+ * - DB 파일이 교체되면 재시작 없이 새 DB로 전환 (reloadIfChanged)
  */
 @Component
 @Slf4j
 public class GeoIpService {
 
-    @Value("${geoip.database-path:./GeoLite2-City.mmdb}")
-    private String databasePath;
+    private static final String LOCAL = "Local";
 
-    @Value("${geoip.enabled:false}")
-    private boolean enabled;
+    /**
+     * 위치 정보가 없는 결과 (Caffeine은 null 값을 저장하지 않음)
+     */
+    private static final String NOT_FOUND = "";
+
+    private final String databasePath;
+    private final boolean enabled;
+    private final int nodeCacheSize;
+    private final int warmupSize;
+
+    /**
+     * 조회 결과 캐시 (키에 DB 세대를 포함하므로 교체 후 이전 DB의 결과는 적중하지 않고 자연히 밀려남)
+     */
+    private final Cache<NetworkKey, String> cache;
+
+    /**
+     * 캐시에 저장된 네트워크의 prefix 길이 (주소 체계별, DB 특성상 종류가 많지 않음)
+     */
+    private final Set<Integer> ipv4PrefixLengths = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> ipv6PrefixLengths = ConcurrentHashMap.newKeySet();
 
-    private DatabaseReader databaseReader;
-    private boolean initialized = false;
+    private final AtomicReference<Database> current = new AtomicReference<>();
+    private final AtomicInteger generations = new AtomicInteger();
+
+    public GeoIpService(String databasePath, boolean enabled, int nodeCacheSize, long maxCacheSize, int warmupSize) {
+        this.databasePath = databasePath;
+        this.enabled = enabled;
+        this.nodeCacheSize = nodeCacheSize;
+        this.warmupSize = warmupSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxCacheSize)
+                .recordStats()
+                .build();
+    }
+
+    @Autowired
+    public GeoIpService(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${geoip.database-path:./GeoLite2-City.mmdb}") String databasePath,
+            @Value("${geoip.enabled:false}") boolean enabled,
+            @Value("${geoip.node-cache-size:4096}") int nodeCacheSize,
+            @Value("${geoip.cache.max-size:100000}") long maxCacheSize,
+            @Value("${geoip.reload.warmup-size:1000}") int warmupSize) {
+        this(databasePath, enabled, nodeCacheSize, maxCacheSize, warmupSize);
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "geoip.location"));
+    }
 
     @PostConstruct
     public void init() {
@@ -35,15 +94,14 @@ public class GeoIpService {
             return;
         }
 
-        try {
-            File database = new File(databasePath);
-            if (!database.exists()) {
-                log.warn("GeoIP database not found at: {}. Location resolution will be disabled.", databasePath);
-                return;
-            }
+        File database = new File(databasePath);
+        if (!database.exists()) {
+            log.warn("GeoIP database not found at: {}. Location resolution will be disabled.", databasePath);
+            return;
+        }
 
-            databaseReader = new DatabaseReader.Builder(database).build();
-            initialized = true;
+        try {
+            current.set(open(database));
             log.info("GeoIP service initialized successfully with database: {}", databasePath);
         } catch (Exception e) {
             log.error("Failed to initialize GeoIP service: {}", e.getMessage());
@@ -52,22 +110,65 @@ public class GeoIpService {
 
     @PreDestroy
     public void cleanup() {
-        if (databaseReader != null) {
-            try {
-                databaseReader.close();
-            } catch (Exception e) {
-                log.error("Error closing GeoIP database: {}", e.getMessage());
-            }
+        Database database = current.getAndSet(null);
+        if (database != null) {
+            database.release();
         }
     }
 
+    /**
+     * DB 파일이 바뀌었으면 새 DB를 열어 교체
+     * 새 DB는 호출 스레드에서 열고 최근 조회된 네트워크로 예열한 뒤 원자적으로 교체하며,
+     * 이전 DB는 진행 중인 조회가 모두 끝난 뒤 닫힘 (조회는 교체 중에도 대기하지 않음)
+     * @return 교체했으면 true
+     */
+    public boolean reloadIfChanged() {
+        if (!enabled) {
+            return false;
+        }
+
+        File file = new File(databasePath);
+        if (!file.exists()) {
+            return false;
+        }
+
+        Database old = current.get();
+        if (old != null && old.lastModified == file.lastModified() && old.length == file.length()) {
+            return false;
+        }
+
+        Database fresh;
+        try {
+            fresh = open(file);
+        } catch (Exception e) {
+            // 복사 중인 파일 등 - 다음 확인 때 다시 시도
+            log.warn("Failed to open GeoIP database {}: {}", databasePath, e.getMessage());
+            return false;
+        }
+
+        int warmed = old != null ? warmUp(old, fresh) : 0;
+
+        if (!current.compareAndSet(old, fresh)) {
+            // 동시에 다른 교체/종료가 일어난 경우 새 DB는 사용하지 않음
+            fresh.release();
+            return false;
+        }
+        if (old != null) {
+            old.release();
+        }
+
+        log.info("GeoIP database reloaded: {} (generation {}, {} networks warmed)",
+                databasePath, fresh.generation, warmed);
+        return true;
+    }
+
     /**
      * IP 주소로부터 위치 정보 조회
      * @param ipAddress IP 주소
      * @return 위치 문자열 (예: "Seoul, South Korea") 또는 null
      */
     public String resolveLocation(String ipAddress) {
-        if (!initialized || !enabled) {
+        if (!enabled) {
             return null;
         }
 
@@ -75,64 +176,216 @@ public class GeoIpService {
             return null;
         }
 
-        // 로컬 IP는 조회하지 않음
-        if (isLocalIp(ipAddress)) {
-            return "Local";
+        // IP 리터럴이 아닌 값(호스트명 등)은 조회하지 않음
+        byte[] address = CidrMatcher.parseAddress(ipAddress.trim());
+        if (address == null) {
+            return null;
+        }
+
+        Database database = acquire();
+        if (database == null) {
+            return null;
         }
 
         try {
-            InetAddress inetAddress = InetAddress.getByName(ipAddress);
-            CityResponse response = databaseReader.city(inetAddress);
-
-            String city = response.getCity().getName();
-            String country = response.getCountry().getName();
-
-            if (city != null && country != null) {
-                return city + ", " + country;
-            } else if (country != null) {
-                return country;
-            } else if (city != null) {
-                return city;
+            // 로컬/사설 IP는 조회하지 않음
+            if (CidrMatcher.PRIVATE_RANGES.matches(address)) {
+                return LOCAL;
             }
 
-            return null;
+            String cached = findCached(database, address);
+            if (cached != null) {
+                return cached.equals(NOT_FOUND) ? null : cached;
+            }
+            return lookup(database, address);
         } catch (Exception e) {
             log.debug("Could not resolve location for IP {}: {}", ipAddress, e.getMessage());
             return null;
+        } finally {
+            database.release();
         }
     }
 
     /**
-     * 로컬 IP 주소인지 확인
+     * GeoIP 서비스가 사용 가능한지 확인
      */
-    private boolean isLocalIp(String ip) {
-        return ip.equals("127.0.0.1") ||
-                ip.equals("0:0:0:0:0:0:0:1") ||
-                ip.equals("::1") ||
-                ip.startsWith("192.168.") ||
-                ip.startsWith("10.") ||
-                ip.startsWith("172.16.") ||
-                ip.startsWith("172.17.") ||
-                ip.startsWith("172.18.") ||
-                ip.startsWith("172.19.") ||
-                ip.startsWith("172.20.") ||
-                ip.startsWith("172.21.") ||
-                ip.startsWith("172.22.") ||
-                ip.startsWith("172.23.") ||
-                ip.startsWith("172.24.") ||
-                ip.startsWith("172.25.") ||
-                ip.startsWith("172.26.") ||
-                ip.startsWith("172.27.") ||
-                ip.startsWith("172.28.") ||
-                ip.startsWith("172.29.") ||
-                ip.startsWith("172.30.") ||
-                ip.startsWith("172.31.");
+    public boolean isAvailable() {
+        return enabled && current.get() != null;
+    }
+
+    private Database open(File file) throws Exception {
+        // 열기 전에 파일 정보를 기록 (열기 중 파일이 또 바뀌면 다음 확인에서 다시 교체)
+        long lastModified = file.lastModified();
+        long length = file.length();
+
+        DatabaseReader reader = new DatabaseReader.Builder(file)
+                .fileMode(Reader.FileMode.MEMORY_MAPPED)
+                .withCache(new CHMCache(nodeCacheSize))
+                .build();
+        return new Database(reader, generations.incrementAndGet(), lastModified, length);
     }
 
     /**
-     * GeoIP 서비스가 사용 가능한지 확인
+     * 현재 DB 참조 획득 (잠금 없음)
+     * 획득 직후 교체되어 닫히는 중이면 새 DB로 다시 시도
      */
-    public boolean isAvailable() {
-        return initialized && enabled;
+    private Database acquire() {
+        Database database;
+        while ((database = current.get()) != null) {
+            if (database.retain()) {
+                return database;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 이전 DB에서 자주 조회된 네트워크를 새 DB로 미리 조회
+     * 새 DB의 페이지와 노드 캐시를 채우고 결과를 새 세대 캐시에 넣어 교체 직후 지연 증가를 방지
+     */
+    private int warmUp(Database old, Database fresh) {
+        Map<NetworkKey, String> hottest = cache.policy().eviction()
+                .map(eviction -> eviction.hottest(warmupSize))
+                .orElse(Map.of());
+
+        int warmed = 0;
+        for (NetworkKey key : hottest.keySet()) {
+            if (key.generation() != old.generation) {
+                continue;
+            }
+            try {
+                lookup(fresh, key.toAddress());
+                warmed++;
+            } catch (Exception e) {
+                log.debug("GeoIP warm-up lookup failed: {}", e.getMessage());
+            }
+        }
+        return warmed;
+    }
+
+    private String lookup(Database database, byte[] address) throws Exception {
+        Optional<CityResponse> response = database.reader.tryCity(InetAddress.getByAddress(address));
+        String location = response.map(GeoIpService::formatLocation).orElse(null);
+
+        // DB가 돌려준 네트워크 단위로 저장, 위치 정보가 없으면 해당 IP만 저장
+        int prefixLength = response
+                .map(r -> r.getTraits().getNetwork())
+                .map(Network::getPrefixLength)
+                .orElse(address.length * 8);
+        prefixLengths(address).add(prefixLength);
+        cache.put(NetworkKey.of(database.generation, address, prefixLength), location != null ? location : NOT_FOUND);
+
+        return location;
+    }
+
+    private static String formatLocation(CityResponse response) {
+        String city = response.getCity().getName();
+        String country = response.getCountry().getName();
+
+        if (city != null && country != null) {
+            return city + ", " + country;
+        } else if (country != null) {
+            return country;
+        }
+        return city;
+    }
+
+    /**
+     * 주소를 포함하는 캐시된 네트워크의 결과 조회
+     * DB의 네트워크는 서로 겹치지 않으므로 prefix 길이 순서와 무관하게 최대 하나만 적중
+     */
+    private String findCached(Database database, byte[] address) {
+        for (int prefixLength : prefixLengths(address)) {
+            String cached = cache.getIfPresent(NetworkKey.of(database.generation, address, prefixLength));
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return null;
+    }
+
+    private Set<Integer> prefixLengths(byte[] address) {
+        return address.length == 4 ? ipv4PrefixLengths : ipv6PrefixLengths;
+    }
+
+    /**
+     * 열린 DB와 참조 수
+     * 서비스가 참조 하나를 보유하고 조회마다 참조를 더했다가 반납하며, 참조가 0이 되면 닫힘
+     */
+    private static final class Database {
+
+        private final DatabaseReader reader;
+        private final int generation;
+        private final long lastModified;
+        private final long length;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private Database(DatabaseReader reader, int generation, long lastModified, long length) {
+            this.reader = reader;
+            this.generation = generation;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        /**
+         * @return 이미 닫혔거나 닫히는 중이면 false
+         */
+        boolean retain() {
+            int count;
+            do {
+                count = references.get();
+                if (count == 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                try {
+                    reader.close();
+                } catch (Exception e) {
+                    log.error("Error closing GeoIP database: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * DB 세대 + prefix 길이로 마스킹한 네트워크 주소 (IPv6 128비트를 long 두 개로 표현)
+     */
+    private record NetworkKey(int generation, boolean ipv6, int prefixLength, long high, long low) {
+
+        static NetworkKey of(int generation, byte[] address, int prefixLength) {
+            long high = 0;
+            long low = 0;
+            for (int i = 0; i < address.length; i++) {
+                int remaining = prefixLength - i * 8;
+                if (remaining <= 0) {
+                    break;
+                }
+
+                long value = address[i] & (remaining >= 8 ? 0xFF : (0xFF << (8 - remaining)) & 0xFF);
+                if (i < 8) {
+                    high |= value << (56 - i * 8);
+                } else {
+                    low |= value << (56 - (i - 8) * 8);
+                }
+            }
+            return new NetworkKey(generation, address.length == 16, prefixLength, high, low);
+        }
+
+        /**
+         * 네트워크의 첫 주소
+         */
+        byte[] toAddress() {
+            byte[] address = new byte[ipv6 ? 16 : 4];
+            for (int i = 0; i < address.length; i++) {
+                long word = i < 8 ? high : low;
+                address[i] = (byte) (word >>> (56 - (i % 8) * 8));
+            }
+            return address;
+        }
     }
 }
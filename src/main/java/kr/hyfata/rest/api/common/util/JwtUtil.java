@@ -1,16 +1,23 @@
 package kr.hyfata.rest.api.common.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import kr.hyfata.rest.api.auth.entity.User;
+import kr.hyfata.rest.api.common.security.AuthenticatedToken;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.*;
 import java.util.function.Function;
 
@@ -29,8 +36,25 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration:1209600000}") // 14 days
     private long refreshTokenExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    private static final HexFormat HEX = HexFormat.of();
+
+    /**
+     * 밀리초 단위 발급 시각 (표준 iat는 초 단위라 같은 초에 발급된 토큰을 무효화 epoch와 구분할 수 없음)
+     */
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    /**
+     * 서명 키와 파서는 기동 시 한 번만 생성 (둘 다 불변이며 스레드 안전)
+     */
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     /**
@@ -49,25 +73,30 @@ public class JwtUtil {
      * Access Token 생성 (JTI + client_id + scope 포함)
      */
     public TokenResult generateAccessTokenWithJti(UserDetails userDetails, String clientId, Set<String> scopes) {
-        Map<String, Object> claims = new HashMap<>();
-
-        String email = (userDetails instanceof User)
-            ? ((User) userDetails).getEmail()
-            : userDetails.getUsername();
-
-        String jti = UUID.randomUUID().toString().replace("-", "");
-        claims.put("email", email);
-        claims.put("jti", jti);
+        String email = resolveEmail(userDetails);
+        String jti = newJti();
+        long now = System.currentTimeMillis();
+
+        JwtBuilder builder = Jwts.builder()
+                .subject(email)
+                .id(jti)
+                .claim("email", email)
+                .claim("role", resolveRole(userDetails))
+                .claim(ISSUED_AT_MILLIS_CLAIM, now);
+
+        if (userDetails instanceof User user && user.getStatus() != null) {
+            builder.claim("status", user.getStatus().name());
+        }
 
         if (clientId != null && !clientId.isEmpty()) {
-            claims.put("client_id", clientId);
+            builder.claim("client_id", clientId);
         }
 
         if (scopes != null && !scopes.isEmpty()) {
-            claims.put("scope", String.join(" ", scopes));
+            builder.claim("scope", String.join(" ", scopes));
         }
 
-        String token = createToken(claims, email, jwtExpiration);
+        String token = sign(builder, now, jwtExpiration);
         return new TokenResult(token, jti);
     }
 
@@ -80,31 +109,89 @@ public class JwtUtil {
 
     /**
      * Refresh Token 생성
+     * 같은 초에 발급해도 토큰(세션 ID가 되는 해시)이 겹치지 않도록 JTI 포함
      */
     public String generateRefreshToken(UserDetails userDetails) {
-        Map<String, Object> claims = new HashMap<>();
+        JwtBuilder builder = Jwts.builder()
+                .id(newJti())
+                .subject(resolveEmail(userDetails));
+        return sign(builder, System.currentTimeMillis(), refreshTokenExpiration);
+    }
+
+    /**
+     * 발급 시각/만료 시각을 설정하고 캐시된 키로 서명
+     */
+    private String sign(JwtBuilder builder, long issuedAtMillis, long expiration) {
+        return builder
+                .issuedAt(new Date(issuedAtMillis))
+                .expiration(new Date(issuedAtMillis + expiration))
+                .signWith(signingKey)
+                .compact();
+    }
 
-        String email = (userDetails instanceof User)
-            ? ((User) userDetails).getEmail()
+    private String resolveEmail(UserDetails userDetails) {
+        return (userDetails instanceof User user)
+            ? user.getEmail()
             : userDetails.getUsername();
+    }
 
-        return createToken(claims, email, refreshTokenExpiration);
+    /**
+     * 토큰에 담을 권한 (User 엔티티는 role 필드, 그 외는 첫 번째 authority)
+     */
+    private String resolveRole(UserDetails userDetails) {
+        if (userDetails instanceof User user) {
+            return user.getRole();
+        }
+        return userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElse(null);
     }
 
     /**
-     * 토큰 생성
+     * 32자리 hex JTI 생성 (UUID 문자열 변환/치환 없이 직접 인코딩)
      */
-    private String createToken(Map<String, Object> claims, String subject, long expiration) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + expiration);
+    private String newJti() {
+        UUID uuid = UUID.randomUUID();
+        return HEX.toHexDigits(uuid.getMostSignificantBits()) + HEX.toHexDigits(uuid.getLeastSignificantBits());
+    }
 
-        return Jwts.builder()
-                .claims(claims)
-                .subject(subject)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+    /**
+     * 토큰 서명/만료를 한 번 검증하고 요청 파이프라인에서 공유할 파싱 결과 생성
+     * @return 검증된 토큰, 유효하지 않으면 null
+     */
+    public AuthenticatedToken parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            Claims claims = extractAllClaims(token);
+            return new AuthenticatedToken(
+                    claims.getSubject(),
+                    claims.get("jti", String.class),
+                    claims.get("client_id", String.class),
+                    parseScopeClaim(claims.get("scope", String.class)),
+                    claims.get("role", String.class),
+                    claims.get("status", String.class),
+                    resolveIssuedAt(claims),
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+            );
+        } catch (Exception e) {
+            log.debug("Token parsing failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 발급 시각 (iat_ms 우선, 없는 구버전 토큰은 초 단위 iat)
+     */
+    private Instant resolveIssuedAt(Claims claims) {
+        Number issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Number.class);
+        if (issuedAtMillis != null) {
+            return Instant.ofEpochMilli(issuedAtMillis.longValue());
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
     }
 
     /**
@@ -146,17 +233,23 @@ public class JwtUtil {
     public Set<String> extractScopes(String token) {
         try {
             Claims claims = extractAllClaims(token);
-            String scopeStr = claims.get("scope", String.class);
-            if (scopeStr == null || scopeStr.isEmpty()) {
-                return Set.of();
-            }
-            return new HashSet<>(Arrays.asList(scopeStr.split(" ")));
+            return parseScopeClaim(claims.get("scope", String.class));
         } catch (Exception e) {
             log.error("Error extracting scopes: {}", e.getMessage());
             return Set.of();
         }
     }
 
+    /**
+     * scope 클레임 문자열을 불변 Set으로 변환
+     */
+    private Set<String> parseScopeClaim(String scopeStr) {
+        if (scopeStr == null || scopeStr.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(Arrays.asList(scopeStr.split(" ")));
+    }
+
     /**
      * 토큰에서 만료 날짜 추출
      */
@@ -189,33 +282,17 @@ public class JwtUtil {
      * 토큰에서 모든 클레임 추출
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    /**
-     * 토큰 만료 여부 확인
-     */
-    private Boolean isTokenExpired(String token) {
-        try {
-            final Date expiration = extractExpiration(token);
-            return expiration.before(new Date());
-        } catch (Exception e) {
-            log.error("Error checking token expiration: {}", e.getMessage());
-            return true;
-        }
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
      * 토큰 유효성 검증
+     * 만료된 토큰은 파서가 ExpiredJwtException으로 거부하므로 파싱 1회로 충분
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            final String email = extractEmail(token);
-            return (email.equals(userDetails.getUsername()) && !isTokenExpired(token));
+            final String email = extractAllClaims(token).getSubject();
+            return email.equals(userDetails.getUsername());
         } catch (Exception e) {
             log.error("Token validation failed: {}", e.getMessage());
             return false;
@@ -227,11 +304,8 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return !isTokenExpired(token);
+            extractAllClaims(token);
+            return true;
         } catch (Exception e) {
             log.error("Token validation failed: {}", e.getMessage());
             return false;
@@ -0,0 +1,79 @@
+package kr.hyfata.rest.api.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Redis 호출용 서킷 브레이커
+ * Redis 장애/지연 시 요청 스레드가 타임아웃까지 대기하지 않도록 호출 자체를 차단
+ * - CLOSED: 정상 호출, 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: 호출 없이 즉시 실패 처리, 대기 시간이 지나면 HALF_OPEN
+ * - HALF_OPEN: 한 번의 시험 호출만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+@Component
+@Slf4j
+public class RedisCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+
+    public RedisCircuitBreaker(
+            @Value("${security.revocation.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${security.revocation.circuit.open-ms:10000}") long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * Redis 호출 가능 여부
+     * OPEN 상태에서 대기 시간이 지났으면 시험 호출 1건만 통과시킴
+     * (시험 호출 결과가 기록되지 않아도 대기 시간마다 다시 1건 허용)
+     */
+    public boolean allowRequest() {
+        if (state.get() == State.CLOSED) {
+            return true;
+        }
+
+        long opened = openedAt.get();
+        long now = System.currentTimeMillis();
+        if (now - opened < openMillis || !openedAt.compareAndSet(opened, now)) {
+            return false;
+        }
+        state.set(State.HALF_OPEN);
+        log.info("Redis circuit half-open, trying one request");
+        return true;
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("Redis circuit closed");
+        }
+    }
+
+    public void recordFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        State current = state.get();
+        if (current == State.HALF_OPEN || (current == State.CLOSED && failures >= failureThreshold)) {
+            openedAt.set(System.currentTimeMillis());
+            if (state.compareAndSet(current, State.OPEN)) {
+                log.warn("Redis circuit opened after {} consecutive failure(s)", failures);
+            }
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+}
@@ -0,0 +1,3 @@
+-- 클라이언트별 세션 수 제한(Client.maxTokensPerUser)을 위한 세션 생성 클라이언트 컬럼 추가
+ALTER TABLE user_sessions ADD COLUMN IF NOT EXISTS client_id VARCHAR(100);
+CREATE INDEX IF NOT EXISTS idx_user_sessions_user_client ON user_sessions(user_id, client_id);
@@ -0,0 +1,2 @@
+-- 블랙리스트 TTL을 Access Token의 실제 만료 시각으로 계산하기 위한 컬럼 추가
+ALTER TABLE user_sessions ADD COLUMN IF NOT EXISTS access_token_expires_at TIMESTAMP;
@@ -0,0 +1,78 @@
+package kr.hyfata.rest.api.security;
+
+import kr.hyfata.rest.api.common.service.EmailService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Actuator 접근 제어 - health만 공개, 메트릭은 ROLE_ADMIN만
+ * Redis 없이 실행되도록 HTTP 세션은 메모리 저장소 사용
+ */
+@SpringBootTest(properties = {
+        "management.health.redis.enabled=false",
+        "management.health.mail.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ActuatorAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @TestConfiguration
+    static class InMemorySessionConfig {
+
+        @Bean
+        @Primary
+        MapSessionRepository inMemorySessionRepository() {
+            return new MapSessionRepository(new ConcurrentHashMap<>());
+        }
+    }
+
+    @Test
+    @DisplayName("health - 인증 없이 조회 가능")
+    void health_public() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("metrics - 인증 없으면 거부")
+    void metrics_anonymous_denied() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    @DisplayName("metrics - 일반 사용자는 거부")
+    void metrics_user_forbidden() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(user("user@example.com").roles("USER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("metrics - 관리자는 조회 가능")
+    void metrics_admin_allowed() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(user("admin@example.com").roles("ADMIN")))
+                .andExpect(status().isOk());
+    }
+}
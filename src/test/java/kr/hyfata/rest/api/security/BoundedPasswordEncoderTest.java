@@ -0,0 +1,131 @@
+package kr.hyfata.rest.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hyfata.rest.api.common.exception.CryptoCapacityExceededException;
+import kr.hyfata.rest.api.common.security.BoundedPasswordEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱/검증 - 전용 실행기에서 수행하고 수행 시간을 기록")
+    void encodeAndMatches_recordsDuration() {
+        // given
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4,
+                Duration.ofSeconds(5), 1, meterRegistry);
+
+        // when
+        String hash = encoder.encode("password");
+        boolean matches = encoder.matches("password", hash);
+        boolean mismatches = encoder.matches("wrong", hash);
+
+        // then
+        assertThat(matches).isTrue();
+        assertThat(mismatches).isFalse();
+        assertThat(meterRegistry.get("security.crypto.duration").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.crypto.duration").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 CryptoCapacityExceededException")
+    void queueFull_rejectsImmediately() throws Exception {
+        // given: 스레드 1개가 막혀 있고 대기열 1칸도 차 있음
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(started), 1, 1,
+                Duration.ofSeconds(5), 2, meterRegistry);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "b"));
+        waitForQueueSize(1);
+
+        // when & then
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> encoder.matches("c", "c"))
+                .isInstanceOf(CryptoCapacityExceededException.class)
+                .extracting("retryAfterSeconds").isEqualTo(2L);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("security.crypto.rejected").tag("reason", "queue_full").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 시 작업을 취소하고 CryptoCapacityExceededException")
+    void waitTimeout_rejects() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(started), 1, 4,
+                Duration.ofMillis(100), 1, meterRegistry);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("a", "a"))
+                .isInstanceOf(CryptoCapacityExceededException.class);
+        assertThat(meterRegistry.get("security.crypto.rejected").tag("reason", "timeout").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("위임 인코더의 예외는 그대로 전달")
+    void delegateException_propagates() {
+        // given
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1,
+                Duration.ofSeconds(5), 1, meterRegistry);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.encode(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch started) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+
+    private void waitForQueueSize(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.queueSize() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(encoder.queueSize()).isEqualTo(expected);
+    }
+}
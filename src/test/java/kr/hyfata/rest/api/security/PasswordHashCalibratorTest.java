@@ -0,0 +1,60 @@
+package kr.hyfata.rest.api.security;
+
+import kr.hyfata.rest.api.common.security.PasswordHashCalibrator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashCalibratorTest {
+
+    @Test
+    @DisplayName("보정 - 목표 시간이 아주 짧아도 최솟값 아래로 내려가지 않음")
+    void bcryptStrength_neverBelowMin() {
+        // when
+        int strength = PasswordHashCalibrator.bcryptStrength(Duration.ofNanos(1), 4, 6);
+
+        // then
+        assertThat(strength).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("보정 - 목표 시간이 충분하면 최댓값까지 올림")
+    void bcryptStrength_upToMax() {
+        // when
+        int strength = PasswordHashCalibrator.bcryptStrength(Duration.ofSeconds(10), 4, 6);
+
+        // then
+        assertThat(strength).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("다시 해싱 판단 - 접두사 없는 기존 해시와 낮은 strength는 대상, 현재 설정과 같으면 대상 아님")
+    void upgradeEncoding_legacyAndWeakerHashes() {
+        // given
+        PasswordEncoder current = new BCryptPasswordEncoder(5);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of(
+                "bcrypt", current,
+                "argon2", PasswordHashCalibrator.argon2(1024, 1, 1)));
+        encoder.setDefaultPasswordEncoderForMatches(current);
+        String legacy = new BCryptPasswordEncoder(4).encode("password");
+        String weaker = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("password");
+        String argon2 = "{argon2}" + PasswordHashCalibrator.argon2(1024, 1, 1).encode("password");
+        String fresh = encoder.encode("password");
+
+        // when & then
+        assertThat(encoder.matches("password", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        assertThat(encoder.matches("password", argon2)).isTrue();
+        assertThat(encoder.upgradeEncoding(argon2)).isTrue();
+        assertThat(fresh).startsWith("{bcrypt}$2a$05$");
+        assertThat(encoder.upgradeEncoding(fresh)).isFalse();
+    }
+}
@@ -1,6 +1,7 @@
 package kr.hyfata.rest.api.security;
 
 import jakarta.servlet.http.HttpServletRequest;
+import kr.hyfata.rest.api.common.security.AuthenticatedToken;
 import kr.hyfata.rest.api.common.security.scope.RequireScope;
 import kr.hyfata.rest.api.common.security.scope.ScopeAuthorizationAspect;
 import kr.hyfata.rest.api.common.util.JwtUtil;
@@ -20,6 +21,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 
@@ -61,7 +63,7 @@ class ScopeAuthorizationAspectTest {
         // given
         String token = "valid.token.here";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtil.extractScopes(token)).thenReturn(Set.of("profile", "email", "account:password"));
+        when(jwtUtil.parseToken(token)).thenReturn(tokenWithScopes(Set.of("profile", "email", "account:password")));
 
         RequireScope requireScope = createRequireScope(new String[]{"account:password"}, new String[]{});
         when(joinPoint.proceed()).thenReturn("success");
@@ -80,7 +82,7 @@ class ScopeAuthorizationAspectTest {
         // given
         String token = "valid.token.here";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtil.extractScopes(token)).thenReturn(Set.of("profile", "email"));
+        when(jwtUtil.parseToken(token)).thenReturn(tokenWithScopes(Set.of("profile", "email")));
 
         RequireScope requireScope = createRequireScope(new String[]{"account:password"}, new String[]{});
 
@@ -96,7 +98,7 @@ class ScopeAuthorizationAspectTest {
         // given
         String token = "valid.token.here";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtil.extractScopes(token)).thenReturn(Set.of("profile:write", "email"));
+        when(jwtUtil.parseToken(token)).thenReturn(tokenWithScopes(Set.of("profile:write", "email")));
 
         RequireScope requireScope = createRequireScope(new String[]{"profile"}, new String[]{});
         when(joinPoint.proceed()).thenReturn("success");
@@ -114,7 +116,7 @@ class ScopeAuthorizationAspectTest {
         // given
         String token = "valid.token.here";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtil.extractScopes(token)).thenReturn(Set.of("profile", "email", "account:manage"));
+        when(jwtUtil.parseToken(token)).thenReturn(tokenWithScopes(Set.of("profile", "email", "account:manage")));
 
         RequireScope requireScope = createRequireScope(new String[]{"account:password"}, new String[]{});
         when(joinPoint.proceed()).thenReturn("success");
@@ -132,7 +134,7 @@ class ScopeAuthorizationAspectTest {
         // given
         String token = "valid.token.here";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtil.extractScopes(token)).thenReturn(Set.of("profile", "email", "account:manage", "2fa:manage"));
+        when(jwtUtil.parseToken(token)).thenReturn(tokenWithScopes(Set.of("profile", "email", "account:manage", "2fa:manage")));
 
         RequireScope requireScope = createRequireScope(new String[]{}, new String[]{"account:manage", "2fa:manage"});
         when(joinPoint.proceed()).thenReturn("success");
@@ -150,7 +152,7 @@ class ScopeAuthorizationAspectTest {
         // given
         String token = "valid.token.here";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtil.extractScopes(token)).thenReturn(Set.of("profile", "email", "account:manage"));
+        when(jwtUtil.parseToken(token)).thenReturn(tokenWithScopes(Set.of("profile", "email", "account:manage")));
 
         RequireScope requireScope = createRequireScope(new String[]{}, new String[]{"account:manage", "2fa:manage"});
 
@@ -166,7 +168,7 @@ class ScopeAuthorizationAspectTest {
         // given
         String token = "valid.token.here";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtil.extractScopes(token)).thenReturn(Set.of("profile", "email", "sessions:manage"));
+        when(jwtUtil.parseToken(token)).thenReturn(tokenWithScopes(Set.of("profile", "email", "sessions:manage")));
 
         RequireScope requireScope = createRequireScope(new String[]{"account:manage", "sessions:manage"}, new String[]{});
         when(joinPoint.proceed()).thenReturn("success");
@@ -192,6 +194,30 @@ class ScopeAuthorizationAspectTest {
                 .hasMessageContaining("JWT token is required");
     }
 
+    @Test
+    @DisplayName("필터가 검증한 토큰이 있으면 재파싱 없이 scope 확인")
+    void checkScope_withBoundToken_skipsParsing() throws Throwable {
+        // given
+        when(request.getAttribute(AuthenticatedToken.REQUEST_ATTRIBUTE))
+                .thenReturn(tokenWithScopes(Set.of("profile", "sessions:manage")));
+
+        RequireScope requireScope = createRequireScope(new String[]{"sessions:manage"}, new String[]{});
+        when(joinPoint.proceed()).thenReturn("success");
+
+        // when
+        Object result = aspect.checkScope(joinPoint, requireScope);
+
+        // then
+        assertThat(result).isEqualTo("success");
+        verifyNoInteractions(jwtUtil);
+    }
+
+    private AuthenticatedToken tokenWithScopes(Set<String> scopes) {
+        Instant now = Instant.now();
+        return new AuthenticatedToken("test@example.com", "jti", "client_001", scopes,
+                "ROLE_USER", "ACTIVE", now, now.plusSeconds(900));
+    }
+
     private RequireScope createRequireScope(String[] value, String[] all) {
         RequireScope annotation = mock(RequireScope.class);
         when(annotation.value()).thenReturn(value);
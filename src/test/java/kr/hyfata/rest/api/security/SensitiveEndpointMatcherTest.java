@@ -0,0 +1,109 @@
+package kr.hyfata.rest.api.security;
+
+import kr.hyfata.rest.api.common.security.SensitiveEndpointMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SensitiveEndpointMatcherTest {
+
+    private SensitiveEndpointMatcher matcher(String endpoints) {
+        return new SensitiveEndpointMatcher(
+                new MockEnvironment().withProperty("security.sensitive-endpoints", endpoints));
+    }
+
+    @Test
+    @DisplayName("리터럴 패턴 - 하위 경로 포함, 세그먼트 단위로 비교")
+    void literal_matchesSubtreeBySegment() {
+        SensitiveEndpointMatcher matcher = matcher(" /api/account , /api/payments/** ");
+
+        assertThat(matcher.matches("/api/account")).isTrue();
+        assertThat(matcher.matches("/api/account/")).isTrue();
+        assertThat(matcher.matches("/api/account/profile")).isTrue();
+        assertThat(matcher.matches("/api/payments")).isTrue();
+        assertThat(matcher.matches("/api/payments/123/refund")).isTrue();
+        assertThat(matcher.matches("/api/accounts")).isFalse();
+        assertThat(matcher.matches("/api")).isFalse();
+        assertThat(matcher.matches("/other/api/account")).isFalse();
+    }
+
+    @Test
+    @DisplayName("중복 슬래시와 matrix 파라미터로 우회할 수 없음")
+    void normalization_preventsBypass() {
+        SensitiveEndpointMatcher matcher = matcher("/api/sessions");
+
+        assertThat(matcher.matches("//api///sessions")).isTrue();
+        assertThat(matcher.matches("/api/sessions;jsessionid=abc")).isTrue();
+        assertThat(matcher.matches("/api;x=1/sessions/all")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Ant 스타일 와일드카드 - ?, *, {var}, {var:정규식}")
+    void antWildcards() {
+        SensitiveEndpointMatcher matcher = matcher(
+                "/api/users/*/password,/api/v?/admin,/api/clients/{clientId}/secret,/api/orders/{id:\\d+}");
+
+        assertThat(matcher.matches("/api/users/42/password")).isTrue();
+        assertThat(matcher.matches("/api/users/42/profile")).isFalse();
+        assertThat(matcher.matches("/api/v1/admin/users")).isTrue();
+        assertThat(matcher.matches("/api/v10/admin")).isFalse();
+        assertThat(matcher.matches("/api/clients/client_001/secret")).isTrue();
+        assertThat(matcher.matches("/api/orders/123")).isTrue();
+        assertThat(matcher.matches("/api/orders/abc")).isFalse();
+    }
+
+    @Test
+    @DisplayName("{var:정규식} - 정규식 안의 중괄호 수량자")
+    void regexVariable_withNestedBraces() {
+        SensitiveEndpointMatcher matcher = matcher("/api/orders/{id:\\d{3}}/refund,/api/codes/{code:[A-Z]{2}\\d{4}}");
+
+        assertThat(matcher.matches("/api/orders/123/refund")).isTrue();
+        assertThat(matcher.matches("/api/orders/1234/refund")).isFalse();
+        assertThat(matcher.matches("/api/orders/12/refund")).isFalse();
+        assertThat(matcher.matches("/api/codes/AB1234")).isTrue();
+        assertThat(matcher.matches("/api/codes/A12345")).isFalse();
+    }
+
+    @Test
+    @DisplayName("** - 0개 이상의 세그먼트")
+    void doubleWildcard_matchesAnyDepth() {
+        SensitiveEndpointMatcher matcher = matcher("/api/**/2fa,/internal/**");
+
+        assertThat(matcher.matches("/api/2fa")).isTrue();
+        assertThat(matcher.matches("/api/auth/2fa/enable")).isTrue();
+        assertThat(matcher.matches("/api/a/b/c/2fa")).isTrue();
+        assertThat(matcher.matches("/api/auth/login")).isFalse();
+        assertThat(matcher.matches("/internal")).isTrue();
+        assertThat(matcher.matches("/internal/metrics")).isTrue();
+    }
+
+    @Test
+    @DisplayName("설정 변경 시 다시 컴파일하여 교체")
+    void reloadIfChanged_swapsCompiledPatterns() {
+        // given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("security.sensitive-endpoints", "/api/payments");
+        SensitiveEndpointMatcher matcher = new SensitiveEndpointMatcher(environment);
+        assertThat(matcher.matches("/api/account")).isFalse();
+
+        // when
+        environment.setProperty("security.sensitive-endpoints", "/api/payments,/api/account");
+        matcher.reloadIfChanged();
+
+        // then
+        assertThat(matcher.matches("/api/account")).isTrue();
+        assertThat(matcher.matches("/api/payments")).isTrue();
+    }
+
+    @Test
+    @DisplayName("잘못된 설정으로 다시 불러오면 기존 패턴 유지")
+    void reload_invalidConfig_keepsPrevious() {
+        SensitiveEndpointMatcher matcher = matcher("/api/payments");
+
+        matcher.reload("/api/orders/{id:\\d+");
+
+        assertThat(matcher.matches("/api/payments")).isTrue();
+    }
+}
@@ -0,0 +1,95 @@
+package kr.hyfata.rest.api.security;
+
+import kr.hyfata.rest.api.common.security.SensitiveEndpointMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 민감한 엔드포인트 판별 처리량 측정
+ * 기존 방식(요청마다 split 결과 순회 + stream/trim/startsWith)과 컴파일된 트리 비교 (설정 패턴 300개)
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class SensitiveEndpointMatcherThroughputTest {
+
+    private static final int ROUTES = 300;
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 2_000_000;
+
+    private String config;
+    private String[] requests;
+
+    @BeforeEach
+    void setUp() {
+        List<String> routes = new ArrayList<>();
+        for (int i = 0; i < ROUTES; i++) {
+            routes.add(switch (i % 3) {
+                case 0 -> "/api/service" + i + "/resource" + i;
+                case 1 -> "/api/service" + i + "/**";
+                default -> "/api/v1/module" + i + "/settings";
+            });
+        }
+        config = String.join(", ", routes);
+
+        requests = new String[]{
+                "/api/service150/resource150/items/7",   // 일치 (중간)
+                "/api/v1/module299/settings",            // 일치 (마지막)
+                "/api/auth/login",                       // 불일치
+                "/api/users/me/profile",                 // 불일치
+        };
+    }
+
+    @Test
+    void matchThroughput() {
+        List<String> legacyEndpoints = Arrays.asList(config.split(","));
+        Predicate<String> legacy = uri -> legacyEndpoints.stream()
+                .anyMatch(endpoint -> {
+                    String pattern = endpoint.trim();
+                    if (pattern.endsWith("/**")) {
+                        String prefix = pattern.substring(0, pattern.length() - 3);
+                        return uri.startsWith(prefix);
+                    }
+                    return uri.startsWith(pattern);
+                });
+        SensitiveEndpointMatcher matcher = new SensitiveEndpointMatcher(
+                new MockEnvironment().withProperty("security.sensitive-endpoints", config));
+
+        for (String request : requests) {
+            assertEquals(legacy.test(request), matcher.matches(request), request);
+        }
+
+        double legacyOps = measure("match (legacy stream)", legacy);
+        double compiledOps = measure("match (compiled trie)", matcher::matches);
+
+        System.out.printf("match speedup with %d routes: %.2fx%n", ROUTES, compiledOps / legacyOps);
+        assertTrue(compiledOps > 0);
+    }
+
+    private double measure(String label, Predicate<String> op) {
+        int hits = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            hits += op.test(requests[i & 3]) ? 1 : 0;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            hits += op.test(requests[i & 3]) ? 1 : 0;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double opsPerSec = ITERATIONS / (elapsed / 1_000_000_000.0);
+        System.out.printf("%-25s %,14.0f ops/sec (%d hits)%n", label, opsPerSec, hits);
+        return opsPerSec;
+    }
+}
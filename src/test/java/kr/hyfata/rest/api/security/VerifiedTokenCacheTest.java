@@ -0,0 +1,87 @@
+package kr.hyfata.rest.api.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hyfata.rest.api.common.security.AuthenticatedToken;
+import kr.hyfata.rest.api.common.security.VerifiedTokenCache;
+import kr.hyfata.rest.api.common.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedTokenCache(jwtUtil, meterRegistry, true, 100, 100, 30);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 서명 검증")
+    void verify_cachesValidToken() {
+        AuthenticatedToken token = token(Instant.now().plusSeconds(600));
+        when(jwtUtil.parseToken("valid")).thenReturn(token);
+
+        assertThat(cache.verify("valid")).isEqualTo(token);
+        assertThat(cache.verify("valid")).isEqualTo(token);
+
+        verify(jwtUtil, times(1)).parseToken("valid");
+    }
+
+    @Test
+    @DisplayName("서명 검증 실패 토큰은 음성 캐시로 재검증 생략")
+    void verify_cachesRejectedToken() {
+        when(jwtUtil.parseToken("forged")).thenReturn(null);
+
+        assertThat(cache.verify("forged")).isNull();
+        assertThat(cache.verify("forged")).isNull();
+
+        verify(jwtUtil, times(1)).parseToken("forged");
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시에서 반환하지 않음")
+    void verify_doesNotServeExpiredToken() {
+        when(jwtUtil.parseToken("expiring")).thenReturn(token(Instant.now().minusSeconds(1)), (AuthenticatedToken) null);
+
+        cache.verify("expiring");
+
+        assertThat(cache.verify("expiring")).isNull();
+        verify(jwtUtil, times(2)).parseToken("expiring");
+    }
+
+    @Test
+    @DisplayName("비활성화 시 매번 검증")
+    void verify_disabled() {
+        cache = new VerifiedTokenCache(jwtUtil, meterRegistry, false, 100, 100, 30);
+        when(jwtUtil.parseToken("valid")).thenReturn(token(Instant.now().plusSeconds(600)));
+
+        cache.verify("valid");
+        cache.verify("valid");
+
+        verify(jwtUtil, times(2)).parseToken("valid");
+    }
+
+    private AuthenticatedToken token(Instant expiration) {
+        return new AuthenticatedToken("test@example.com", "jti_123", null, Set.of(),
+                "ROLE_USER", "ACTIVE", Instant.now(), expiration);
+    }
+}
@@ -0,0 +1,146 @@
+package kr.hyfata.rest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hyfata.rest.api.auth.dto.AuthRequest;
+import kr.hyfata.rest.api.auth.entity.Client;
+import kr.hyfata.rest.api.auth.entity.User;
+import kr.hyfata.rest.api.auth.repository.ClientRepository;
+import kr.hyfata.rest.api.auth.repository.UserRepository;
+import kr.hyfata.rest.api.auth.service.ClientPolicy;
+import kr.hyfata.rest.api.auth.service.ClientRegistry;
+import kr.hyfata.rest.api.auth.service.ClientService;
+import kr.hyfata.rest.api.auth.service.SessionService;
+import kr.hyfata.rest.api.auth.service.UserCacheService;
+import kr.hyfata.rest.api.auth.service.impl.AuthServiceImpl;
+import kr.hyfata.rest.api.common.service.EmailService;
+import kr.hyfata.rest.api.common.util.JwtUtil;
+import kr.hyfata.rest.api.common.util.TokenGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private TokenGenerator tokenGenerator;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private ClientService clientService;
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private UserCacheService userCacheService;
+
+    @InjectMocks
+    private AuthServiceImpl authService;
+
+    private User user;
+    private AuthRequest request;
+
+    @BeforeEach
+    void setUp() {
+        Client client = Client.builder()
+                .id(1L)
+                .clientId("client_001")
+                .clientSecret("encoded_secret")
+                .name("Test Client")
+                .frontendUrl("https://example.com")
+                .redirectUris("https://example.com/callback")
+                .enabled(true)
+                .build();
+        ClientPolicy policy = new ClientRegistry(mock(ClientRepository.class), new ObjectMapper().findAndRegisterModules())
+                .update(client);
+
+        // 2FA 사용자: 비밀번호 확인 직후 코드 발송으로 끝나므로 토큰/세션 생성과 무관
+        user = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .username("testuser")
+                .password("$2a$04$legacyhash")
+                .enabled(true)
+                .emailVerified(true)
+                .twoFactorEnabled(true)
+                .build();
+        request = new AuthRequest("test@example.com", "Password123!", "client_001");
+
+        when(clientService.validateClient("client_001")).thenReturn(Optional.of(policy));
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("Password123!", "$2a$04$legacyhash")).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("로그인 - 저장된 해시가 현재 설정보다 낮으면 검증한 해시 조건으로 다시 해싱")
+    void login_upgradesWeakerHash() {
+        // given
+        when(passwordEncoder.upgradeEncoding("$2a$04$legacyhash")).thenReturn(true);
+        when(passwordEncoder.encode("Password123!")).thenReturn("{bcrypt}$2a$10$upgraded");
+        when(userRepository.updatePassword("test@example.com", "$2a$04$legacyhash", "{bcrypt}$2a$10$upgraded"))
+                .thenReturn(1);
+
+        // when
+        authService.login(request, new MockHttpServletRequest());
+
+        // then
+        assertThat(user.getPassword()).isEqualTo("{bcrypt}$2a$10$upgraded");
+        verify(userCacheService, times(2)).evict("test@example.com");
+    }
+
+    @Test
+    @DisplayName("로그인 - 현재 설정과 같은 해시는 다시 해싱하지 않음")
+    void login_currentHash_notUpgraded() {
+        // given
+        when(passwordEncoder.upgradeEncoding("$2a$04$legacyhash")).thenReturn(false);
+
+        // when
+        authService.login(request, new MockHttpServletRequest());
+
+        // then
+        assertThat(user.getPassword()).isEqualTo("$2a$04$legacyhash");
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).updatePassword(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 - 검증 후 저장된 해시가 바뀌었으면 (비밀번호 변경/재설정) 덮어쓰지 않음")
+    void login_storedHashChanged_doesNotOverwrite() {
+        // given
+        when(passwordEncoder.upgradeEncoding("$2a$04$legacyhash")).thenReturn(true);
+        when(passwordEncoder.encode("Password123!")).thenReturn("{bcrypt}$2a$10$upgraded");
+        when(userRepository.updatePassword("test@example.com", "$2a$04$legacyhash", "{bcrypt}$2a$10$upgraded"))
+                .thenReturn(0);
+
+        // when
+        authService.login(request, new MockHttpServletRequest());
+
+        // then
+        assertThat(user.getPassword()).isEqualTo("$2a$04$legacyhash");
+        verify(userCacheService, times(1)).evict("test@example.com");
+    }
+}
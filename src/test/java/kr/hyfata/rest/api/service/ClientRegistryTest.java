@@ -0,0 +1,120 @@
+package kr.hyfata.rest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hyfata.rest.api.auth.entity.Client;
+import kr.hyfata.rest.api.auth.repository.ClientRepository;
+import kr.hyfata.rest.api.auth.service.ClientPolicy;
+import kr.hyfata.rest.api.auth.service.ClientRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientRegistryTest {
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    private ClientRegistry clientRegistry;
+
+    @BeforeEach
+    void setUp() {
+        clientRegistry = new ClientRegistry(clientRepository, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("조회 - 처음 한 번만 DB에서 적재하고 이후에는 레지스트리에서 반환")
+    void find_loadsOnce() {
+        // given
+        when(clientRepository.findByClientId("client_001")).thenReturn(Optional.of(client("client_001", "Test")));
+
+        // when
+        clientRegistry.find("client_001");
+        clientRegistry.find("client_001");
+        Optional<ClientPolicy> policy = clientRegistry.find("client_001");
+
+        // then
+        assertThat(policy).isPresent();
+        verify(clientRepository, times(1)).findByClientId("client_001");
+    }
+
+    @Test
+    @DisplayName("정책 컴파일 - redirect URI는 공백을 제거해 정확히 일치, scope는 선언 순서 유지")
+    void compile_parsesRedirectUrisAndScopes() {
+        // given
+        Client client = client("client_001", "Test");
+        client.setRedirectUris("https://example.com/callback, https://example.com/auth");
+        client.setDefaultScopes("profile email");
+        client.setAllowedScopes("profile  email account:manage");
+
+        // when
+        ClientPolicy policy = clientRegistry.update(client);
+
+        // then
+        assertThat(policy.isRedirectUriAllowed("https://example.com/auth")).isTrue();
+        assertThat(policy.isRedirectUriAllowed(" https://example.com/callback ")).isTrue();
+        assertThat(policy.isRedirectUriAllowed("https://example.com/callback/evil")).isFalse();
+        assertThat(policy.isRedirectUriAllowed(null)).isFalse();
+        assertThat(policy.getAllowedScopesSet()).containsExactly("profile", "email", "account:manage");
+        assertThat(String.join(" ", policy.getDefaultScopesSet())).isEqualTo("profile email");
+    }
+
+    @Test
+    @DisplayName("ETag - 내용이 같으면 같고, 변경되면 달라짐")
+    void etag_changesWithContent() {
+        // given
+        Client client = client("client_001", "Test");
+        String before = clientRegistry.update(client).getEtag();
+
+        // when
+        String same = clientRegistry.update(client).getEtag();
+        client.setName("Renamed");
+        String after = clientRegistry.update(client).getEtag();
+
+        // then
+        assertThat(same).isEqualTo(before);
+        assertThat(after).isNotEqualTo(before);
+        assertThat(before).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("전체 재적재 - DB에서 삭제된 클라이언트는 제거, 변경된 클라이언트는 반영")
+    void reload_replacesAndRemoves() {
+        // given
+        clientRegistry.update(client("client_001", "Old"));
+        clientRegistry.update(client("client_deleted", "Deleted"));
+        Client updated = client("client_001", "New");
+        updated.setUpdatedAt(LocalDateTime.now().plusSeconds(1));
+        when(clientRepository.findAll()).thenReturn(List.of(updated));
+
+        // when
+        int loaded = clientRegistry.reload();
+
+        // then
+        assertThat(loaded).isEqualTo(1);
+        assertThat(clientRegistry.size()).isEqualTo(1);
+        assertThat(clientRegistry.find("client_001")).map(ClientPolicy::getName).contains("New");
+    }
+
+    private Client client(String clientId, String name) {
+        return Client.builder()
+                .id(1L)
+                .clientId(clientId)
+                .clientSecret("encoded_secret")
+                .name(name)
+                .frontendUrl("https://example.com")
+                .redirectUris("https://example.com/callback")
+                .enabled(true)
+                .build();
+    }
+}
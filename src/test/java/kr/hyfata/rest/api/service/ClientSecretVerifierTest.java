@@ -0,0 +1,124 @@
+package kr.hyfata.rest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hyfata.rest.api.auth.entity.Client;
+import kr.hyfata.rest.api.auth.repository.ClientRepository;
+import kr.hyfata.rest.api.auth.service.ClientPolicy;
+import kr.hyfata.rest.api.auth.service.ClientRegistry;
+import kr.hyfata.rest.api.auth.service.ClientSecretVerifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientSecretVerifierTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    private ClientRegistry clientRegistry;
+    private ClientSecretVerifier clientSecretVerifier;
+
+    @BeforeEach
+    void setUp() {
+        clientRegistry = new ClientRegistry(clientRepository, new ObjectMapper().findAndRegisterModules());
+        clientSecretVerifier = new ClientSecretVerifier(passwordEncoder, Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    @DisplayName("검증 성공 후 같은 secret은 BCrypt 없이 확인")
+    void matches_cachesSuccessfulVerification() {
+        // given
+        ClientPolicy client = policy("hash_v1", true);
+        when(passwordEncoder.matches("secret", "hash_v1")).thenReturn(true);
+
+        // when
+        boolean first = clientSecretVerifier.matches(client, "secret");
+        boolean second = clientSecretVerifier.matches(client, "secret");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(passwordEncoder, times(1)).matches("secret", "hash_v1");
+    }
+
+    @Test
+    @DisplayName("실패한 검증은 저장하지 않고 매번 BCrypt로 확인")
+    void matches_wrongSecret_notCached() {
+        // given
+        ClientPolicy client = policy("hash_v1", true);
+        when(passwordEncoder.matches("wrong", "hash_v1")).thenReturn(false);
+
+        // when
+        clientSecretVerifier.matches(client, "wrong");
+        boolean result = clientSecretVerifier.matches(client, "wrong");
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(clientSecretVerifier.cachedCount()).isZero();
+        verify(passwordEncoder, times(2)).matches("wrong", "hash_v1");
+    }
+
+    @Test
+    @DisplayName("secret이 교체되면 이전 검증 결과는 사용하지 않음")
+    void matches_rotatedSecret_reverifies() {
+        // given
+        when(passwordEncoder.matches("secret", "hash_v1")).thenReturn(true);
+        when(passwordEncoder.matches("secret", "hash_v2")).thenReturn(false);
+        clientSecretVerifier.matches(policy("hash_v1", true), "secret");
+
+        // when
+        boolean result = clientSecretVerifier.matches(policy("hash_v2", true), "secret");
+
+        // then
+        assertThat(result).isFalse();
+        verify(passwordEncoder).matches("secret", "hash_v2");
+    }
+
+    @Test
+    @DisplayName("비활성화된 클라이언트는 캐시 항목을 제거하고 BCrypt로 확인")
+    void matches_disabledClient_evictsAndReverifies() {
+        // given
+        when(passwordEncoder.matches("secret", "hash_v1")).thenReturn(true);
+        clientSecretVerifier.matches(policy("hash_v1", true), "secret");
+
+        // when
+        clientSecretVerifier.matches(policy("hash_v1", false), "secret");
+
+        // then
+        assertThat(clientSecretVerifier.cachedCount()).isZero();
+        verify(passwordEncoder, times(2)).matches("secret", "hash_v1");
+    }
+
+    @Test
+    @DisplayName("client_secret이 없으면 false")
+    void matches_missingSecret_returnsFalse() {
+        assertThat(clientSecretVerifier.matches(policy("hash_v1", true), null)).isFalse();
+        assertThat(clientSecretVerifier.matches(policy("hash_v1", true), "")).isFalse();
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    private ClientPolicy policy(String secretHash, boolean enabled) {
+        return clientRegistry.update(Client.builder()
+                .id(1L)
+                .clientId("client_001")
+                .clientSecret(secretHash)
+                .name("Test Client")
+                .frontendUrl("https://example.com")
+                .redirectUris("https://example.com/callback")
+                .enabled(enabled)
+                .build());
+    }
+}
@@ -6,6 +6,7 @@ import kr.hyfata.rest.api.auth.entity.Client;
 import kr.hyfata.rest.api.auth.entity.User;
 import kr.hyfata.rest.api.auth.repository.ClientRepository;
 import kr.hyfata.rest.api.auth.repository.UserRepository;
+import kr.hyfata.rest.api.auth.service.ClientRegistry;
 import kr.hyfata.rest.api.auth.service.impl.ClientServiceImpl;
 import kr.hyfata.rest.api.common.util.TokenGenerator;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,6 +43,9 @@ class ClientServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ClientRegistry clientRegistry;
+
     @InjectMocks
     private ClientServiceImpl clientService;
 
@@ -1,17 +1,20 @@
 package kr.hyfata.rest.api.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import kr.hyfata.rest.api.auth.dto.OAuthTokenResponse;
 import kr.hyfata.rest.api.auth.entity.AuthorizationCode;
 import kr.hyfata.rest.api.auth.entity.Client;
 import kr.hyfata.rest.api.auth.entity.User;
 import kr.hyfata.rest.api.auth.entity.UserSession;
-import kr.hyfata.rest.api.auth.repository.AuthorizationCodeRepository;
 import kr.hyfata.rest.api.auth.repository.ClientRepository;
-import kr.hyfata.rest.api.auth.repository.UserRepository;
 import kr.hyfata.rest.api.auth.repository.UserSessionRepository;
+import kr.hyfata.rest.api.auth.service.AuthorizationCodeStore;
+import kr.hyfata.rest.api.auth.service.ClientPolicy;
+import kr.hyfata.rest.api.auth.service.ClientRegistry;
+import kr.hyfata.rest.api.auth.service.ClientSecretVerifier;
 import kr.hyfata.rest.api.auth.service.SessionService;
-import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
+import kr.hyfata.rest.api.auth.service.UserCacheService;
 import kr.hyfata.rest.api.auth.service.impl.OAuthServiceImpl;
 import kr.hyfata.rest.api.common.util.JwtUtil;
 import kr.hyfata.rest.api.common.util.PkceUtil;
@@ -25,7 +28,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -40,13 +42,13 @@ import static org.mockito.Mockito.*;
 class OAuthServiceImplTest {
 
     @Mock
-    private AuthorizationCodeRepository authorizationCodeRepository;
+    private AuthorizationCodeStore authorizationCodeStore;
 
     @Mock
-    private ClientRepository clientRepository;
+    private ClientRegistry clientRegistry;
 
     @Mock
-    private UserRepository userRepository;
+    private UserCacheService userCacheService;
 
     @Mock
     private UserSessionRepository userSessionRepository;
@@ -61,19 +63,17 @@ class OAuthServiceImplTest {
     private PkceUtil pkceUtil;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private ClientSecretVerifier clientSecretVerifier;
 
     @Mock
     private SessionService sessionService;
 
-    @Mock
-    private TokenBlacklistService tokenBlacklistService;
-
     @InjectMocks
     private OAuthServiceImpl oAuthService;
 
     private User testUser;
     private Client testClient;
+    private ClientPolicy testPolicy;
     private MockHttpServletRequest mockRequest;
 
     @BeforeEach
@@ -97,6 +97,8 @@ class OAuthServiceImplTest {
                 .defaultScopes("profile email")
                 .allowedScopes("profile email profile:write account:password account:manage 2fa:manage sessions:manage")
                 .build();
+        testPolicy = new ClientRegistry(mock(ClientRepository.class), new ObjectMapper().findAndRegisterModules())
+                .update(testClient);
 
         mockRequest = new MockHttpServletRequest();
     }
@@ -122,12 +124,12 @@ class OAuthServiceImplTest {
                 .expiresAt(LocalDateTime.now().plusMinutes(10))
                 .build();
 
-        when(authorizationCodeRepository.findByCodeAndClientId(code, clientId))
+        when(authorizationCodeStore.consume(code, clientId))
                 .thenReturn(Optional.of(authCode));
         when(pkceUtil.isValidCodeVerifier(codeVerifier)).thenReturn(true);
         when(pkceUtil.verifyCodeChallenge(codeVerifier, "challenge_123")).thenReturn(true);
-        when(clientRepository.findByClientId(clientId)).thenReturn(Optional.of(testClient));
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(clientRegistry.find(clientId)).thenReturn(Optional.of(testPolicy));
+        when(userCacheService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
         when(jwtUtil.generateAccessTokenWithJti(testUser, clientId, Set.of("profile", "email", "account:manage")))
                 .thenReturn(new JwtUtil.TokenResult("access_token_with_scope", "jti_123"));
         when(jwtUtil.generateRefreshToken(testUser)).thenReturn("refresh_token");
@@ -142,7 +144,7 @@ class OAuthServiceImplTest {
         assertThat(response.getScope().split(" ")).containsExactlyInAnyOrder("profile", "email", "account:manage");
 
         verify(sessionService).createSession(eq(testUser), eq("refresh_token"), eq("jti_123"),
-                eq(mockRequest), eq(true), eq(Set.of("profile", "email", "account:manage")));
+                eq(mockRequest), eq(true), eq(Set.of("profile", "email", "account:manage")), argThat(client -> client.getClientId().equals("client_001")));
     }
 
     @Test
@@ -164,11 +166,11 @@ class OAuthServiceImplTest {
                 .expiresAt(LocalDateTime.now().plusMinutes(10))
                 .build();
 
-        when(authorizationCodeRepository.findByCodeAndClientId(code, clientId))
+        when(authorizationCodeStore.consume(code, clientId))
                 .thenReturn(Optional.of(authCode));
-        when(clientRepository.findByClientId(clientId)).thenReturn(Optional.of(testClient));
-        when(passwordEncoder.matches(clientSecret, testClient.getClientSecret())).thenReturn(true);
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(clientRegistry.find(clientId)).thenReturn(Optional.of(testPolicy));
+        when(clientSecretVerifier.matches(testPolicy, clientSecret)).thenReturn(true);
+        when(userCacheService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
         when(jwtUtil.generateAccessTokenWithJti(testUser, clientId, Set.of("profile", "email")))
                 .thenReturn(new JwtUtil.TokenResult("access_token_default", "jti_default"));
         when(jwtUtil.generateRefreshToken(testUser)).thenReturn("refresh_token");
@@ -182,7 +184,21 @@ class OAuthServiceImplTest {
         assertThat(response.getScope().split(" ")).containsExactlyInAnyOrder("profile", "email");
 
         verify(sessionService).createSession(eq(testUser), eq("refresh_token"), eq("jti_default"),
-                eq(mockRequest), eq(false), eq(Set.of("profile", "email")));
+                eq(mockRequest), eq(false), eq(Set.of("profile", "email")), argThat(client -> client.getClientId().equals("client_001")));
+    }
+
+    @Test
+    @DisplayName("Authorization Code 교환 - 이미 사용된 코드는 거부하고 토큰을 발급하지 않음")
+    void exchangeCodeForToken_consumedCode_throws() {
+        // given
+        when(authorizationCodeStore.consume("auth_code_123", "client_001")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> oAuthService.exchangeCodeForToken(
+                "auth_code_123", "client_001", "secret", "https://example.com/callback", null, mockRequest))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessage("유효하지 않은 인증 코드입니다.");
+        verifyNoInteractions(jwtUtil, sessionService);
     }
 
     @Test
@@ -205,13 +221,10 @@ class OAuthServiceImplTest {
                 .build();
 
         when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
-        when(sessionService.validateSession(refreshToken)).thenReturn(true);
         when(sessionService.hashToken(refreshToken)).thenReturn(oldSessionHash);
-        when(userSessionRepository.findById(oldSessionHash)).thenReturn(Optional.of(oldSession));
-        when(clientRepository.findByClientId(clientId)).thenReturn(Optional.of(testClient));
-        when(passwordEncoder.matches(clientSecret, testClient.getClientSecret())).thenReturn(true);
-        when(jwtUtil.extractEmail(refreshToken)).thenReturn("test@example.com");
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userSessionRepository.findWithUserByRefreshTokenHash(oldSessionHash)).thenReturn(Optional.of(oldSession));
+        when(clientRegistry.find(clientId)).thenReturn(Optional.of(testPolicy));
+        when(clientSecretVerifier.matches(testPolicy, clientSecret)).thenReturn(true);
         when(jwtUtil.generateAccessTokenWithJti(testUser, clientId, Set.of("profile", "email", "2fa:manage")))
                 .thenReturn(new JwtUtil.TokenResult("new_access_token", "new_jti"));
         when(jwtUtil.generateRefreshToken(testUser)).thenReturn("new_refresh_token");
@@ -224,8 +237,8 @@ class OAuthServiceImplTest {
         assertThat(response).isNotNull();
         assertThat(response.getScope().split(" ")).containsExactlyInAnyOrder("profile", "email", "2fa:manage");
 
-        verify(sessionService).createSession(eq(testUser), eq("new_refresh_token"), eq("new_jti"),
-                eq(mockRequest), eq(false), eq(Set.of("profile", "email", "2fa:manage")));
+        verify(sessionService).rotateSession(eq(oldSession), eq("new_refresh_token"), eq("new_jti"),
+                eq(mockRequest), eq(false), eq(Set.of("profile", "email", "2fa:manage")), argThat(client -> client.getClientId().equals("client_001")));
     }
 
     @Test
@@ -248,12 +261,9 @@ class OAuthServiceImplTest {
                 .build();
 
         when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
-        when(sessionService.validateSession(refreshToken)).thenReturn(true);
         when(sessionService.hashToken(refreshToken)).thenReturn(oldSessionHash);
-        when(userSessionRepository.findById(oldSessionHash)).thenReturn(Optional.of(oldSession));
-        when(clientRepository.findByClientId(clientId)).thenReturn(Optional.of(testClient));
-        when(jwtUtil.extractEmail(refreshToken)).thenReturn("test@example.com");
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userSessionRepository.findWithUserByRefreshTokenHash(oldSessionHash)).thenReturn(Optional.of(oldSession));
+        when(clientRegistry.find(clientId)).thenReturn(Optional.of(testPolicy));
         when(jwtUtil.generateAccessTokenWithJti(testUser, clientId, Set.of("profile", "email")))
                 .thenReturn(new JwtUtil.TokenResult("new_access_token", "new_jti"));
         when(jwtUtil.generateRefreshToken(testUser)).thenReturn("new_refresh_token");
@@ -266,8 +276,70 @@ class OAuthServiceImplTest {
         assertThat(response).isNotNull();
         assertThat(response.getScope().split(" ")).containsExactlyInAnyOrder("profile", "email");
 
-        verify(sessionService).createSession(eq(testUser), eq("new_refresh_token"), eq("new_jti"),
-                eq(mockRequest), eq(true), eq(Set.of("profile", "email")));
+        verify(sessionService).rotateSession(eq(oldSession), eq("new_refresh_token"), eq("new_jti"),
+                eq(mockRequest), eq(true), eq(Set.of("profile", "email")), argThat(client -> client.getClientId().equals("client_001")));
+    }
+
+    @Test
+    @DisplayName("Refresh Token 갱신 - 사용자/세션 재조회 없이 세션 로테이션 1회")
+    void refreshAccessToken_readsSessionOnce() {
+        // given
+        String refreshToken = "refresh_token_123";
+        String clientId = "client_001";
+        String oldSessionHash = "old_hash";
+
+        UserSession oldSession = UserSession.builder()
+                .refreshTokenHash(oldSessionHash)
+                .user(testUser)
+                .clientId(clientId)
+                .pkceFlow(true)
+                .isRevoked(false)
+                .expiresAt(LocalDateTime.now().plusDays(7))
+                .build();
+
+        when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
+        when(sessionService.hashToken(refreshToken)).thenReturn(oldSessionHash);
+        when(userSessionRepository.findWithUserByRefreshTokenHash(oldSessionHash)).thenReturn(Optional.of(oldSession));
+        when(clientRegistry.find(clientId)).thenReturn(Optional.of(testPolicy));
+        when(jwtUtil.generateAccessTokenWithJti(any(), any(), any()))
+                .thenReturn(new JwtUtil.TokenResult("new_access_token", "new_jti"));
+        when(jwtUtil.generateRefreshToken(testUser)).thenReturn("new_refresh_token");
+
+        // when
+        oAuthService.refreshAccessToken(refreshToken, clientId, null, mockRequest);
+
+        // then
+        verify(userSessionRepository, times(1)).findWithUserByRefreshTokenHash(oldSessionHash);
+        verify(sessionService, never()).validateSession(any());
+        verify(sessionService, never()).revokeSession(any(), any(), any());
+        verifyNoInteractions(userCacheService);
+    }
+
+    @Test
+    @DisplayName("Refresh Token 갱신 - 세션을 발급한 클라이언트가 아니면 실패")
+    void refreshAccessToken_otherClientSession_throws() {
+        // given
+        String refreshToken = "refresh_token_123";
+        String oldSessionHash = "old_hash";
+
+        UserSession oldSession = UserSession.builder()
+                .refreshTokenHash(oldSessionHash)
+                .user(testUser)
+                .clientId("client_other")
+                .pkceFlow(true)
+                .isRevoked(false)
+                .expiresAt(LocalDateTime.now().plusDays(7))
+                .build();
+
+        when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
+        when(sessionService.hashToken(refreshToken)).thenReturn(oldSessionHash);
+        when(userSessionRepository.findWithUserByRefreshTokenHash(oldSessionHash)).thenReturn(Optional.of(oldSession));
+        when(clientRegistry.find("client_001")).thenReturn(Optional.of(testPolicy));
+
+        // when & then
+        assertThatThrownBy(() -> oAuthService.refreshAccessToken(refreshToken, "client_001", null, mockRequest))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(sessionService, never()).rotateSession(any(), any(), any(), any(), anyBoolean(), any(), any());
     }
 
     @Test
@@ -280,18 +352,16 @@ class OAuthServiceImplTest {
         String state = "state_123";
         String scopes = "profile email account:manage";
 
-        when(clientRepository.findByClientId(clientId)).thenReturn(Optional.of(testClient));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(testUser));
+        when(clientRegistry.find(clientId)).thenReturn(Optional.of(testPolicy));
+        when(userCacheService.findByEmail(email)).thenReturn(Optional.of(testUser));
         when(tokenGenerator.generatePasswordResetToken()).thenReturn("generated_code");
-        when(authorizationCodeRepository.save(any(AuthorizationCode.class)))
-                .thenAnswer(i -> i.getArgument(0));
 
         // when
         String code = oAuthService.generateAuthorizationCode(clientId, email, redirectUri, state, scopes);
 
         // then
         assertThat(code).isEqualTo("generated_code");
-        verify(authorizationCodeRepository).save(argThat(authCode ->
+        verify(authorizationCodeStore).save(argThat(authCode ->
                 authCode.getScopes().equals(scopes)
         ));
     }
@@ -0,0 +1,116 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.auth.entity.User;
+import kr.hyfata.rest.api.auth.repository.UserRepository;
+import kr.hyfata.rest.api.auth.service.CustomUserDetailsService;
+import kr.hyfata.rest.api.common.service.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /oauth/login 경로(AuthenticationManager + UserDetailsPasswordService)의 로그인 시 다시 해싱
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PasswordRehashOnLoginTest {
+
+    private static final String EMAIL = "rehash@example.com";
+    private static final String PASSWORD = "Password123!";
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("접두사 없는 기존 BCrypt 해시는 로그인 성공 시 현재 설정으로 다시 해싱")
+    void login_legacyHash_upgraded() {
+        // given
+        saveUser(new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        // when
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD));
+
+        // then
+        String stored = storedHash();
+        assertThat(stored).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches(PASSWORD, stored)).isTrue();
+    }
+
+    @Test
+    @DisplayName("현재 설정으로 만든 해시는 그대로 유지")
+    void login_currentHash_unchanged() {
+        // given
+        String current = passwordEncoder.encode(PASSWORD);
+        saveUser(current);
+
+        // when
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD));
+
+        // then
+        assertThat(storedHash()).isEqualTo(current);
+    }
+
+    @Test
+    @DisplayName("검증한 해시가 그 사이 바뀌었으면 (다른 노드에서 비밀번호 재설정) 새 비밀번호를 덮어쓰지 않음")
+    void updatePassword_storedHashChanged_doesNotOverwrite() {
+        // given: 이전 비밀번호로 검증한 주체
+        String legacy = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        User verified = saveUser(legacy);
+        User stale = User.builder().email(EMAIL).password(legacy).build();
+
+        // 다른 노드에서 비밀번호 재설정
+        String reset = passwordEncoder.encode("NewPassword456!");
+        verified.setPassword(reset);
+        userRepository.save(verified);
+
+        // when
+        userDetailsService.updatePassword(stale, passwordEncoder.encode(PASSWORD));
+
+        // then
+        assertThat(storedHash()).isEqualTo(reset);
+    }
+
+    private User saveUser(String passwordHash) {
+        return userRepository.save(User.builder()
+                .email(EMAIL)
+                .username("rehash")
+                .password(passwordHash)
+                .firstName("Test")
+                .lastName("User")
+                .enabled(true)
+                .twoFactorEnabled(false)
+                .emailVerified(true)
+                .build());
+    }
+
+    private String storedHash() {
+        return userRepository.findByEmail(EMAIL).orElseThrow().getPassword();
+    }
+}
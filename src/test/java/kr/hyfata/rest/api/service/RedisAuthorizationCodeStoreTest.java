@@ -0,0 +1,122 @@
+package kr.hyfata.rest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hyfata.rest.api.auth.entity.AuthorizationCode;
+import kr.hyfata.rest.api.auth.service.impl.RedisAuthorizationCodeStore;
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisAuthorizationCodeStoreTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private RedisAuthorizationCodeStore authorizationCodeStore;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        authorizationCodeStore = new RedisAuthorizationCodeStore(redisTemplate, new RedisCircuitBreaker(5, 10000), objectMapper);
+    }
+
+    @Test
+    @DisplayName("코드 저장 - 해시 키와 만료까지 남은 TTL로 한 번에 저장 (코드 원문은 키에 없음)")
+    void save_setsWithTtl() {
+        // given
+        AuthorizationCode authCode = authCode("client_001", LocalDateTime.now().plusMinutes(10));
+
+        // when
+        authorizationCodeStore.save(authCode);
+
+        // then
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+        verify(valueOperations).set(key.capture(), anyString(), ttl.capture());
+        assertThat(key.getValue()).startsWith("oauth:code:").doesNotContain("auth_code_123");
+        assertThat(ttl.getValue()).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("코드 사용 - GETDEL 한 번으로 조회와 삭제, 두 번째 사용은 empty")
+    void consume_getAndDelete_onlyOnce() throws Exception {
+        // given
+        String json = objectMapper.writeValueAsString(authCode("client_001", LocalDateTime.now().plusMinutes(10)));
+        when(valueOperations.getAndDelete(startsWith("oauth:code:"))).thenReturn(json, (String) null);
+
+        // when
+        Optional<AuthorizationCode> first = authorizationCodeStore.consume("auth_code_123", "client_001");
+        Optional<AuthorizationCode> second = authorizationCodeStore.consume("auth_code_123", "client_001");
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().getEmail()).isEqualTo("test@example.com");
+        assertThat(first.get().getCodeChallenge()).isEqualTo("challenge_123");
+        assertThat(second).isEmpty();
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("코드 사용 - 다른 클라이언트의 코드는 반환하지 않음")
+    void consume_otherClient_returnsEmpty() throws Exception {
+        // given
+        String json = objectMapper.writeValueAsString(authCode("client_other", LocalDateTime.now().plusMinutes(10)));
+        when(valueOperations.getAndDelete(anyString())).thenReturn(json);
+
+        // when
+        Optional<AuthorizationCode> result = authorizationCodeStore.consume("auth_code_123", "client_001");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 코드 발급 실패 (IllegalStateException)")
+    void save_redisFailure_throws() {
+        // given
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        // when & then
+        assertThatThrownBy(() -> authorizationCodeStore.save(authCode("client_001", LocalDateTime.now().plusMinutes(10))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private AuthorizationCode authCode(String clientId, LocalDateTime expiresAt) {
+        return AuthorizationCode.builder()
+                .code("auth_code_123")
+                .clientId(clientId)
+                .email("test@example.com")
+                .redirectUri("https://example.com/callback")
+                .codeChallenge("challenge_123")
+                .codeChallengeMethod("S256")
+                .scopes("profile email")
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,248 @@
+package kr.hyfata.rest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hyfata.rest.api.auth.dto.OAuthTokenResponse;
+import kr.hyfata.rest.api.auth.service.RefreshCoalescer;
+import kr.hyfata.rest.api.common.exception.RefreshInProgressException;
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshCoalescerTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private static final String RESULT_SECRET = "refresh-result-test-secret";
+
+    private RefreshCoalescer refreshCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        refreshCoalescer = newNode(RESULT_SECRET);
+    }
+
+    @Test
+    @DisplayName("동시 갱신 - 같은 Refresh Token은 한 번만 로테이션하고 모두 같은 토큰 쌍을 받음")
+    void coalesce_concurrentRefreshes_rotateOnce() throws Exception {
+        // given
+        when(valueOperations.setIfAbsent(startsWith("refresh:lock:"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        AtomicInteger rotations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<OAuthTokenResponse>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return refreshCoalescer.coalesce("refresh-token", "client", OAuthTokenResponse.class, () -> {
+                    int n = rotations.incrementAndGet();
+                    sleep(200);
+                    return token("access-" + n, "refresh-" + n);
+                });
+            }));
+        }
+        start.countDown();
+        List<OAuthTokenResponse> results = new ArrayList<>();
+        for (Future<OAuthTokenResponse> future : futures) {
+            results.add(future.get());
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(rotations.get()).isEqualTo(1);
+        assertThat(results).extracting(OAuthTokenResponse::getRefreshToken).containsOnly("refresh-1");
+    }
+
+    @Test
+    @DisplayName("유예 시간 - 갱신 직후 같은 요청은 로테이션 없이 같은 토큰 쌍 반환")
+    void coalesce_withinGraceWindow_returnsSameTokens() {
+        // given
+        when(valueOperations.setIfAbsent(startsWith("refresh:lock:"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        AtomicInteger rotations = new AtomicInteger();
+
+        // when
+        OAuthTokenResponse first = refreshCoalescer.coalesce("refresh-token", "client", OAuthTokenResponse.class,
+                () -> token("access-" + rotations.incrementAndGet(), "refresh-1"));
+        OAuthTokenResponse second = refreshCoalescer.coalesce("refresh-token", "client", OAuthTokenResponse.class,
+                () -> token("access-" + rotations.incrementAndGet(), "refresh-2"));
+
+        // then
+        assertThat(rotations.get()).isEqualTo(1);
+        assertThat(second.getAccessToken()).isEqualTo(first.getAccessToken());
+        verify(valueOperations).set(startsWith("refresh:result:"), anyString(), eq(Duration.ofMillis(10000)));
+    }
+
+    @Test
+    @DisplayName("다른 자격 증명 - 같은 Refresh Token이어도 결과를 공유하지 않음")
+    void coalesce_differentCredentials_notShared() {
+        // given
+        when(valueOperations.setIfAbsent(startsWith("refresh:lock:"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        AtomicInteger rotations = new AtomicInteger();
+
+        // when
+        refreshCoalescer.coalesce("refresh-token", "client-a", OAuthTokenResponse.class,
+                () -> token("access-" + rotations.incrementAndGet(), "refresh"));
+        refreshCoalescer.coalesce("refresh-token", "client-b", OAuthTokenResponse.class,
+                () -> token("access-" + rotations.incrementAndGet(), "refresh"));
+
+        // then
+        assertThat(rotations.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 갱신 중 - 로테이션 없이 Redis에 저장된 결과 반환")
+    void coalesce_lockedByOtherNode_waitsForStoredResult() {
+        // given
+        String stored = storedByOtherNode(RESULT_SECRET, token("remote-access", "remote-refresh"));
+        when(valueOperations.get(startsWith("refresh:result:")))
+                .thenReturn(null)
+                .thenReturn(stored);
+        when(valueOperations.setIfAbsent(startsWith("refresh:lock:"), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        // when
+        OAuthTokenResponse result = refreshCoalescer.coalesce("refresh-token", "client", OAuthTokenResponse.class,
+                () -> {
+                    throw new AssertionError("rotation must not run");
+                });
+
+        // then
+        assertThat(result.getRefreshToken()).isEqualTo("remote-refresh");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 갱신이 길어짐 - 락 만료까지 기다리지 않고 재시도 요청")
+    void coalesce_lockedByOtherNodeTooLong_rejectsWithRetry() {
+        // given
+        when(valueOperations.setIfAbsent(startsWith("refresh:lock:"), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        when(redisTemplate.hasKey(startsWith("refresh:lock:"))).thenReturn(true);
+        long started = System.currentTimeMillis();
+
+        // when & then
+        assertThatThrownBy(() -> refreshCoalescer.coalesce("refresh-token", "client", OAuthTokenResponse.class,
+                () -> {
+                    throw new AssertionError("rotation must not run");
+                })).isInstanceOf(RefreshInProgressException.class);
+        assertThat(System.currentTimeMillis() - started).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("결과 저장 - Redis에는 토큰 쌍이 평문으로 남지 않음")
+    void coalesce_storedResult_isEncrypted() {
+        // when
+        String stored = storedByOtherNode(RESULT_SECRET, token("plain-access", "plain-refresh"));
+
+        // then
+        assertThat(stored).doesNotContain("plain-access").doesNotContain("plain-refresh");
+    }
+
+    @Test
+    @DisplayName("다른 서버 키로 암호화된 결과 - 복호화하지 않고 저장된 결과가 없는 것으로 처리")
+    void coalesce_resultFromForeignKey_ignored() {
+        // given
+        String stored = storedByOtherNode("another-secret", token("remote-access", "remote-refresh"));
+        when(valueOperations.get(startsWith("refresh:result:"))).thenReturn(stored);
+        when(valueOperations.setIfAbsent(startsWith("refresh:lock:"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+
+        // when
+        OAuthTokenResponse result = refreshCoalescer.coalesce("refresh-token", "client", OAuthTokenResponse.class,
+                () -> token("local-access", "local-refresh"));
+
+        // then
+        assertThat(result.getRefreshToken()).isEqualTo("local-refresh");
+    }
+
+    @Test
+    @DisplayName("갱신 실패 - 예외를 전달하고 결과를 저장하지 않음")
+    void coalesce_failure_notCached() {
+        // given
+        when(valueOperations.setIfAbsent(startsWith("refresh:lock:"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        AtomicInteger rotations = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> refreshCoalescer.coalesce("refresh-token", null, OAuthTokenResponse.class, () -> {
+            rotations.incrementAndGet();
+            throw new BadCredentialsException("세션이 해지되었습니다.");
+        })).isInstanceOf(BadCredentialsException.class);
+
+        refreshCoalescer.coalesce("refresh-token", null, OAuthTokenResponse.class, () -> {
+            rotations.incrementAndGet();
+            return token("access", "refresh");
+        });
+
+        assertThat(rotations.get()).isEqualTo(2);
+        verify(valueOperations, times(1)).set(startsWith("refresh:result:"), anyString(), any(Duration.class));
+    }
+
+    private RefreshCoalescer newNode(String resultSecret) {
+        return new RefreshCoalescer(
+                redisTemplate, new RedisCircuitBreaker(5, 10000), new ObjectMapper(), 1000, 10000, 10, 200, resultSecret);
+    }
+
+    /**
+     * 다른 노드에서 같은 요청을 로테이션하고 Redis에 저장한 값
+     */
+    private String storedByOtherNode(String resultSecret, OAuthTokenResponse response) {
+        when(valueOperations.setIfAbsent(startsWith("refresh:lock:"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        newNode(resultSecret).coalesce("refresh-token", "client", OAuthTokenResponse.class, () -> response);
+
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(startsWith("refresh:result:"), stored.capture(), any(Duration.class));
+        return stored.getValue();
+    }
+
+    private static OAuthTokenResponse token(String accessToken, String refreshToken) {
+        return OAuthTokenResponse.builder()
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
+                .expiresIn(86400000L)
+                .scope("profile")
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
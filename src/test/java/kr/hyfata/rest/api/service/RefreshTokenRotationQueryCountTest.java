@@ -0,0 +1,152 @@
+package kr.hyfata.rest.api.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.hyfata.rest.api.auth.entity.Client;
+import kr.hyfata.rest.api.auth.entity.User;
+import kr.hyfata.rest.api.auth.entity.UserSession;
+import kr.hyfata.rest.api.auth.repository.ClientRepository;
+import kr.hyfata.rest.api.auth.repository.UserRepository;
+import kr.hyfata.rest.api.auth.repository.UserSessionRepository;
+import kr.hyfata.rest.api.auth.service.ClientRegistry;
+import kr.hyfata.rest.api.auth.service.OAuthService;
+import kr.hyfata.rest.api.auth.service.SessionAdmissionService;
+import kr.hyfata.rest.api.auth.service.SessionEnrichmentQueue;
+import kr.hyfata.rest.api.auth.service.SessionService;
+import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
+import kr.hyfata.rest.api.common.service.EmailService;
+import kr.hyfata.rest.api.common.util.JwtUtil;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Refresh Token 로테이션 SQL 문 수 검증
+ * 이전 구현: 세션 검증 SELECT, 세션 재조회, 클라이언트, 사용자, revokeSession의 사용자/세션 재조회 + UPDATE,
+ * createSession의 COUNT/목록 조회, merge SELECT + INSERT (약 10회)
+ * 현재: 세션+사용자 SELECT, 기존 세션 UPDATE, 새 세션 INSERT (3회, 클라이언트는 노드 로컬 레지스트리에서 조회)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class RefreshTokenRotationQueryCountTest {
+
+    @Autowired
+    private OAuthService oAuthService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ClientRegistry clientRegistry;
+
+    @Autowired
+    private UserSessionRepository sessionRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    // Redis 의존 구성요소는 SQL 문 수와 무관하므로 대체
+    @MockitoBean
+    private SessionAdmissionService sessionAdmissionService;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    // 백그라운드 보강 UPDATE가 측정 구간에 섞이지 않도록 대체
+    @MockitoBean
+    private SessionEnrichmentQueue sessionEnrichmentQueue;
+
+    private Statistics statistics;
+    private String refreshToken;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        clientRepository.deleteAll();
+        userRepository.deleteAll();
+
+        when(sessionAdmissionService.admit(any(), any(), anyLong(), anyInt(), any()))
+                .thenReturn(Optional.of(List.of()));
+
+        User user = userRepository.save(User.builder()
+                .email("rotation@example.com")
+                .username("rotation")
+                .password("encoded")
+                .enabled(true)
+                .emailVerified(true)
+                .build());
+
+        Client client = clientRepository.save(Client.builder()
+                .clientId("rotation-client")
+                .clientSecret("encoded-secret")
+                .name("Rotation Client")
+                .frontendUrl("https://example.com")
+                .redirectUris("https://example.com/callback")
+                .build());
+
+        refreshToken = jwtUtil.generateRefreshToken(user);
+        sessionService.createSession(user, refreshToken, "old-jti", request(), true, Set.of("profile"), client);
+        clientRegistry.reload();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionRepository.deleteAll();
+        clientRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Refresh Token 로테이션 - SQL 3회 (세션+사용자, UPDATE, INSERT)")
+    void refreshAccessToken_executesThreeStatements() {
+        // when
+        oAuthService.refreshAccessToken(refreshToken, "rotation-client", null, request());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getTransactionCount()).isEqualTo(1);
+
+        UserSession oldSession = sessionRepository.findById(sessionService.hashToken(refreshToken)).orElseThrow();
+        assertThat(oldSession.getIsRevoked()).isTrue();
+        assertThat(sessionRepository.count()).isEqualTo(2);
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("127.0.0.1");
+        request.addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) Chrome/120.0.0.0");
+        return request;
+    }
+}
@@ -0,0 +1,217 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.auth.service.RevocationEpochService;
+import kr.hyfata.rest.api.auth.service.RevocationJournal;
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevocationEpochServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RevocationJournal journal;
+
+    private RevocationEpochService revocationEpochService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        revocationEpochService = new RevocationEpochService(
+                redisTemplate, new RedisCircuitBreaker(5, 10000), journal, 900000L, 10, 1000, "open");
+    }
+
+    @Test
+    @DisplayName("전체 무효화 - Access Token 수명만큼 TTL로 epoch 1회 기록 후 전파")
+    void revokeAllIssuedBefore_writesSingleKey() {
+        // when
+        long epoch = revocationEpochService.revokeAllIssuedBefore("test@example.com");
+
+        // then
+        verify(redisTemplate, times(1)).execute(
+                ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of("token:revoke-epoch:test@example.com")),
+                eq(Long.toString(epoch)),
+                argThat((String ttl) -> Long.parseLong(ttl) > 899_000 && Long.parseLong(ttl) <= 900_000));
+        verify(redisTemplate).convertAndSend("token:revocation:epoch", epoch + "|test@example.com");
+        verify(journal, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("전체 무효화 - Redis 기록 실패 시 저널에 기록하고 이 노드에서는 계속 차단")
+    void revokeAllIssuedBefore_redisError_journals() {
+        // given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any()))
+                .thenThrow(new RuntimeException("Redis connection error"));
+
+        // when
+        long epoch = revocationEpochService.revokeAllIssuedBefore("test@example.com");
+
+        // then
+        verify(journal).append(argThat(entries -> entries.size() == 1
+                && entries.get(0).type().equals("epoch")
+                && entries.get(0).id().equals("test@example.com")
+                && entries.get(0).value() == epoch));
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+        assertThat(revocationEpochService.isRevoked("test@example.com", Instant.ofEpochMilli(epoch - 1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("전체 무효화 - 서킷이 열려 있으면 Redis 호출 없이 저널에 기록")
+    void revokeAllIssuedBefore_circuitOpen_journalsWithoutRedis() {
+        // given
+        RedisCircuitBreaker openBreaker = new RedisCircuitBreaker(1, 60_000);
+        openBreaker.recordFailure();
+        RevocationEpochService service = new RevocationEpochService(
+                redisTemplate, openBreaker, journal, 900000L, 10, 1000, "open");
+
+        // when
+        service.revokeAllIssuedBefore("test@example.com");
+
+        // then
+        verifyNoInteractions(redisTemplate);
+        verify(journal).append(argThat(entries -> entries.get(0).type().equals("epoch")));
+    }
+
+    @Test
+    @DisplayName("저널 재전송 - epoch 항목만 Redis에 기록하고 기록한 항목만 저널에서 제거")
+    void replayJournal_writesEpochEntries() {
+        // given
+        long epoch = System.currentTimeMillis();
+        RevocationJournal.Entry pending = new RevocationJournal.Entry(
+                "epoch", "test@example.com", System.currentTimeMillis() + 60_000, epoch);
+        RevocationJournal.Entry jti = new RevocationJournal.Entry(
+                "jti", "pending-jti", System.currentTimeMillis() + 60_000);
+        when(journal.isEmpty()).thenReturn(false);
+        when(journal.readAll()).thenReturn(List.of(jti, pending));
+
+        // when
+        int replayed = revocationEpochService.replayJournal();
+
+        // then
+        assertThat(replayed).isEqualTo(1);
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of("token:revoke-epoch:test@example.com")), eq(Long.toString(epoch)), anyString());
+        verify(redisTemplate).convertAndSend("token:revocation:epoch", epoch + "|test@example.com");
+        verify(journal).remove(List.of(pending));
+        assertThat(revocationEpochService.isRevoked("test@example.com", Instant.ofEpochMilli(epoch - 1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("저널 재전송 - Redis 기록 실패 시 저널을 그대로 유지")
+    void replayJournal_redisError_keepsJournal() {
+        // given
+        when(journal.isEmpty()).thenReturn(false);
+        when(journal.readAll()).thenReturn(List.of(new RevocationJournal.Entry(
+                "epoch", "test@example.com", System.currentTimeMillis() + 60_000, System.currentTimeMillis())));
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any()))
+                .thenThrow(new RuntimeException("Redis connection error"));
+
+        // when
+        int replayed = revocationEpochService.replayJournal();
+
+        // then
+        assertThat(replayed).isZero();
+        verify(journal, never()).remove(any());
+        verify(journal, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("epoch 이전 발급 토큰은 무효, 이후 발급 토큰은 유효")
+    void isRevoked_comparesIssuedAt() {
+        // given
+        long epoch = revocationEpochService.revokeAllIssuedBefore("test@example.com");
+
+        // then - 로컬 미러로 판단하므로 Redis 조회 없음
+        assertThat(revocationEpochService.isRevoked("test@example.com", Instant.ofEpochMilli(epoch - 1))).isTrue();
+        assertThat(revocationEpochService.isRevoked("test@example.com", Instant.ofEpochMilli(epoch))).isFalse();
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("무효화 직후 같은 초에 다시 로그인해 발급된 토큰은 유효")
+    void isRevoked_reloginInSameSecond_notRevoked() {
+        // given
+        long epoch = revocationEpochService.revokeAllIssuedBefore("test@example.com");
+
+        // when - 무효화 다음 밀리초에 발급 (iat_ms)
+        Instant reissuedAt = Instant.ofEpochMilli(epoch);
+
+        // then
+        assertThat(revocationEpochService.isRevoked("test@example.com", reissuedAt)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 기록한 epoch는 Redis에서 조회")
+    void isRevoked_loadsEpochFromRedis() {
+        // given
+        long epoch = System.currentTimeMillis();
+        when(valueOperations.get("token:revoke-epoch:other@example.com")).thenReturn(Long.toString(epoch));
+
+        // then
+        assertThat(revocationEpochService.isRevoked("other@example.com", Instant.ofEpochMilli(epoch - 1))).isTrue();
+        assertThat(revocationEpochService.isRevoked("other@example.com", Instant.ofEpochMilli(epoch))).isFalse();
+        verify(valueOperations, times(1)).get("token:revoke-epoch:other@example.com");
+    }
+
+    @Test
+    @DisplayName("초 단위로 기록된 기존 epoch는 밀리초로 변환해 비교")
+    void isRevoked_legacySecondEpoch() {
+        // given
+        long epochSecond = Instant.now().getEpochSecond();
+        when(valueOperations.get("token:revoke-epoch:legacy@example.com")).thenReturn(Long.toString(epochSecond));
+
+        // then
+        assertThat(revocationEpochService.isRevoked("legacy@example.com", Instant.ofEpochSecond(epochSecond - 1))).isTrue();
+        assertThat(revocationEpochService.isRevoked("legacy@example.com", Instant.ofEpochSecond(epochSecond))).isFalse();
+    }
+
+    @Test
+    @DisplayName("epoch가 없는 사용자는 무효화되지 않음")
+    void isRevoked_noEpoch() {
+        when(valueOperations.get(anyString())).thenReturn(null);
+
+        assertThat(revocationEpochService.isRevoked("test@example.com", Instant.now())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 오류 결과는 미러에 저장하지 않고, closed 정책이면 무효로 간주")
+    void getEpoch_redisError_notCachedAndFailClosed() {
+        // given
+        RevocationEpochService failClosedService = new RevocationEpochService(
+                redisTemplate, new RedisCircuitBreaker(5, 10000), journal, 900000L, 10, 1000, "closed");
+        when(valueOperations.get(anyString()))
+                .thenThrow(new RuntimeException("Redis connection error"))
+                .thenReturn(null);
+
+        // when & then
+        assertThat(failClosedService.isRevoked("test@example.com", Instant.now())).isTrue();
+        assertThat(failClosedService.isRevoked("test@example.com", Instant.now())).isFalse();
+        verify(valueOperations, times(2)).get("token:revoke-epoch:test@example.com");
+    }
+}
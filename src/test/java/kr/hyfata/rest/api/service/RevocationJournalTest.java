@@ -0,0 +1,121 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.auth.service.RevocationJournal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevocationJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("저널 기록 후 조회 - 만료된 항목은 제외")
+    void append_thenReadAll_skipsExpired() {
+        // given
+        RevocationJournal journal = new RevocationJournal(tempDir.resolve("journal/revocations.log").toString());
+        long now = System.currentTimeMillis();
+
+        // when
+        journal.append(List.of(
+                new RevocationJournal.Entry("jti", "live-jti", now + 60_000),
+                new RevocationJournal.Entry("jti", "expired-jti", now - 1_000)));
+        journal.append(List.of(new RevocationJournal.Entry("token", "token-hash", now + 60_000)));
+
+        // then
+        assertThat(journal.readAll())
+                .extracting(RevocationJournal.Entry::id)
+                .containsExactly("live-jti", "token-hash");
+        assertThat(journal.isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("remove - 재전송한 항목만 제거하고 나머지와 이후 추가된 항목은 유지")
+    void remove_keepsUnreplayedEntries() {
+        // given
+        RevocationJournal journal = new RevocationJournal(tempDir.resolve("revocations.log").toString());
+        long now = System.currentTimeMillis();
+        RevocationJournal.Entry replayed = new RevocationJournal.Entry("jti", "replayed-jti", now + 60_000);
+        RevocationJournal.Entry failed = new RevocationJournal.Entry("token", "failed-hash", now + 60_000);
+        journal.append(List.of(replayed, failed));
+        List<RevocationJournal.Entry> read = journal.readAll();
+        RevocationJournal.Entry appendedLater = new RevocationJournal.Entry("jti", "later-jti", now + 60_000);
+        journal.append(List.of(appendedLater));
+
+        // when
+        journal.remove(List.of(read.get(0)));
+
+        // then
+        assertThat(journal.readAll()).containsExactly(failed, appendedLater);
+    }
+
+    @Test
+    @DisplayName("remove - 모든 항목을 재전송하면 저널을 비움")
+    void remove_allEntries_emptiesJournal() {
+        // given
+        RevocationJournal journal = new RevocationJournal(tempDir.resolve("revocations.log").toString());
+        journal.append(List.of(new RevocationJournal.Entry("jti", "pending-jti", System.currentTimeMillis() + 60_000)));
+
+        // when
+        journal.remove(journal.readAll());
+
+        // then
+        assertThat(journal.isEmpty()).isTrue();
+        assertThat(journal.readAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("epoch 항목은 값 필드까지 기록 후 그대로 조회")
+    void append_epochEntry_roundTrips() {
+        // given
+        RevocationJournal journal = new RevocationJournal(tempDir.resolve("revocations.log").toString());
+        RevocationJournal.Entry epoch = new RevocationJournal.Entry(
+                "epoch", "test@example.com", System.currentTimeMillis() + 60_000, 1_700_000_000L);
+
+        // when
+        journal.append(List.of(epoch));
+
+        // then
+        assertThat(journal.readAll()).containsExactly(epoch);
+    }
+
+    @Test
+    @DisplayName("id에 구분자(|)가 들어 있어도 항목을 잃지 않음")
+    void append_idWithSeparator_roundTrips() {
+        // given
+        RevocationJournal journal = new RevocationJournal(tempDir.resolve("revocations.log").toString());
+        RevocationJournal.Entry epoch = new RevocationJournal.Entry(
+                "epoch", "odd|user@example.com", System.currentTimeMillis() + 60_000, 1_700_000_000L);
+
+        // when
+        journal.append(List.of(epoch));
+
+        // then
+        assertThat(journal.readAll()).containsExactly(epoch);
+        journal.remove(List.of(epoch));
+        assertThat(journal.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("이전 형식으로 기록된 줄도 조회")
+    void readAll_legacyLines_parsed() throws Exception {
+        // given
+        Path path = tempDir.resolve("revocations.log");
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        Files.writeString(path, "jti|legacy-jti|" + expiresAt + "\n"
+                + "epoch|test@example.com|" + expiresAt + "|1700000000000\n");
+        RevocationJournal journal = new RevocationJournal(path.toString());
+
+        // when & then
+        assertThat(journal.readAll()).containsExactly(
+                new RevocationJournal.Entry("jti", "legacy-jti", expiresAt),
+                new RevocationJournal.Entry("epoch", "test@example.com", expiresAt, 1_700_000_000_000L));
+    }
+}
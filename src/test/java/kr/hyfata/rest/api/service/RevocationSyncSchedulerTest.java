@@ -0,0 +1,87 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.auth.scheduler.RevocationSyncScheduler;
+import kr.hyfata.rest.api.auth.service.RevocationEpochService;
+import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.RedisListenerExecutionFailedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevocationSyncSchedulerTest {
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Mock
+    private RevocationEpochService revocationEpochService;
+
+    @Mock
+    private RedisMessageListenerContainer revocationListenerContainer;
+
+    @InjectMocks
+    private RevocationSyncScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "subscribeRetryMillis", 0L);
+    }
+
+    @Test
+    @DisplayName("기동 - Redis에 연결할 수 없어도 예외 없이 진행하고 재동기화 시도")
+    void bootstrap_redisUnavailable_doesNotFail() {
+        // given
+        doThrow(new RedisListenerExecutionFailedException("Connection refused"))
+                .when(revocationListenerContainer).start();
+
+        // when
+        scheduler.bootstrap();
+
+        // then
+        verify(tokenBlacklistService).replayJournal();
+        verify(revocationEpochService).replayJournal();
+        verify(tokenBlacklistService).syncFromRedis();
+    }
+
+    @Test
+    @DisplayName("구독 재시도 - 실패한 시작을 멈춘 뒤 다시 시작하고, 성공하면 재동기화")
+    void ensureSubscribed_afterFailure_restartsAndResyncs() {
+        // given
+        doThrow(new RedisListenerExecutionFailedException("Connection refused"))
+                .doNothing()
+                .when(revocationListenerContainer).start();
+        scheduler.bootstrap();
+        when(revocationListenerContainer.isRunning()).thenReturn(true);
+
+        // when
+        scheduler.ensureSubscribed();
+
+        // then
+        verify(revocationListenerContainer).stop();
+        verify(revocationListenerContainer, times(2)).start();
+        verify(tokenBlacklistService, times(2)).syncFromRedis();
+    }
+
+    @Test
+    @DisplayName("구독 중이면 아무것도 하지 않음")
+    void ensureSubscribed_listening_noop() {
+        // given
+        when(revocationListenerContainer.isListening()).thenReturn(true);
+
+        // when
+        scheduler.ensureSubscribed();
+
+        // then
+        verify(revocationListenerContainer, never()).start();
+        verifyNoInteractions(tokenBlacklistService);
+    }
+}
@@ -0,0 +1,133 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.auth.service.SessionActivityStore;
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionActivityStoreTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SessionActivityStore sessionActivityStore;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        sessionActivityStore = new SessionActivityStore(redisTemplate, new RedisCircuitBreaker(3, 60_000), jdbcTemplate, 60_000);
+    }
+
+    @Test
+    @DisplayName("활동 기록 - Redis 해시에만 기록")
+    void touch_writesToRedis() {
+        // when
+        boolean recorded = sessionActivityStore.touch("jti-1");
+
+        // then
+        assertThat(recorded).isTrue();
+        verify(hashOperations).put(eq("session:activity"), eq("jti-1"), anyString());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("활동 기록 - 같은 토큰은 touch-interval 안에 한 번만 Redis로 전송")
+    void touch_sameToken_sentOnce() {
+        // when
+        sessionActivityStore.touch("jti-1");
+        sessionActivityStore.touch("jti-1");
+        sessionActivityStore.touch("jti-2");
+
+        // then
+        verify(hashOperations, times(1)).put(eq("session:activity"), eq("jti-1"), anyString());
+        verify(hashOperations, times(1)).put(eq("session:activity"), eq("jti-2"), anyString());
+    }
+
+    @Test
+    @DisplayName("활동 기록 - Redis 오류 시 false 반환")
+    void touch_redisError_returnsFalse() {
+        // given
+        doThrow(new RuntimeException("Redis connection error"))
+                .when(hashOperations).put(anyString(), any(), any());
+
+        // when & then
+        assertThat(sessionActivityStore.touch("jti-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("미반영 활동 시각 조회 - 값이 있는 세션만 반환")
+    void getPendingActivity_returnsOnlyRecordedSessions() {
+        // given
+        long now = System.currentTimeMillis();
+        when(hashOperations.multiGet("session:activity", List.of("a", "b")))
+                .thenReturn(Arrays.asList(Long.toString(now), null));
+
+        // when
+        Map<String, LocalDateTime> pending = sessionActivityStore.getPendingActivity(List.of("a", "b"));
+
+        // then
+        assertThat(pending).containsOnlyKeys("a");
+    }
+
+    @Test
+    @DisplayName("배치 반영 - 1,200개 세션을 500개 단위 batchUpdate 3회로 반영하고 반영된 값만 삭제")
+    @SuppressWarnings("unchecked")
+    void flushToDatabase_batchesUpdates() {
+        // given
+        Map<Object, Object> pending = new LinkedHashMap<>();
+        for (int i = 0; i < 1_200; i++) {
+            pending.put("hash-" + i, Long.toString(System.currentTimeMillis()));
+        }
+        when(hashOperations.entries("session:activity")).thenReturn(pending);
+
+        // when
+        int flushed = sessionActivityStore.flushToDatabase();
+
+        // then
+        assertThat(flushed).isEqualTo(1_200);
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(redisTemplate, times(3)).execute(any(RedisScript.class), eq(List.of("session:activity")), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("배치 반영 - 미반영 항목이 없으면 DB 호출 없음")
+    void flushToDatabase_nothingPending() {
+        // given
+        when(hashOperations.entries("session:activity")).thenReturn(Map.of());
+
+        // when & then
+        assertThat(sessionActivityStore.flushToDatabase()).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
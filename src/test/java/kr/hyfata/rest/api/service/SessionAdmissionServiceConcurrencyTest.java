@@ -0,0 +1,151 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.auth.service.SessionAdmissionService;
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 동시 로그인 시 세션 제한 검증 (실제 Redis 필요)
+ * -Dredis.host/-Dredis.port가 있으면 해당 Redis의 15번 DB, 없으면 Testcontainers로 Redis 컨테이너 실행
+ * 둘 다 사용할 수 없으면 (Docker 없음) 건너뜀 - DB 잠금 경로는 SessionLimitFallbackConcurrencyTest
+ */
+class SessionAdmissionServiceConcurrencyTest {
+
+    private static final String SCOPE = "concurrency-test";
+    private static final int LIMIT = 5;
+
+    private static GenericContainer<?> redisContainer;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private SessionAdmissionService admissionService;
+
+    @BeforeAll
+    static void startRedis() {
+        if (System.getProperty("redis.host") == null && DockerClientFactory.instance().isDockerAvailable()) {
+            redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+            redisContainer.start();
+        }
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (redisContainer != null) {
+            redisContainer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration config = redisContainer != null
+                ? new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379))
+                : new RedisStandaloneConfiguration(
+                        System.getProperty("redis.host", "localhost"), Integer.getInteger("redis.port", 6379));
+        config.setDatabase(15);
+        connectionFactory = new LettuceConnectionFactory(config);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        boolean available;
+        try {
+            available = "PONG".equals(redisTemplate.execute(connection -> connection.ping(), true));
+        } catch (Exception e) {
+            available = false;
+        }
+        assumeTrue(available, "Redis is not available");
+
+        admissionService = new SessionAdmissionService(redisTemplate, new RedisCircuitBreaker(5, 10_000));
+        ReflectionTestUtils.setField(admissionService, "refreshTokenExpiration", 1209600000L);
+        redisTemplate.delete("session:active:" + SCOPE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.delete("session:active:" + SCOPE);
+            } catch (Exception ignored) {
+                // Redis 미사용 환경
+            }
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("동시 로그인 - 활성 세션 수가 제한을 넘지 않고 초과분만큼 정확히 제거")
+    void admit_concurrentLogins_neverExceedsLimit() throws Exception {
+        // given
+        int logins = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<String> evicted = new ConcurrentLinkedQueue<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < logins; i++) {
+            String hash = "session-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                Optional<List<String>> result = admissionService.admit(
+                        SCOPE, hash, System.currentTimeMillis(), LIMIT, Map::of);
+                assertThat(result).isPresent();
+                evicted.addAll(result.get());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        Long active = redisTemplate.opsForZSet().zCard("session:active:" + SCOPE);
+        assertThat(active).isEqualTo(LIMIT);
+        assertThat(evicted).hasSize(logins - LIMIT);
+        assertThat(evicted).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("최초 입장 - DB의 활성 세션으로 채운 뒤 가장 오래된 세션 제거")
+    void admit_emptyKey_seedsFromDatabase() {
+        // given
+        long now = System.currentTimeMillis();
+        Map<String, Long> seed = Map.of(
+                "db-1", now - 5000, "db-2", now - 4000, "db-3", now - 3000,
+                "db-4", now - 2000, "db-5", now - 1000);
+
+        // when
+        Optional<List<String>> result = admissionService.admit(SCOPE, "new", now, LIMIT, () -> seed);
+
+        // then
+        assertThat(result).contains(List.of("db-1"));
+        assertThat(redisTemplate.opsForZSet().zCard("session:active:" + SCOPE)).isEqualTo(LIMIT);
+    }
+}
@@ -0,0 +1,95 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.auth.service.SessionAdmissionService;
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionAdmissionServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private SessionAdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        admissionService = new SessionAdmissionService(redisTemplate, new RedisCircuitBreaker(5, 10_000));
+        ReflectionTestUtils.setField(admissionService, "refreshTokenExpiration", 1209600000L);
+    }
+
+    @Test
+    @DisplayName("DB 기반으로 입장시킨 범위는 Redis 복구 후 첫 입장에서 키를 지우고 DB 기준으로 다시 채움")
+    void admit_afterFallback_reseedsFromDatabase() {
+        // given - Redis 오류로 DB 기반 처리
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List>>any(), anyList(), any(Object[].class)))
+                .thenThrow(new RuntimeException("Redis connection error"))
+                .thenReturn(List.of());
+        assertThat(admissionService.admit("1", "during-outage", System.currentTimeMillis(), 5, Map::of)).isEmpty();
+
+        // when
+        Optional<List<String>> result = admissionService.admit("1", "after-recovery", System.currentTimeMillis(), 5, Map::of);
+
+        // then
+        assertThat(result).contains(List.of());
+        InOrder inOrder = inOrder(redisTemplate);
+        inOrder.verify(redisTemplate).delete("session:active:1");
+        inOrder.verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<List>>any(), eq(List.of("session:active:1")), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("정상 입장은 키를 지우지 않음")
+    void admit_noFallback_keepsKey() {
+        // given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List>>any(), anyList(), any(Object[].class))).thenReturn(List.of());
+
+        // when
+        admissionService.admit("1", "session", System.currentTimeMillis(), 5, Map::of);
+
+        // then
+        verify(redisTemplate, never()).delete(anyString());
+        assertThat(admissionService.clearStaleScopes()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영하지 못한 무효화가 있으면 복구 후 정리 주기에서 키를 한 번 삭제")
+    void clearStaleScopes_afterFailedRemove_deletesOnce() {
+        // given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.remove(eq("session:active:1:client-a"), any(Object[].class)))
+                .thenThrow(new RuntimeException("Redis connection error"));
+        admissionService.remove("1:client-a", List.of("revoked-session"));
+
+        // when
+        int first = admissionService.clearStaleScopes();
+        int second = admissionService.clearStaleScopes();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        verify(redisTemplate, times(1)).delete(List.of("session:active:1:client-a"));
+    }
+}
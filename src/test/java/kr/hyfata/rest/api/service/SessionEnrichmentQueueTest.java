@@ -0,0 +1,111 @@
+package kr.hyfata.rest.api.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hyfata.rest.api.auth.service.SessionEnrichmentQueue;
+import kr.hyfata.rest.api.common.util.DeviceDetector;
+import kr.hyfata.rest.api.common.util.GeoIpService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionEnrichmentQueueTest {
+
+    @Mock
+    private DeviceDetector deviceDetector;
+
+    @Mock
+    private GeoIpService geoIpService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private SessionEnrichmentQueue enrichmentQueue;
+
+    @BeforeEach
+    void setUp() {
+        enrichmentQueue = new SessionEnrichmentQueue(deviceDetector, geoIpService, jdbcTemplate, meterRegistry, 2, 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("보강 처리 - 기기/위치를 파싱해 한 번의 배치 UPDATE로 반영")
+    @SuppressWarnings("unchecked")
+    void drain_enrichesAndBatchUpdates() {
+        // given
+        when(deviceDetector.parse("ua")).thenReturn(
+                DeviceDetector.DeviceInfo.builder()
+                        .deviceType("Desktop")
+                        .deviceName("Chrome on Windows")
+                        .build()
+        );
+        when(geoIpService.resolveLocation("1.1.1.1")).thenReturn("Seoul, South Korea");
+        when(geoIpService.resolveLocation("2.2.2.2")).thenThrow(new RuntimeException("lookup failed"));
+        enrichmentQueue.enqueue("hash-1", "1.1.1.1", "ua");
+        enrichmentQueue.enqueue("hash-2", "2.2.2.2", "ua");
+
+        // when
+        int processed = enrichmentQueue.drain();
+
+        // then
+        assertThat(processed).isEqualTo(2);
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue().get(0)).containsExactly("Desktop", "Chrome on Windows", "Seoul, South Korea", "hash-1");
+        // 조회 실패는 해당 항목만 비워 두고 계속 진행
+        assertThat(rows.getValue().get(1)).containsExactly("Desktop", "Chrome on Windows", null, "hash-2");
+        assertThat(enrichmentQueue.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 보강을 건너뛰고 대기하지 않음")
+    void enqueue_full_dropsWithoutBlocking() {
+        // when
+        enrichmentQueue.enqueue("hash-1", "1.1.1.1", "ua");
+        enrichmentQueue.enqueue("hash-2", "1.1.1.1", "ua");
+        enrichmentQueue.enqueue("hash-3", "1.1.1.1", "ua");
+
+        // then
+        assertThat(enrichmentQueue.size()).isEqualTo(2);
+        verifyNoInteractions(deviceDetector, geoIpService);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 요청되면 커밋 후에 큐에 추가")
+    void enqueue_insideTransaction_waitsForCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        enrichmentQueue.enqueue("hash-1", "1.1.1.1", "ua");
+
+        // then
+        assertThat(enrichmentQueue.size()).isZero();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(enrichmentQueue.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,137 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.auth.entity.User;
+import kr.hyfata.rest.api.auth.repository.UserRepository;
+import kr.hyfata.rest.api.auth.repository.UserSessionRepository;
+import kr.hyfata.rest.api.auth.service.SessionAdmissionService;
+import kr.hyfata.rest.api.auth.service.SessionEnrichmentQueue;
+import kr.hyfata.rest.api.auth.service.SessionService;
+import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
+import kr.hyfata.rest.api.common.service.EmailService;
+import kr.hyfata.rest.api.common.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 장애 시 (DB 잠금 기반) 동시 로그인 세션 제한 검증
+ * Redis 없이 H2에서 실행 (Redis 경로는 SessionAdmissionServiceConcurrencyTest)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:session-fallback;LOCK_TIMEOUT=10000",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "session.max-per-user=5"
+})
+@ActiveProfiles("test")
+class SessionLimitFallbackConcurrencyTest {
+
+    private static final int LIMIT = 5;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSessionRepository sessionRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private SessionAdmissionService sessionAdmissionService;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    @MockitoBean
+    private SessionEnrichmentQueue sessionEnrichmentQueue;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        // Redis 사용 불가 -> 사용자 행 잠금 후 DB에서 초과분 선정
+        when(sessionAdmissionService.admit(any(), any(), anyLong(), anyInt(), any()))
+                .thenReturn(Optional.empty());
+
+        user = userRepository.save(User.builder()
+                .email("fallback@example.com")
+                .username("fallback")
+                .password("encoded")
+                .enabled(true)
+                .emailVerified(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 로그인 - DB 잠금으로 직렬화되어 활성 세션 수가 제한을 넘지 않음")
+    void createSession_concurrentLogins_neverExceedsLimit() throws Exception {
+        // given
+        int logins = 24;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < logins; i++) {
+            String jti = "jti-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                sessionService.createSession(user, jwtUtil.generateRefreshToken(user), jti, request());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(sessionRepository.count()).isEqualTo(logins);
+        assertThat(sessionRepository.findOldestActiveFirstPartySessionsByUser(user, LocalDateTime.now()))
+                .hasSize(LIMIT);
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("127.0.0.1");
+        request.addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) Chrome/120.0.0.0");
+        return request;
+    }
+}
@@ -0,0 +1,139 @@
+package kr.hyfata.rest.api.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.hyfata.rest.api.auth.entity.User;
+import kr.hyfata.rest.api.auth.entity.UserSession;
+import kr.hyfata.rest.api.auth.repository.UserRepository;
+import kr.hyfata.rest.api.auth.repository.UserSessionRepository;
+import kr.hyfata.rest.api.auth.service.SessionAdmissionService;
+import kr.hyfata.rest.api.auth.service.SessionEnrichmentQueue;
+import kr.hyfata.rest.api.auth.service.SessionService;
+import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
+import kr.hyfata.rest.api.common.service.EmailService;
+import kr.hyfata.rest.api.common.util.JwtUtil;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로그인 시 세션 생성 SQL 문 수 검증
+ * 이전 구현: 활성 세션 COUNT, 제한 도달 시 목록 조회 + 초과 세션별 UPDATE, 새 세션 INSERT
+ * 현재: 제한 미만이면 INSERT 1회, 제한 도달 시 초과 세션 조회 + 일괄 UPDATE + INSERT 3회
+ * (제한 판단은 Redis 활성 세션 집합에서 처리)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class SessionLimitQueryCountTest {
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSessionRepository sessionRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    // Redis 의존 구성요소는 SQL 문 수와 무관하므로 대체
+    @MockitoBean
+    private SessionAdmissionService sessionAdmissionService;
+
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+
+    // 백그라운드 보강 UPDATE가 측정 구간에 섞이지 않도록 대체
+    @MockitoBean
+    private SessionEnrichmentQueue sessionEnrichmentQueue;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        when(sessionAdmissionService.admit(any(), any(), anyLong(), anyInt(), any()))
+                .thenReturn(Optional.of(List.of()));
+
+        user = userRepository.save(User.builder()
+                .email("limit@example.com")
+                .username("limit")
+                .password("encoded")
+                .enabled(true)
+                .emailVerified(true)
+                .build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("제한 미만 로그인 - SQL 1회 (새 세션 INSERT, COUNT 없음)")
+    void createSession_underLimit_executesOneStatement() {
+        // when
+        sessionService.createSession(user, jwtUtil.generateRefreshToken(user), "jti", request());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getTransactionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한 도달 로그인 - SQL 3회 (초과 세션 조회, 일괄 UPDATE, INSERT)")
+    void createSession_atLimit_executesThreeStatements() {
+        // given
+        UserSession oldest = sessionService.createSession(
+                user, jwtUtil.generateRefreshToken(user), "oldest-jti", request());
+        when(sessionAdmissionService.admit(any(), any(), anyLong(), anyInt(), any()))
+                .thenReturn(Optional.of(List.of(oldest.getRefreshTokenHash())));
+        statistics.clear();
+
+        // when
+        sessionService.createSession(user, jwtUtil.generateRefreshToken(user), "new-jti", request());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getTransactionCount()).isEqualTo(1);
+        assertThat(sessionRepository.findById(oldest.getRefreshTokenHash()).orElseThrow().getIsRevoked()).isTrue();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("127.0.0.1");
+        request.addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) Chrome/120.0.0.0");
+        return request;
+    }
+}
@@ -1,20 +1,26 @@
 package kr.hyfata.rest.api.service;
 
 import kr.hyfata.rest.api.auth.dto.UserSessionDTO;
+import kr.hyfata.rest.api.auth.entity.Client;
 import kr.hyfata.rest.api.auth.entity.User;
 import kr.hyfata.rest.api.auth.entity.UserSession;
 import kr.hyfata.rest.api.auth.repository.UserRepository;
 import kr.hyfata.rest.api.auth.repository.UserSessionRepository;
 import kr.hyfata.rest.api.auth.service.impl.SessionServiceImpl;
-import kr.hyfata.rest.api.common.util.DeviceDetector;
-import kr.hyfata.rest.api.common.util.GeoIpService;
 import kr.hyfata.rest.api.common.util.IpUtil;
+import kr.hyfata.rest.api.auth.service.RevocationEpochService;
+import kr.hyfata.rest.api.auth.service.SessionActivityStore;
+import kr.hyfata.rest.api.auth.service.SessionAdmissionService;
+import kr.hyfata.rest.api.auth.service.SessionEnrichmentQueue;
 import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
+import kr.hyfata.rest.api.auth.service.UserCacheService;
 import kr.hyfata.rest.api.common.util.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -22,12 +28,17 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,17 +50,26 @@ class SessionServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCacheService userCacheService;
+
     @Mock
     private TokenBlacklistService blacklistService;
 
     @Mock
-    private IpUtil ipUtil;
+    private RevocationEpochService revocationEpochService;
+
+    @Mock
+    private SessionActivityStore sessionActivityStore;
+
+    @Mock
+    private SessionAdmissionService sessionAdmissionService;
 
     @Mock
-    private DeviceDetector deviceDetector;
+    private IpUtil ipUtil;
 
     @Mock
-    private GeoIpService geoIpService;
+    private SessionEnrichmentQueue sessionEnrichmentQueue;
 
     @Mock
     private JwtUtil jwtUtil;
@@ -84,14 +104,7 @@ class SessionServiceTest {
 
         when(ipUtil.getClientIp(mockRequest)).thenReturn("192.168.1.100");
         when(ipUtil.normalizeIp("192.168.1.100")).thenReturn("192.168.1.100");
-        when(deviceDetector.parse(any())).thenReturn(
-                DeviceDetector.DeviceInfo.builder()
-                        .deviceType("Desktop")
-                        .deviceName("Chrome on Windows")
-                        .build()
-        );
-        when(geoIpService.resolveLocation("192.168.1.100")).thenReturn("Seoul, South Korea");
-        when(sessionRepository.countActiveSessionsByUser(any(), any())).thenReturn(0L);
+        when(sessionAdmissionService.admit(any(), any(), anyLong(), eq(5), any())).thenReturn(Optional.of(List.of()));
         when(sessionRepository.save(any(UserSession.class))).thenAnswer(i -> i.getArgument(0));
 
         // when
@@ -100,13 +113,15 @@ class SessionServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getUser()).isEqualTo(testUser);
-        assertThat(result.getDeviceType()).isEqualTo("Desktop");
-        assertThat(result.getDeviceName()).isEqualTo("Chrome on Windows");
         assertThat(result.getIpAddress()).isEqualTo("192.168.1.100");
-        assertThat(result.getLocation()).isEqualTo("Seoul, South Korea");
         assertThat(result.getIsRevoked()).isFalse();
+        // 기기/위치는 저장 후 비동기 보강
+        assertThat(result.getDeviceType()).isNull();
+        assertThat(result.getLocation()).isNull();
 
         verify(sessionRepository).save(any(UserSession.class));
+        verify(sessionEnrichmentQueue).enqueue(result.getRefreshTokenHash(), "192.168.1.100",
+                mockRequest.getHeader("User-Agent"));
     }
 
     @Test
@@ -215,7 +230,7 @@ class SessionServiceTest {
                 .createdAt(LocalDateTime.now().minusDays(3))
                 .build();
 
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userCacheService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
         when(sessionRepository.findActiveSessionsByUser(any(), any())).thenReturn(List.of(session1, session2));
 
         // when
@@ -227,6 +242,72 @@ class SessionServiceTest {
         assertThat(result.get(1).getIsCurrent()).isFalse();
     }
 
+    @Test
+    @DisplayName("활성 세션 목록 조회 - DB에 반영되지 않은 활동 시각을 병합하여 정렬")
+    void getActiveSessions_mergesPendingActivity() {
+        // given
+        LocalDateTime recentActivity = LocalDateTime.now().minusSeconds(5);
+        UserSession stale = UserSession.builder()
+                .refreshTokenHash("stale-hash")
+                .accessTokenJti("stale-jti")
+                .user(testUser)
+                .expiresAt(LocalDateTime.now().plusDays(7))
+                .lastActiveAt(LocalDateTime.now().minusDays(2))
+                .build();
+        UserSession fresh = UserSession.builder()
+                .refreshTokenHash("fresh-hash")
+                .accessTokenJti("fresh-jti")
+                .user(testUser)
+                .expiresAt(LocalDateTime.now().plusDays(7))
+                .lastActiveAt(LocalDateTime.now().minusHours(1))
+                .build();
+
+        when(userCacheService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(sessionRepository.findActiveSessionsByUser(any(), any())).thenReturn(List.of(fresh, stale));
+        when(sessionActivityStore.getPendingActivity(List.of("fresh-jti", "stale-jti")))
+                .thenReturn(Map.of("stale-jti", recentActivity));
+
+        // when
+        List<UserSessionDTO> result = sessionService.getActiveSessions("test@example.com", null);
+
+        // then
+        assertThat(result.get(0).getSessionId()).isEqualTo("stale-hash");
+        assertThat(result.get(0).getLastActiveAt()).isEqualTo(recentActivity);
+        assertThat(result.get(1).getSessionId()).isEqualTo("fresh-hash");
+    }
+
+    @Test
+    @DisplayName("세션 활동 갱신 - Access Token 정보와 활동 시각을 UPDATE 1회로 기록")
+    void updateSessionActivity_singleUpdate() {
+        // given
+        String tokenHash = sessionService.hashToken("refresh-token");
+
+        // when
+        sessionService.updateSessionActivity("refresh-token", "new-jti");
+
+        // then
+        verify(sessionRepository).updateAccessToken(eq(tokenHash), eq("new-jti"), any(LocalDateTime.class),
+                any(LocalDateTime.class));
+        verify(sessionRepository, never()).save(any(UserSession.class));
+        verifyNoInteractions(sessionActivityStore);
+    }
+
+    @Test
+    @DisplayName("전체 세션 무효화 - 세션 수와 무관하게 epoch 1회 기록")
+    void revokeAllSessions_setsRevocationEpochOnce() {
+        // given
+        when(userCacheService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(sessionRepository.revokeAllByUser(testUser)).thenReturn(3);
+
+        // when
+        sessionService.revokeAllSessions("test@example.com");
+
+        // then
+        verify(revocationEpochService, times(1)).revokeAllIssuedBefore("test@example.com");
+        verify(sessionRepository).revokeAllByUser(testUser);
+        verifyNoInteractions(blacklistService);
+    }
+
     @Test
     @DisplayName("동시 세션 제한 - 최대 5개 초과 시 가장 오래된 세션 무효화")
     void createSession_sessionLimitExceeded_revokesOldest() {
@@ -238,6 +319,7 @@ class SessionServiceTest {
                 .refreshTokenHash("oldest-hash")
                 .user(testUser)
                 .accessTokenJti("old-jti")
+                .accessTokenExpiresAt(LocalDateTime.now().plusSeconds(300))
                 .isRevoked(false)
                 .expiresAt(LocalDateTime.now().plusDays(7))
                 .createdAt(LocalDateTime.now().minusDays(10))
@@ -245,14 +327,10 @@ class SessionServiceTest {
 
         when(ipUtil.getClientIp(mockRequest)).thenReturn("192.168.1.100");
         when(ipUtil.normalizeIp("192.168.1.100")).thenReturn("192.168.1.100");
-        when(deviceDetector.parse(any())).thenReturn(
-                DeviceDetector.DeviceInfo.builder()
-                        .deviceType("Desktop")
-                        .deviceName("Chrome on Windows")
-                        .build()
-        );
-        when(sessionRepository.countActiveSessionsByUser(any(), any())).thenReturn(5L);
-        when(sessionRepository.findOldestActiveSessionsByUser(any(), any())).thenReturn(List.of(oldestSession));
+        when(sessionAdmissionService.admit(eq("1"), any(), anyLong(), eq(5), any()))
+                .thenReturn(Optional.of(List.of("oldest-hash")));
+        when(sessionRepository.findAllById(List.of("oldest-hash"))).thenReturn(List.of(oldestSession));
+        when(sessionRepository.revokeByRefreshTokenHashes(List.of("oldest-hash"))).thenReturn(1);
         when(jwtUtil.getJwtExpiration()).thenReturn(900000L);
         when(sessionRepository.save(any(UserSession.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -260,9 +338,150 @@ class SessionServiceTest {
         sessionService.createSession(testUser, refreshToken, accessTokenJti, mockRequest);
 
         // then
-        assertThat(oldestSession.getIsRevoked()).isTrue();
-        verify(blacklistService).blacklistJti("old-jti", 900L);
-        verify(sessionRepository, times(2)).save(any(UserSession.class));
+        // TTL은 고정값이 아닌 토큰의 남은 수명
+        verify(blacklistService).blacklistJtis(Map.of("old-jti", 300L));
+        verify(sessionRepository).revokeByRefreshTokenHashes(List.of("oldest-hash"));
+        verify(sessionRepository, never()).countActiveSessionsByUser(any(), any());
+        verifyNoInteractions(userRepository);
+        verify(sessionRepository, times(1)).save(any(UserSession.class));
+    }
+
+    @Test
+    @DisplayName("동시 세션 제한 - Redis 장애 시 사용자 행을 잠그고 DB 기준으로 무효화")
+    void createSession_sessionLimitExceeded_redisUnavailable_fallsBackToLockedQuery() {
+        // given
+        List<UserSession> activeSessions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            activeSessions.add(UserSession.builder()
+                    .refreshTokenHash("hash-" + i)
+                    .user(testUser)
+                    .accessTokenJti("jti-" + i)
+                    .accessTokenExpiresAt(LocalDateTime.now().plusSeconds(300))
+                    .isRevoked(false)
+                    .expiresAt(LocalDateTime.now().plusDays(7))
+                    .createdAt(LocalDateTime.now().minusDays(10 - i))
+                    .build());
+        }
+
+        when(ipUtil.getClientIp(mockRequest)).thenReturn("192.168.1.100");
+        when(ipUtil.normalizeIp("192.168.1.100")).thenReturn("192.168.1.100");
+        when(sessionAdmissionService.admit(any(), any(), anyLong(), eq(5), any())).thenReturn(Optional.empty());
+        when(sessionRepository.findOldestActiveFirstPartySessionsByUser(any(), any())).thenReturn(activeSessions);
+        when(jwtUtil.getJwtExpiration()).thenReturn(900000L);
+        when(sessionRepository.save(any(UserSession.class))).thenAnswer(i -> i.getArgument(0));
+
+        // when
+        sessionService.createSession(testUser, "new-token", "new-jti", mockRequest);
+
+        // then
+        InOrder inOrder = inOrder(userRepository, sessionRepository);
+        inOrder.verify(userRepository).lockById(1L);
+        inOrder.verify(sessionRepository).findOldestActiveFirstPartySessionsByUser(any(), any());
+        verify(blacklistService).blacklistJtis(Map.of("jti-0", 300L));
+        verify(sessionRepository).revokeByRefreshTokenHashes(List.of("hash-0"));
+    }
+
+    @Test
+    @DisplayName("동시 세션 제한 - OAuth 클라이언트 세션은 (사용자, 클라이언트) 단위로 maxTokensPerUser 적용")
+    void createSession_withClient_enforcesPerClientLimit() {
+        // given
+        Client client = Client.builder()
+                .clientId("client-a")
+                .maxTokensPerUser(2)
+                .build();
+
+        when(ipUtil.getClientIp(mockRequest)).thenReturn("192.168.1.100");
+        when(ipUtil.normalizeIp("192.168.1.100")).thenReturn("192.168.1.100");
+        when(sessionAdmissionService.admit(eq("1:client-a"), any(), anyLong(), eq(2), any()))
+                .thenReturn(Optional.of(List.of()));
+        when(sessionRepository.save(any(UserSession.class))).thenAnswer(i -> i.getArgument(0));
+
+        // when
+        UserSession result = sessionService.createSession(testUser, "new-token", "new-jti",
+                mockRequest, false, Set.of("profile"), client);
+
+        // then
+        assertThat(result.getClientId()).isEqualTo("client-a");
+        verify(sessionRepository, never()).revokeByRefreshTokenHashes(any());
+        verify(sessionRepository, never()).countActiveSessionsByUser(any(), any());
+    }
+
+    @Test
+    @DisplayName("전체 세션 무효화 - 클라이언트별 활성 세션 집합도 초기화")
+    void revokeAllSessions_clearsPerClientAdmissionSets() {
+        // given
+        when(userCacheService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(sessionRepository.findActiveClientIdsByUser(testUser)).thenReturn(List.of("client-a", "client-b"));
+
+        // when
+        sessionService.revokeAllSessions("test@example.com");
+
+        // then
+        verify(sessionAdmissionService).clear("1");
+        verify(sessionAdmissionService).clear("1:client-a");
+        verify(sessionAdmissionService).clear("1:client-b");
+    }
+
+    @Test
+    @DisplayName("다른 세션 무효화 - 500개 세션도 블랙리스트 요청 1회")
+    @SuppressWarnings("unchecked")
+    void revokeOtherSessions_500Sessions_singleBulkBlacklist() {
+        // given
+        String currentToken = "current-token";
+        String currentHash = sessionService.hashToken(currentToken);
+
+        List<UserSession> sessions = new ArrayList<>();
+        sessions.add(UserSession.builder()
+                .refreshTokenHash(currentHash)
+                .user(testUser)
+                .accessTokenJti("current-jti")
+                .build());
+        for (int i = 0; i < 499; i++) {
+            sessions.add(UserSession.builder()
+                    .refreshTokenHash("hash-" + i)
+                    .user(testUser)
+                    .accessTokenJti("jti-" + i)
+                    .build());
+        }
+
+        when(userCacheService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(sessionRepository.findActiveSessionsByUser(any(), any())).thenReturn(sessions);
+        when(jwtUtil.getJwtExpiration()).thenReturn(900000L);
+
+        // when
+        sessionService.revokeOtherSessions("test@example.com", currentToken);
+
+        // then
+        ArgumentCaptor<Map<String, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(blacklistService, times(1)).blacklistJtis(captor.capture());
+        verify(blacklistService, never()).blacklistJti(anyString(), anyLong());
+        assertThat(captor.getValue()).hasSize(499).doesNotContainKey("current-jti");
+        verify(sessionRepository).revokeOthersByUser(testUser, currentHash);
+    }
+
+    @Test
+    @DisplayName("세션 무효화 - Access Token 만료 시각까지만 블랙리스트 등록")
+    void revokeSession_blacklistsUntilAccessTokenExpiry() {
+        // given
+        LocalDateTime accessTokenExpiresAt = LocalDateTime.now().plusMinutes(3);
+        UserSession session = UserSession.builder()
+                .refreshTokenHash("session-hash")
+                .user(testUser)
+                .accessTokenJti("session-jti")
+                .accessTokenExpiresAt(accessTokenExpiresAt)
+                .expiresAt(LocalDateTime.now().plusDays(7))
+                .build();
+
+        when(userCacheService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(sessionRepository.findByRefreshTokenHash("session-hash")).thenReturn(Optional.of(session));
+
+        // when
+        sessionService.revokeSession("test@example.com", "session-hash", null);
+
+        // then
+        assertThat(session.getIsRevoked()).isTrue();
+        verify(blacklistService).blacklistJtiUntil("session-jti",
+                accessTokenExpiresAt.atZone(ZoneId.systemDefault()).toInstant());
     }
 
     @Test
@@ -291,14 +510,7 @@ class SessionServiceTest {
 
         when(ipUtil.getClientIp(mockRequest)).thenReturn("192.168.1.100");
         when(ipUtil.normalizeIp("192.168.1.100")).thenReturn("192.168.1.100");
-        when(deviceDetector.parse(any())).thenReturn(
-                DeviceDetector.DeviceInfo.builder()
-                        .deviceType("Desktop")
-                        .deviceName("Chrome on Windows")
-                        .build()
-        );
-        when(geoIpService.resolveLocation("192.168.1.100")).thenReturn("Seoul, South Korea");
-        when(sessionRepository.countActiveSessionsByUser(any(), any())).thenReturn(0L);
+        when(sessionAdmissionService.admit(any(), any(), anyLong(), eq(5), any())).thenReturn(Optional.of(List.of()));
         when(sessionRepository.save(any(UserSession.class))).thenAnswer(i -> i.getArgument(0));
 
         // when
@@ -322,14 +534,7 @@ class SessionServiceTest {
 
         when(ipUtil.getClientIp(mockRequest)).thenReturn("192.168.1.100");
         when(ipUtil.normalizeIp("192.168.1.100")).thenReturn("192.168.1.100");
-        when(deviceDetector.parse(any())).thenReturn(
-                DeviceDetector.DeviceInfo.builder()
-                        .deviceType("Desktop")
-                        .deviceName("Chrome on Windows")
-                        .build()
-        );
-        when(geoIpService.resolveLocation("192.168.1.100")).thenReturn("Seoul, South Korea");
-        when(sessionRepository.countActiveSessionsByUser(any(), any())).thenReturn(0L);
+        when(sessionAdmissionService.admit(any(), any(), anyLong(), eq(5), any())).thenReturn(Optional.of(List.of()));
         when(sessionRepository.save(any(UserSession.class))).thenAnswer(i -> i.getArgument(0));
 
         // when
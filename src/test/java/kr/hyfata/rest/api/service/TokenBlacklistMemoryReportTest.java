@@ -0,0 +1,157 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.auth.service.RevocationJournal;
+import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 무효화된 토큰 1건당 Redis 메모리 사용량 측정 (수백만 건 무효화 시 Redis 용량 산정용)
+ * 기존 형식("token:blacklist:<hex>" -> "revoked")과 현재 형식("tb:" + 16바이트 -> "1") 비교
+ *
+ * 실행: REDIS_HOST=... ./gradlew benchmark (DB 15를 사용하며 측정 후 비움)
+ */
+@Tag("benchmark")
+class TokenBlacklistMemoryReportTest {
+
+    private static final int ENTRIES = 100_000;
+    private static final int CHUNK = 1_000;
+    private static final long TTL_SECONDS = 900L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private TokenBlacklistService blacklistService;
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+                System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        config.setDatabase(15);
+        connectionFactory = new LettuceConnectionFactory(config);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        blacklistService = new TokenBlacklistService(redisTemplate, new RedisCircuitBreaker(5, 10000),
+                new RevocationJournal(System.getProperty("java.io.tmpdir") + "/revocation-journal-report.log"));
+
+        boolean available;
+        try {
+            available = "PONG".equals(redisTemplate.execute(RedisConnection::ping));
+        } catch (Exception e) {
+            available = false;
+        }
+        assumeTrue(available, "Redis is not available");
+        flush();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionFactory != null) {
+            try {
+                flush();
+            } catch (Exception ignored) {
+                // Redis 미사용 환경
+            }
+            connectionFactory.destroy();
+        }
+    }
+
+    @Test
+    void bytesPerRevokedToken() {
+        double legacy = measure("legacy (token:blacklist:<hex> -> revoked)", this::writeLegacy);
+        double compact = measure("compact (tb:<16 bytes> -> 1)", this::writeCompact);
+
+        String sample = newJti();
+        blacklistService.blacklistJti(sample, TTL_SECONDS);
+        Long sampleUsage = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8),
+                        TokenBlacklistService.jtiKey(sample)) instanceof Long usage ? usage : null);
+
+        System.out.printf("MEMORY USAGE of one compact entry: %s bytes%n", sampleUsage);
+        System.out.printf("estimated for 1,000,000 revocations: legacy %.1f MiB, compact %.1f MiB%n",
+                legacy * 1_000_000 / (1 << 20), compact * 1_000_000 / (1 << 20));
+        assertTrue(compact < legacy);
+    }
+
+    private double measure(String label, Runnable write) {
+        flush();
+        long before = usedMemory();
+        write.run();
+        long after = usedMemory();
+
+        double perEntry = (double) (after - before) / ENTRIES;
+        System.out.printf("%-45s %8.1f bytes/entry%n", label, perEntry);
+        return perEntry;
+    }
+
+    private void writeLegacy() {
+        for (int i = 0; i < ENTRIES; i += CHUNK) {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int j = 0; j < CHUNK; j++) {
+                    connection.stringCommands().setEx(
+                            ("token:blacklist:" + newJti()).getBytes(StandardCharsets.UTF_8),
+                            TTL_SECONDS, "revoked".getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        }
+    }
+
+    private void writeCompact() {
+        for (int i = 0; i < ENTRIES; i += CHUNK) {
+            Map<String, Long> jtiTtls = new LinkedHashMap<>();
+            for (int j = 0; j < CHUNK; j++) {
+                jtiTtls.put(newJti(), TTL_SECONDS);
+            }
+            blacklistService.blacklistJtis(jtiTtls);
+        }
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        try {
+            TimeUnit.MILLISECONDS.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * JwtUtil과 같은 형식의 JTI (UUID 128비트의 소문자 hex)
+     */
+    private static String newJti() {
+        UUID uuid = UUID.randomUUID();
+        return HexFormat.of().toHexDigits(uuid.getMostSignificantBits())
+                + HexFormat.of().toHexDigits(uuid.getLeastSignificantBits());
+    }
+}
@@ -1,19 +1,37 @@
 package kr.hyfata.rest.api.service;
 
+import kr.hyfata.rest.api.auth.service.RevocationJournal;
 import kr.hyfata.rest.api.auth.service.TokenBlacklistService;
+import kr.hyfata.rest.api.common.util.RedisCircuitBreaker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -28,6 +46,12 @@ class TokenBlacklistServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private RevocationJournal journal;
+
+    @Spy
+    private RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(3, 60_000);
+
     @InjectMocks
     private TokenBlacklistService blacklistService;
 
@@ -37,22 +61,27 @@ class TokenBlacklistServiceTest {
     }
 
     @Test
-    @DisplayName("블랙리스트에 JTI 추가 성공")
+    @DisplayName("블랙리스트에 JTI 추가 성공 - 16바이트 바이너리 키, 1바이트 값")
     void blacklistJti_success() {
         // given
-        String jti = "test-jti-123";
+        String jti = "0123456789abcdef0123456789abcdef";
         long ttl = 900L;
+        RedisConnection connection = pipelineConnection();
 
         // when
         blacklistService.blacklistJti(jti, ttl);
 
         // then
-        verify(valueOperations).set(
-                eq("token:blacklist:" + jti),
-                eq("revoked"),
-                eq(ttl),
-                eq(TimeUnit.SECONDS)
+        byte[] expectedKey = new byte[19];
+        System.arraycopy("tb:".getBytes(StandardCharsets.UTF_8), 0, expectedKey, 0, 3);
+        System.arraycopy(HexFormat.of().parseHex(jti), 0, expectedKey, 3, 16);
+        verify(connection.stringCommands()).set(
+                aryEq(expectedKey),
+                aryEq(new byte[]{'1'}),
+                argThat((Expiration expiration) -> expiration.getExpirationTimeInSeconds() == ttl),
+                eq(RedisStringCommands.SetOption.upsert())
         );
+        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
     }
 
     @Test
@@ -64,15 +93,16 @@ class TokenBlacklistServiceTest {
         blacklistService.blacklistJti("   ", 900L);
 
         // then
-        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
     }
 
     @Test
     @DisplayName("JTI 블랙리스트 확인 - 블랙리스트에 있는 경우")
+    @SuppressWarnings("unchecked")
     void isJtiBlacklisted_whenBlacklisted_returnsTrue() {
         // given
         String jti = "blacklisted-jti";
-        when(redisTemplate.hasKey("token:blacklist:" + jti)).thenReturn(true);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(1L);
 
         // when
         boolean result = blacklistService.isJtiBlacklisted(jti);
@@ -83,10 +113,11 @@ class TokenBlacklistServiceTest {
 
     @Test
     @DisplayName("JTI 블랙리스트 확인 - 블랙리스트에 없는 경우")
+    @SuppressWarnings("unchecked")
     void isJtiBlacklisted_whenNotBlacklisted_returnsFalse() {
         // given
         String jti = "valid-jti";
-        when(redisTemplate.hasKey("token:blacklist:" + jti)).thenReturn(false);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(0L);
 
         // when
         boolean result = blacklistService.isJtiBlacklisted(jti);
@@ -145,10 +176,11 @@ class TokenBlacklistServiceTest {
 
     @Test
     @DisplayName("블랙리스트 확인 - Redis 오류 시 false 반환")
+    @SuppressWarnings("unchecked")
     void isBlacklisted_whenRedisError_returnsFalse() {
         // given
         String jti = "test-jti";
-        when(redisTemplate.hasKey(anyString())).thenThrow(new RuntimeException("Redis connection error"));
+        when(redisTemplate.execute(any(RedisCallback.class))).thenThrow(new RuntimeException("Redis connection error"));
 
         // when
         boolean result = blacklistService.isJtiBlacklisted(jti);
@@ -157,6 +189,281 @@ class TokenBlacklistServiceTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    @DisplayName("JTI 블랙리스트 추가 시 로컬 집합 반영 및 다른 노드에 전파")
+    @SuppressWarnings("unchecked")
+    void blacklistJti_updatesLocalSetAndPublishes() {
+        // given
+        RedisConnection connection = pipelineConnection();
+
+        // when
+        blacklistService.blacklistJti("revoked-jti", 900L);
+
+        // then
+        verify(connection).publish(
+                aryEq(TokenBlacklistService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8)),
+                argThat((byte[] message) -> new String(message, StandardCharsets.UTF_8).startsWith("jti|revoked-jti|"))
+        );
+        assertThat(blacklistService.isJtiRevokedLocally("revoked-jti")).isTrue();
+        assertThat(blacklistService.isJtiBlacklisted("revoked-jti")).isTrue();
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("만료 시각 기준 블랙리스트 - 이미 만료된 토큰은 저장하지 않음")
+    void blacklistJtiUntil_expiredToken_skipsRedis() {
+        // when
+        blacklistService.blacklistJtiUntil("expired-jti", Instant.now().minusSeconds(1));
+
+        // then
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        assertThat(blacklistService.isJtiRevokedLocally("expired-jti")).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 시각까지 남은 TTL은 초 단위로 올림")
+    void ttlUntil_roundsUpRemainingSeconds() {
+        assertThat(TokenBlacklistService.ttlUntil(Instant.now().plusMillis(120_500))).isEqualTo(121L);
+        assertThat(TokenBlacklistService.ttlUntil(Instant.now().minusSeconds(5))).isZero();
+    }
+
+    @Test
+    @DisplayName("블랙리스트 키 형식 - hex JTI는 19바이트, 그 외는 문자열 키")
+    void jtiKey_compactForHexJti() {
+        // given
+        String hexJti = "0123456789abcdef0123456789abcdef";
+
+        // when
+        byte[] binaryKey = TokenBlacklistService.jtiKey(hexJti);
+        byte[] textKey = TokenBlacklistService.jtiKey("legacy-jti");
+
+        // then
+        assertThat(binaryKey).hasSize(19);
+        assertThat(binaryKey.length).isLessThan(("token:blacklist:" + hexJti).length());
+        assertThat(new String(textKey, StandardCharsets.UTF_8)).isEqualTo("tbs:legacy-jti");
+        // 대문자 hex는 바이너리 변환 시 원래 문자열로 복원되지 않으므로 문자열 키 사용
+        assertThat(new String(TokenBlacklistService.jtiKey(hexJti.toUpperCase()), StandardCharsets.UTF_8))
+                .startsWith("tbs:");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지 수신 시 로컬 집합 반영")
+    void onMessage_addsRemoteRevocation() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        String body = "jti|remote-jti|" + expiresAt;
+
+        // when
+        blacklistService.onMessage(new DefaultMessage(
+                TokenBlacklistService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(blacklistService.isJtiRevokedLocally("remote-jti")).isTrue();
+        assertThat(blacklistService.isJtiRevokedLocally("other-jti")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 전체 동기화 - 만료된 키는 제외")
+    @SuppressWarnings("unchecked")
+    void syncFromRedis_loadsKeysWithTtl() {
+        // given
+        String hexJti = "0123456789abcdef0123456789abcdef";
+        Cursor<byte[]> binaryCursor = mock(Cursor.class);
+        when(binaryCursor.hasNext()).thenReturn(true, false);
+        when(binaryCursor.next()).thenReturn(TokenBlacklistService.jtiKey(hexJti));
+        Cursor<byte[]> textCursor = mock(Cursor.class);
+        when(textCursor.hasNext()).thenReturn(false);
+        Cursor<byte[]> legacyCursor = mock(Cursor.class);
+        when(legacyCursor.hasNext()).thenReturn(true, true, false);
+        when(legacyCursor.next()).thenReturn(
+                "token:blacklist:live-jti".getBytes(StandardCharsets.UTF_8),
+                "token:blacklist:gone-jti".getBytes(StandardCharsets.UTF_8));
+        when(redisTemplate.executeWithStickyConnection(any(RedisCallback.class)))
+                .thenReturn(binaryCursor, textCursor, legacyCursor);
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of(60_000L), List.of(60_000L, -2L));
+
+        // when
+        int synced = blacklistService.syncFromRedis();
+
+        // then
+        assertThat(synced).isEqualTo(2);
+        assertThat(blacklistService.isJtiRevokedLocally(hexJti)).isTrue();
+        assertThat(blacklistService.isJtiRevokedLocally("live-jti")).isTrue();
+        assertThat(blacklistService.isJtiRevokedLocally("gone-jti")).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 로컬 항목 정리")
+    void purgeExpired_removesExpiredEntries() {
+        // given
+        long now = System.currentTimeMillis();
+        String body = "jti|expired-jti|" + (now - 1_000) + "\njti|live-jti|" + (now + 900_000);
+        blacklistService.onMessage(new DefaultMessage(
+                TokenBlacklistService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // when
+        int purged = blacklistService.purgeExpired();
+
+        // then
+        assertThat(purged).isEqualTo(1);
+        assertThat(blacklistService.localRevocationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대량 블랙리스트 - 500개 JTI를 Redis 왕복 1회로 처리")
+    void blacklistJtis_500Jtis_singleRoundTrip() {
+        // given
+        Map<String, Long> jtiTtls = new LinkedHashMap<>();
+        List<Object> replies = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            jtiTtls.put("jti-" + i, 900L);
+            replies.add(i == 7 ? Boolean.FALSE : Boolean.TRUE);
+        }
+        replies.add(1L); // PUBLISH 응답
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(replies);
+
+        // when
+        Map<String, Boolean> results = blacklistService.blacklistJtis(jtiTtls);
+
+        // then
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+        assertThat(results).hasSize(500);
+        assertThat(results.get("jti-0")).isTrue();
+        assertThat(results.get("jti-7")).isFalse();
+        assertThat(blacklistService.localRevocationCount()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("대량 블랙리스트 - Redis 오류 시 전체 실패 반환, 로컬 집합은 반영")
+    void blacklistJtis_redisError_reportsFailure() {
+        // given
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RuntimeException("Redis connection error"));
+
+        // when
+        Map<String, Boolean> results = blacklistService.blacklistJtis(Map.of("jti-a", 900L));
+
+        // then
+        assertThat(results).containsEntry("jti-a", false);
+        assertThat(blacklistService.isJtiRevokedLocally("jti-a")).isTrue();
+        verify(journal).append(argThat(entries -> entries.size() == 1
+                && entries.get(0).id().equals("jti-a") && entries.get(0).type().equals("jti")));
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 - 연속 실패 후에는 Redis를 호출하지 않음")
+    @SuppressWarnings("unchecked")
+    void isJtiBlacklisted_circuitOpen_skipsRedis() {
+        // given
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenThrow(new RuntimeException("Redis command timed out"));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            blacklistService.isJtiBlacklisted("jti-" + i);
+        }
+
+        // then
+        verify(redisTemplate, times(3)).execute(any(RedisCallback.class));
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("fail-mode=closed - Redis로 확인할 수 없으면 무효화된 것으로 간주")
+    @SuppressWarnings("unchecked")
+    void isJtiBlacklisted_failClosed_returnsTrueOnError() {
+        // given
+        ReflectionTestUtils.setField(blacklistService, "failMode", "closed");
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenThrow(new RuntimeException("Redis connection error"));
+
+        // when & then
+        assertThat(blacklistService.isJtiBlacklisted("unknown-jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 무효화를 Redis 호출 없이 저널에 기록")
+    void blacklistJti_circuitOpen_journalsWithoutRedis() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.recordFailure();
+        }
+
+        // when
+        blacklistService.blacklistJti("outage-jti", 900L);
+
+        // then
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        verify(journal).append(argThat(entries -> entries.get(0).id().equals("outage-jti")));
+        assertThat(blacklistService.isJtiRevokedLocally("outage-jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("저널 재전송 - 복구 후 Redis에 기록하고 로컬 집합에도 반영, 기록한 항목만 저널에서 제거")
+    void replayJournal_writesPendingEntries() {
+        // given
+        RevocationJournal.Entry pending =
+                new RevocationJournal.Entry("jti", "pending-jti", System.currentTimeMillis() + 60_000);
+        RevocationJournal.Entry epoch =
+                new RevocationJournal.Entry("epoch", "test@example.com", System.currentTimeMillis() + 60_000, 1L);
+        when(journal.isEmpty()).thenReturn(false);
+        when(journal.readAll()).thenReturn(List.of(pending, epoch));
+        RedisConnection connection = pipelineConnection();
+
+        // when
+        int replayed = blacklistService.replayJournal();
+
+        // then
+        assertThat(replayed).isEqualTo(1);
+        assertThat(blacklistService.isJtiRevokedLocally("pending-jti")).isTrue();
+        verify(connection).publish(any(byte[].class),
+                argThat((byte[] message) -> new String(message, StandardCharsets.UTF_8).startsWith("jti|pending-jti|")));
+        verify(journal).remove(List.of(pending));
+        verify(journal, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("저널 재전송 - 서킷이 열려 있으면 Redis 호출 없이 저널을 그대로 유지")
+    void replayJournal_circuitOpen_keepsJournal() {
+        // given
+        when(journal.isEmpty()).thenReturn(false);
+        when(journal.readAll()).thenReturn(List.of(
+                new RevocationJournal.Entry("jti", "pending-jti", System.currentTimeMillis() + 60_000)));
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.recordFailure();
+        }
+
+        // when
+        int replayed = blacklistService.replayJournal();
+
+        // then
+        assertThat(replayed).isZero();
+        assertThat(blacklistService.isJtiRevokedLocally("pending-jti")).isTrue();
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        verify(journal, never()).remove(any());
+        verify(journal, never()).append(any());
+    }
+
+    /**
+     * executePipelined 콜백을 mock 연결에 실행해 전송된 명령을 검증할 수 있도록 설정
+     */
+    @SuppressWarnings("unchecked")
+    private RedisConnection pipelineConnection() {
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of(Boolean.TRUE, 1L);
+        });
+        return connection;
+    }
+
     @Test
     @DisplayName("토큰 해시 생성")
     void hashToken_success() {
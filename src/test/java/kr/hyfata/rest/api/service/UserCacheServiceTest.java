@@ -0,0 +1,110 @@
+package kr.hyfata.rest.api.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hyfata.rest.api.auth.entity.User;
+import kr.hyfata.rest.api.auth.repository.UserRepository;
+import kr.hyfata.rest.api.auth.service.UserCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private UserCacheService userCacheService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        userCacheService = new UserCacheService(userRepository, meterRegistry, 100, 60);
+        testUser = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .username("testuser")
+                .password("password")
+                .build();
+    }
+
+    @Test
+    @DisplayName("반복 조회 시 DB는 한 번만 조회")
+    void findByEmail_cachesUser() {
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+
+        assertThat(userCacheService.findByEmail("test@example.com")).contains(testUser);
+        assertThat(userCacheService.findByEmail("test@example.com")).contains(testUser);
+
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐시하지 않음")
+    void findByEmail_doesNotCacheMissingUser() {
+        when(userRepository.findByEmail("none@example.com")).thenReturn(Optional.empty());
+
+        assertThat(userCacheService.findByEmail("none@example.com")).isEmpty();
+        assertThat(userCacheService.findByEmail("none@example.com")).isEmpty();
+
+        verify(userRepository, times(2)).findByEmail("none@example.com");
+    }
+
+    @Test
+    @DisplayName("evict 후에는 DB에서 다시 조회")
+    void evict_reloadsFromRepository() {
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+
+        userCacheService.findByEmail("test@example.com");
+        userCacheService.evict("test@example.com");
+        userCacheService.findByEmail("test@example.com");
+
+        verify(userRepository, times(2)).findByEmail("test@example.com");
+    }
+
+    @Test
+    @DisplayName("콜드 키에 동시 요청이 몰려도 쿼리는 한 번")
+    void findByEmail_singleFlight() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        when(userRepository.findByEmail("test@example.com")).thenAnswer(invocation -> {
+            loading.await(1, TimeUnit.SECONDS);
+            return Optional.of(testUser);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<User>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> userCacheService.findByEmail("test@example.com")));
+            }
+            loading.countDown();
+
+            for (Future<Optional<User>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).contains(testUser);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+    }
+}
@@ -0,0 +1,74 @@
+package kr.hyfata.rest.api.util;
+
+import kr.hyfata.rest.api.common.util.CidrMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CidrMatcherTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "127.0.0.1", "10.1.2.3", "172.16.0.1", "172.31.255.255", "192.168.0.10",
+            "169.254.1.1", "100.64.0.1", "0.0.0.0",
+            "::1", "0:0:0:0:0:0:0:1", "::", "fd12:3456:789a::1", "fc00::1", "fe80::1", "fe80::1%eth0",
+            "::ffff:192.168.1.1"
+    })
+    @DisplayName("사설/로컬 대역 - IPv4, IPv6 ULA/링크 로컬, IPv4-mapped 주소 포함")
+    void privateRanges_match(String ip) {
+        assertThat(CidrMatcher.PRIVATE_RANGES.matches(ip)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "8.8.8.8", "172.15.255.255", "172.32.0.1", "192.169.0.1", "100.128.0.1",
+            "2001:4860:4860::8888", "fec0::1", "::ffff:8.8.8.8"
+    })
+    @DisplayName("공인 대역 - 경계 밖 주소는 일치하지 않음")
+    void publicAddresses_doNotMatch(String ip) {
+        assertThat(CidrMatcher.PRIVATE_RANGES.matches(ip)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "localhost", "example.com", "1.2.3", "1.2.3.4.5", "256.1.1.1", "1..2.3", "::g"})
+    @DisplayName("IP 리터럴이 아닌 값은 null (DNS 조회 없음)")
+    void parseAddress_invalid_returnsNull(String value) {
+        assertThat(CidrMatcher.parseAddress(value)).isNull();
+    }
+
+    @Test
+    @DisplayName("IPv4 리터럴 파싱")
+    void parseAddress_ipv4() {
+        // when
+        byte[] address = CidrMatcher.parseAddress("203.0.113.195");
+
+        // then
+        assertThat(address).containsExactly(203, 0, 113, 195);
+    }
+
+    @Test
+    @DisplayName("사용자 정의 대역 - 바이트 경계가 아닌 prefix")
+    void of_customRanges() {
+        // given
+        CidrMatcher matcher = CidrMatcher.of("203.0.113.128/25", "2001:db8::/32");
+
+        // then
+        assertThat(matcher.matches("203.0.113.200")).isTrue();
+        assertThat(matcher.matches("203.0.113.127")).isFalse();
+        assertThat(matcher.matches("2001:db8:ffff::1")).isTrue();
+        assertThat(matcher.matches("2001:db9::1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 CIDR 표기는 IllegalArgumentException")
+    void of_invalidCidr_throws() {
+        assertThatThrownBy(() -> CidrMatcher.of("10.0.0.0/33"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CidrMatcher.of("not-an-ip/8"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
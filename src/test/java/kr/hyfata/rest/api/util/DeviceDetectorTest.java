@@ -8,6 +8,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class DeviceDetectorTest {
@@ -177,4 +179,48 @@ class DeviceDetectorTest {
         // then
         assertThat(result.getOsVersion()).isNotEmpty();
     }
+
+    @Test
+    @DisplayName("같은 User-Agent는 캐시된 결과 반환")
+    void parse_sameUserAgent_returnsCachedResult() {
+        // given
+        String userAgent = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+        // when
+        DeviceDetector.DeviceInfo first = deviceDetector.parse(userAgent);
+        DeviceDetector.DeviceInfo second = deviceDetector.parse(userAgent);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(deviceDetector.cacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 크기 제한")
+    void parse_cacheIsBounded() {
+        // given
+        DeviceDetector bounded = new DeviceDetector(100);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            bounded.parse("Mozilla/5.0 (Windows NT 10.0; Win64; x64) Chrome/" + i + ".0.0.0");
+        }
+
+        // then
+        assertThat(bounded.cacheSize()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("User-Agent 미리 파싱")
+    void preload_addsUserAgentsToCache() {
+        // when
+        int loaded = deviceDetector.preload(List.of(
+                "Mozilla/5.0 (iPhone; CPU iPhone OS 17_2_1 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.2.1 Mobile/15E148 Safari/604.1",
+                "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
+                ""));
+
+        // then
+        assertThat(loaded).isEqualTo(2);
+        assertThat(deviceDetector.cacheSize()).isEqualTo(2);
+    }
 }
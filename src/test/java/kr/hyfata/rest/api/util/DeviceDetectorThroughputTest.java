@@ -0,0 +1,115 @@
+package kr.hyfata.rest.api.util;
+
+import kr.hyfata.rest.api.common.util.DeviceDetector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DeviceDetector User-Agent 파싱 처리량 측정
+ * 캐시 미스(uap-java 정규식 파싱), 캐시 적중, 32 스레드 동시 캐시 적중 비교
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class DeviceDetectorThroughputTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int COLD_ITERATIONS = 5_000;
+    private static final int CACHED_ITERATIONS = 1_000_000;
+    private static final int THREADS = 32;
+
+    /**
+     * 실제 트래픽처럼 소수의 UA가 반복되는 분포
+     */
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.2.1 Safari/605.1.15",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_2_1 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.2.1 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (Linux; Android 14; SM-S918N) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.6099.144 Mobile Safari/537.36",
+            "Mozilla/5.0 (iPad; CPU OS 17_2 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.2 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:121.0) Gecko/20100101 Firefox/121.0",
+            "Dart/3.2 (dart:io)",
+            "okhttp/4.12.0"
+    };
+
+    private DeviceDetector deviceDetector;
+
+    @BeforeEach
+    void setUp() {
+        deviceDetector = new DeviceDetector();
+    }
+
+    @Test
+    void coldVersusCachedParse() {
+        // 매번 다른 UA -> 항상 캐시 미스 (기존 동작과 동일한 비용)
+        double cold = measure("parse (cold)", WARMUP, COLD_ITERATIONS,
+                i -> deviceDetector.parse(USER_AGENTS[i % USER_AGENTS.length] + " build/" + i));
+        double cached = measure("parse (cached)", WARMUP, CACHED_ITERATIONS,
+                i -> deviceDetector.parse(USER_AGENTS[i % USER_AGENTS.length]));
+
+        System.out.printf("cached speedup: %.2fx%n", cached / cold);
+        assertTrue(cached > cold);
+    }
+
+    @Test
+    void cachedParseUnderContention() throws Exception {
+        deviceDetector.preload(List.of(USER_AGENTS));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < CACHED_ITERATIONS; i++) {
+                    deviceDetector.parse(USER_AGENTS[(i + offset) % USER_AGENTS.length]);
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+
+        double opsPerSec = (double) THREADS * CACHED_ITERATIONS / (elapsed / 1_000_000_000.0);
+        System.out.printf("%-24s %,12.0f ops/sec (%d threads)%n", "parse (cached, shared)", opsPerSec, THREADS);
+        assertEquals(USER_AGENTS.length, deviceDetector.cacheSize());
+    }
+
+    /**
+     * 단일 스레드에서 측정하므로 결과가 곧 코어당 처리량
+     */
+    private double measure(String label, int warmup, int iterations, IntConsumer op) {
+        // 측정 구간과 겹치지 않는 입력으로 예열 (cold 측정이 캐시 적중이 되지 않도록)
+        for (int i = 0; i < warmup; i++) {
+            op.accept(iterations + i);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            op.accept(i);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double opsPerSec = iterations / (elapsed / 1_000_000_000.0);
+        System.out.printf("%-24s %,12.0f ops/sec/core%n", label, opsPerSec);
+        return opsPerSec;
+    }
+}
@@ -0,0 +1,117 @@
+package kr.hyfata.rest.api.util;
+
+import kr.hyfata.rest.api.common.util.CidrMatcher;
+import kr.hyfata.rest.api.common.util.GeoIpService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * GeoIpService 위치 조회 처리량 측정
+ * 결과 캐시 없음(DB 조회만) / 결과 캐시 사용, 사설 대역 판별 비교
+ * DB 조회 측정은 GEOIP_DATABASE_PATH의 GeoLite2-City DB가 필요 (없으면 건너뜀)
+ *
+ * 실행: GEOIP_DATABASE_PATH=/path/GeoLite2-City.mmdb ./gradlew benchmark
+ */
+@Tag("benchmark")
+class GeoIpLookupThroughputTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 500_000;
+
+    /**
+     * 실제 트래픽처럼 일부 대역(/24 2,000개)에 접속이 몰리는 분포
+     */
+    private static final String[] IPS = generateIps(2_000, 50_000);
+
+    private GeoIpService geoIpService;
+
+    @AfterEach
+    void tearDown() {
+        if (geoIpService != null) {
+            geoIpService.cleanup();
+        }
+    }
+
+    @Test
+    void uncachedVersusCachedLookup() {
+        GeoIpService uncachedService = service(0);
+        double uncached = measure("lookup (no cache)", i -> uncachedService.resolveLocation(IPS[i % IPS.length]));
+        uncachedService.cleanup();
+
+        GeoIpService cachedService = service(100_000);
+        double cached = measure("lookup (cached)", i -> cachedService.resolveLocation(IPS[i % IPS.length]));
+
+        System.out.printf("cached speedup: %.2fx%n", cached / uncached);
+        assertTrue(cached > uncached);
+    }
+
+    @Test
+    void privateRangeCheck() {
+        String[] ips = {"192.168.0.10", "172.20.1.1", "10.0.0.1", "fd00::1", "fe80::1", "8.8.8.8", "2001:db8::1"};
+
+        long start = System.nanoTime();
+        int matched = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (CidrMatcher.PRIVATE_RANGES.matches(ips[i % ips.length])) {
+                matched++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%-24s %,12.0f ops/sec/core%n", "private range check", ITERATIONS / (elapsed / 1_000_000_000.0));
+        assertTrue(matched > 0);
+    }
+
+    private GeoIpService service(long maxCacheSize) {
+        String databasePath = System.getenv("GEOIP_DATABASE_PATH");
+        assumeTrue(databasePath != null && new File(databasePath).exists(), "GeoLite2 database is not available");
+
+        geoIpService = new GeoIpService(databasePath, true, 4096, maxCacheSize, 0);
+        geoIpService.init();
+        assertTrue(geoIpService.isAvailable());
+        return geoIpService;
+    }
+
+    /**
+     * 단일 스레드에서 측정하므로 결과가 곧 코어당 처리량
+     */
+    private double measure(String label, IntConsumer op) {
+        for (int i = 0; i < WARMUP; i++) {
+            op.accept(i);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            op.accept(i);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double opsPerSec = ITERATIONS / (elapsed / 1_000_000_000.0);
+        System.out.printf("%-24s %,12.0f ops/sec/core%n", label, opsPerSec);
+        return opsPerSec;
+    }
+
+    private static String[] generateIps(int networks, int count) {
+        Random random = new Random(42);
+        int[] prefixes = new int[networks];
+        for (int i = 0; i < networks; i++) {
+            // 1.0.0.0 ~ 223.255.255.0 (사설 대역 포함 여부는 무관, 대부분 공인)
+            prefixes[i] = (1 + random.nextInt(223)) << 24 | random.nextInt(1 << 16) << 8;
+        }
+
+        String[] ips = new String[count];
+        for (int i = 0; i < count; i++) {
+            int ip = prefixes[random.nextInt(networks)] | random.nextInt(256);
+            ips[i] = (ip >>> 24) + "." + (ip >>> 16 & 0xFF) + "." + (ip >>> 8 & 0xFF) + "." + (ip & 0xFF);
+        }
+        return ips;
+    }
+}
@@ -0,0 +1,61 @@
+package kr.hyfata.rest.api.util;
+
+import kr.hyfata.rest.api.common.util.GeoIpService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoIpServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("비활성화 상태에서는 조회/재적재하지 않음")
+    void disabled_doesNothing() {
+        // given
+        GeoIpService geoIpService = new GeoIpService(tempDir.resolve("GeoLite2-City.mmdb").toString(), false, 16, 100, 10);
+        geoIpService.init();
+
+        // when & then
+        assertThat(geoIpService.reloadIfChanged()).isFalse();
+        assertThat(geoIpService.isAvailable()).isFalse();
+        assertThat(geoIpService.resolveLocation("8.8.8.8")).isNull();
+    }
+
+    @Test
+    @DisplayName("DB 파일이 없으면 재적재하지 않고 조회는 null")
+    void missingDatabase_staysUnavailable() {
+        // given
+        GeoIpService geoIpService = new GeoIpService(tempDir.resolve("GeoLite2-City.mmdb").toString(), true, 16, 100, 10);
+        geoIpService.init();
+
+        // when & then
+        assertThat(geoIpService.reloadIfChanged()).isFalse();
+        assertThat(geoIpService.isAvailable()).isFalse();
+        assertThat(geoIpService.resolveLocation("8.8.8.8")).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 DB 파일(복사 중 등)은 교체하지 않고 다음 확인 때 재시도")
+    void invalidDatabase_isNotSwappedIn() throws Exception {
+        // given
+        Path database = tempDir.resolve("GeoLite2-City.mmdb");
+        GeoIpService geoIpService = new GeoIpService(database.toString(), true, 16, 100, 10);
+        geoIpService.init();
+        Files.write(database, new byte[]{1, 2, 3, 4});
+
+        // when
+        boolean reloaded = geoIpService.reloadIfChanged();
+
+        // then
+        assertThat(reloaded).isFalse();
+        assertThat(geoIpService.isAvailable()).isFalse();
+        assertThat(geoIpService.resolveLocation("8.8.8.8")).isNull();
+    }
+}
@@ -1,5 +1,6 @@
 package kr.hyfata.rest.api.util;
 
+import kr.hyfata.rest.api.common.security.AuthenticatedToken;
 import kr.hyfata.rest.api.common.util.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,7 @@ class JwtUtilTest {
         ReflectionTestUtils.setField(jwtUtil, "jwtSecret", "hyfata-secret-key-for-jwt-token-min-32-characters-required-for-security");
         ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 86400000L); // 24 hours
         ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 604800000L); // 7 days
+        jwtUtil.init();
 
         testUser = User.builder()
                 .username("test@example.com")
@@ -80,6 +82,24 @@ class JwtUtilTest {
         assertFalse(jwtUtil.validateToken(invalidToken));
     }
 
+    @Test
+    void testValidateToken_Expired() {
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", -1000L);
+        String token = jwtUtil.generateAccessToken(testUser);
+
+        assertFalse(jwtUtil.validateToken(token));
+        assertFalse(jwtUtil.validateToken(token, testUser));
+        assertNull(jwtUtil.parseToken(token));
+    }
+
+    @Test
+    void testGenerateAccessToken_JtiFormat() {
+        JwtUtil.TokenResult result = jwtUtil.generateAccessTokenWithJti(testUser);
+
+        assertTrue(result.jti().matches("[0-9a-f]{32}"));
+        assertEquals(result.jti(), jwtUtil.extractJti(result.token()));
+    }
+
     @Test
     void testValidateToken_WrongUser() {
         String token = jwtUtil.generateAccessToken(testUser);
@@ -127,4 +147,55 @@ class JwtUtilTest {
 
         assertNull(clientId);
     }
+
+    @Test
+    void testParseToken_ExtractsAllClaimsOnce() {
+        Set<String> scopes = Set.of("profile", "email");
+        JwtUtil.TokenResult result = jwtUtil.generateAccessTokenWithJti(testUser, "client_001", scopes);
+
+        AuthenticatedToken token = jwtUtil.parseToken(result.token());
+
+        assertNotNull(token);
+        assertEquals("test@example.com", token.subject());
+        assertEquals(result.jti(), token.jti());
+        assertEquals("client_001", token.clientId());
+        assertEquals(scopes, token.scopes());
+        assertNotNull(token.issuedAt());
+        assertFalse(token.isExpired());
+    }
+
+    @Test
+    void testParseToken_IncludesRoleAndStatusClaims() {
+        kr.hyfata.rest.api.auth.entity.User user = kr.hyfata.rest.api.auth.entity.User.builder()
+                .email("admin@example.com")
+                .username("admin")
+                .password("password")
+                .role("ROLE_ADMIN")
+                .build();
+
+        AuthenticatedToken token = jwtUtil.parseToken(jwtUtil.generateAccessToken(user));
+
+        assertNotNull(token);
+        assertEquals("admin@example.com", token.subject());
+        assertEquals("ROLE_ADMIN", token.role());
+        assertEquals("ACTIVE", token.status());
+        assertTrue(token.hasPrincipalClaims());
+    }
+
+    @Test
+    void testParseToken_IssuedAtInMillis() {
+        long before = System.currentTimeMillis();
+        AuthenticatedToken token = jwtUtil.parseToken(jwtUtil.generateAccessToken(testUser));
+        long after = System.currentTimeMillis();
+
+        assertNotNull(token);
+        assertTrue(token.issuedAt().toEpochMilli() >= before);
+        assertTrue(token.issuedAt().toEpochMilli() <= after);
+    }
+
+    @Test
+    void testParseToken_InvalidToken() {
+        assertNull(jwtUtil.parseToken("invalid.token.here"));
+        assertNull(jwtUtil.parseToken(null));
+    }
 }
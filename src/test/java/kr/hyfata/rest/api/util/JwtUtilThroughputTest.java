@@ -0,0 +1,125 @@
+package kr.hyfata.rest.api.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import kr.hyfata.rest.api.common.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.*;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JwtUtil 서명/검증 처리량 측정
+ * 기존 방식(요청마다 키 유도 + 파서 생성 + HashMap 클레임)과 현재 방식의 코어당 ops/sec 비교
+ *
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class JwtUtilThroughputTest {
+
+    private static final String SECRET = "hyfata-secret-key-for-jwt-token-min-32-characters-required-for-security";
+    private static final long EXPIRATION = 900000L;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private JwtUtil jwtUtil;
+    private UserDetails testUser;
+    private Set<String> scopes;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", EXPIRATION);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 604800000L);
+        jwtUtil.init();
+
+        testUser = User.builder()
+                .username("test@example.com")
+                .password("password")
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .build();
+        scopes = Set.of("profile", "email");
+    }
+
+    @Test
+    void signThroughput() {
+        double legacy = measure("sign (legacy)", i -> legacySign(testUser.getUsername(), "client_001", scopes));
+        double current = measure("sign (cached key)", i -> jwtUtil.generateAccessTokenWithJti(testUser, "client_001", scopes));
+
+        System.out.printf("sign speedup: %.2fx%n", current / legacy);
+        assertTrue(current > 0);
+    }
+
+    @Test
+    void verifyThroughput() {
+        String token = jwtUtil.generateAccessTokenWithJti(testUser, "client_001", scopes).token();
+        assertNotNull(legacyParse(token));
+
+        double legacy = measure("verify (legacy)", i -> legacyParse(token));
+        double current = measure("verify (cached parser)", i -> jwtUtil.parseToken(token));
+
+        System.out.printf("verify speedup: %.2fx%n", current / legacy);
+        assertTrue(current > 0);
+    }
+
+    /**
+     * 단일 스레드에서 측정하므로 결과가 곧 코어당 처리량
+     */
+    private double measure(String label, IntConsumer op) {
+        for (int i = 0; i < WARMUP; i++) {
+            op.accept(i);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            op.accept(i);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double opsPerSec = ITERATIONS / (elapsed / 1_000_000_000.0);
+        System.out.printf("%-24s %,12.0f ops/sec/core%n", label, opsPerSec);
+        return opsPerSec;
+    }
+
+    // ===== 변경 전 구현 (비교 기준) =====
+
+    private SecretKey legacySigningKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes());
+    }
+
+    private String legacySign(String email, String clientId, Set<String> scopes) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("email", email);
+        claims.put("jti", UUID.randomUUID().toString().replace("-", ""));
+        claims.put("client_id", clientId);
+        claims.put("scope", String.join(" ", scopes));
+
+        Date now = new Date();
+        return Jwts.builder()
+                .claims(claims)
+                .subject(email)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + EXPIRATION))
+                .signWith(legacySigningKey())
+                .compact();
+    }
+
+    private Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(legacySigningKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}